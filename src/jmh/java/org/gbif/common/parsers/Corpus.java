@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark input read from the classpath, either verbatim values collected from real data in the test resources or
+ * the first column of a parser dictionary.
+ */
+public final class Corpus {
+
+  /**
+   * Values no dictionary knows, mixed into dictionary corpora so that misses are measured too.
+   */
+  private static final String[] MISSES = {
+    "Atlantis", "unknown", "n/a", "12", "see remarks", "?", "Middle Earth", "xx"
+  };
+
+  private Corpus() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * @param resource classpath resource with one value per line, blank lines are skipped
+   */
+  static String[] lines(String resource) {
+    try (InputStream in = Corpus.class.getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IllegalArgumentException("Missing corpus " + resource);
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+      List<String> values = new ArrayList<>();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.trim().isEmpty()) {
+          values.add(line);
+        }
+      }
+      return values.toArray(new String[0]);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @param dictionary name of a tab separated file in /dictionaries/parse
+   *
+   * @return the keys of the dictionary followed by some unknown values
+   */
+  static String[] dictionaryKeys(String dictionary) {
+    List<String> values = new ArrayList<>();
+    for (String line : lines("/dictionaries/parse/" + dictionary)) {
+      if (!line.startsWith("#")) {
+        int tab = line.indexOf('\t');
+        values.add(tab < 0 ? line : line.substring(0, tab));
+      }
+    }
+    values.addAll(Arrays.asList(MISSES));
+    return values.toArray(new String[0]);
+  }
+
+  /**
+   * The position of a benchmark thread in a corpus, so each parse call takes the next value.
+   */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    String next(String[] values) {
+      String value = values[next];
+      next = next + 1 == values.length ? 0 : next + 1;
+      return value;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link NumberParser} on numbers as they appear in occurrence data: dot and comma decimals, grouping,
+ * exponents and the odd value that is not a number. The shared variants run on all cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NumberParserBenchmark {
+
+  private static final String[] VALUES = {
+    "12", "-33.8523", "151.2093", "1,5", "0.0001", "1.234,56", "1,234.56", "2500", "-0", "3e5", "  42 ", "7.",
+    "+18.25", "1 234", "abc", "12m", "", "NaN", "100000000000", "0,75"
+  };
+
+  @Benchmark
+  @Threads(1)
+  public Double parseDouble(Corpus.Cursor cursor) {
+    return NumberParser.parseDouble(cursor.next(VALUES));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Double parseDoubleShared(Corpus.Cursor cursor) {
+    return NumberParser.parseDouble(cursor.next(VALUES));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public double parsePrimitiveDouble(Corpus.Cursor cursor) {
+    return NumberParser.parseDouble(cursor.next(VALUES), Double.NaN);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Integer parseInteger(Corpus.Cursor cursor) {
+    return NumberParser.parseInteger(cursor.next(VALUES));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Integer parseIntegerShared(Corpus.Cursor cursor) {
+    return NumberParser.parseInteger(cursor.next(VALUES));
+  }
+}
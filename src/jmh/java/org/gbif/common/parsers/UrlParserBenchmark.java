@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link UrlParser} on the license URIs of the test resources and on dwc:associatedMedia like lists.
+ * The shared variants run on all cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UrlParserBenchmark {
+
+  private static final String[] MEDIA = {
+    "http://example.org/image.jpg",
+    "http://example.org/image1.jpg | http://example.org/image2.jpg",
+    "http://example.org/a.jpg, http://example.org/b.jpg; http://example.org/c.jpg",
+    "www.example.org/specimens/123.png",
+    "https://example.org/imageServer?img=test.jpg",
+    "not a url",
+    ""
+  };
+
+  private String[] uris;
+
+  @Setup
+  public void setup() {
+    uris = Corpus.lines("/parse/license_uri.txt");
+  }
+
+  @Benchmark
+  @Threads(1)
+  public URI parse(Corpus.Cursor cursor) {
+    return UrlParser.parse(cursor.next(uris));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public URI parseShared(Corpus.Cursor cursor) {
+    return UrlParser.parse(cursor.next(uris));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public List<URI> parseUriList(Corpus.Cursor cursor) {
+    return UrlParser.parseUriList(cursor.next(MEDIA));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public List<URI> parseUriListShared(Corpus.Cursor cursor) {
+    return UrlParser.parseUriList(cursor.next(MEDIA));
+  }
+}
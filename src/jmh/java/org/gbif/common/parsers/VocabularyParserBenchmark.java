@@ -0,0 +1,175 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import org.gbif.common.parsers.core.Parsable;
+import org.gbif.common.parsers.geospatial.DatumParser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of every dictionary backed vocabulary parser, each on a corpus of verbatim values. Parsers with a corpus
+ * collected from real data in the test resources use it, the others parse the keys of their own dictionary and some
+ * unknown values.
+ * <p>
+ * {@code parse} runs on a single thread, {@code parseShared} on all cores sharing the parser singleton.
+ * Add {@code -prof gc} to see the allocation rate, e.g.
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="VocabularyParserBenchmark -p parser=Country -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VocabularyParserBenchmark {
+
+  @Param({
+    "BasisOfRecord", "Boolean", "CitesAppendix", "Continent", "Country", "Datum", "DistributionStatus",
+    "EstablishmentMeans", "Habitat", "Kingdom", "Language", "License", "LicenseUri", "LifeStage",
+    "MaintenanceUpdateFrequency", "MediaType", "NomCode", "NomStatus", "OccurrenceStatus", "Rank", "Sex", "TaxStatus",
+    "ThreatStatus", "TypeStatus"
+  })
+  public String parser;
+
+  private Parsable<?> instance;
+  private String[] values;
+
+  @Setup
+  public void setup() {
+    switch (parser) {
+      case "BasisOfRecord":
+        instance = BasisOfRecordParser.getInstance();
+        values = Corpus.lines("/parse/basisofrecord/test_bor.txt");
+        break;
+      case "Boolean":
+        instance = BooleanParser.getInstance();
+        values = Corpus.dictionaryKeys("boolean.tsv");
+        break;
+      case "CitesAppendix":
+        instance = CitesAppendixParser.getInstance();
+        values = Corpus.dictionaryKeys("cites.tsv");
+        break;
+      case "Continent":
+        instance = ContinentParser.getInstance();
+        values = Corpus.dictionaryKeys("continents.tsv");
+        break;
+      case "Country":
+        instance = CountryParser.getInstance();
+        values = Corpus.lines("/parse/countryname/occurrence_countries.txt");
+        break;
+      case "Datum":
+        instance = DatumParser.getInstance();
+        values = Corpus.lines("/parse/test_datum.txt");
+        break;
+      case "DistributionStatus":
+        instance = DistributionStatusParser.getInstance();
+        values = Corpus.dictionaryKeys("distribution_status.tsv");
+        break;
+      case "EstablishmentMeans":
+        instance = EstablishmentMeansParser.getInstance();
+        values = Corpus.dictionaryKeys("establishment_means.tsv");
+        break;
+      case "Habitat":
+        instance = HabitatParser.getInstance();
+        values = Corpus.dictionaryKeys("habitat.tsv");
+        break;
+      case "Kingdom":
+        instance = KingdomParser.getInstance();
+        values = Corpus.dictionaryKeys("kingdoms.tsv");
+        break;
+      case "Language":
+        instance = LanguageParser.getInstance();
+        values = Corpus.dictionaryKeys("language.tsv");
+        break;
+      case "License":
+        instance = LicenseParser.getInstance();
+        values = Corpus.dictionaryKeys("license.tsv");
+        break;
+      case "LicenseUri":
+        instance = LicenseUriParser.getInstance();
+        values = Corpus.lines("/parse/license_uri.txt");
+        break;
+      case "LifeStage":
+        instance = LifeStageParser.getInstance();
+        values = Corpus.dictionaryKeys("life_stage.tsv");
+        break;
+      case "MaintenanceUpdateFrequency":
+        instance = MaintenanceUpdateFrequencyParser.getInstance();
+        values = Corpus.dictionaryKeys("maintenanceUpdateFrequency.tsv");
+        break;
+      case "MediaType":
+        instance = MediaTypeParser.getInstance();
+        values = Corpus.dictionaryKeys("media_type.tsv");
+        break;
+      case "NomCode":
+        instance = NomCodeParser.getInstance();
+        values = Corpus.dictionaryKeys("nomCode.tsv");
+        break;
+      case "NomStatus":
+        instance = NomStatusParser.getInstance();
+        values = Corpus.lines("/parse/nom_status.txt");
+        break;
+      case "OccurrenceStatus":
+        instance = OccurrenceStatusParser.getInstance();
+        values = Corpus.dictionaryKeys("occurrence_status.tsv");
+        break;
+      case "Rank":
+        instance = RankParser.getInstance();
+        values = Corpus.dictionaryKeys("rank.tsv");
+        break;
+      case "Sex":
+        instance = SexParser.getInstance();
+        values = Corpus.lines("/parse/sexes.txt");
+        break;
+      case "TaxStatus":
+        instance = TaxStatusParser.getInstance();
+        values = Corpus.dictionaryKeys("taxStatus.tsv");
+        break;
+      case "ThreatStatus":
+        instance = ThreatStatusParser.getInstance();
+        values = Corpus.dictionaryKeys("threat_status.tsv");
+        break;
+      case "TypeStatus":
+        instance = TypeStatusParser.getInstance();
+        values = Corpus.dictionaryKeys("typeStatus.tsv");
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown parser " + parser);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object parse(Corpus.Cursor cursor) {
+    return instance.parse(cursor.next(values));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object parseShared(Corpus.Cursor cursor) {
+    return instance.parse(cursor.next(values));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Folding throughput of {@link ASCIIParser} on pure ASCII input, the vast majority of real data, and on input where
+ * every value contains accented Latin characters. {@code parseShared} runs the same on all cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ASCIIParserBenchmark {
+
+  private static final String[] ASCII = {
+    "Germany", "Preserved specimen", "HUMAN_OBSERVATION", "Holotype", "adult", "female", "Mexico", "Cote d'Ivoire",
+    "Sao Tome and Principe", "United Kingdom of Great Britain and Northern Ireland", "species", "CC-BY 4.0",
+    "http://creativecommons.org/licenses/by/4.0/legalcode", "introduced", "WGS84", "Marine", "present", "juvenile"
+  };
+
+  private static final String[] LATIN = {
+    "Deutschland (Bundesrepublik)", "México", "Côte d'Ivoire", "São Tomé e Príncipe", "Österreich", "Česká republika",
+    "Ísland", "Łódź, Polska", "Düsseldorf", "Ñuñoa", "Bértöçkø", "Espécimen preservado", "Holótipo", "fêmea",
+    "Réunion", "Curaçao", "Åland", "Türkiye"
+  };
+
+  @Param({"ascii", "latin"})
+  public String corpus;
+
+  private String[] values;
+
+  @Setup
+  public void setup() {
+    values = "latin".equals(corpus) ? LATIN : ASCII;
+  }
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(18)
+  public void parse(Blackhole bh) {
+    parseAll(bh);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  @OperationsPerInvocation(18)
+  public void parseShared(Blackhole bh) {
+    parseAll(bh);
+  }
+
+  private void parseAll(Blackhole bh) {
+    ASCIIParser parser = ASCIIParser.getInstance();
+    for (String v : values) {
+      bh.consume(parser.parse(v));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.common.parsers.CountryParser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dictionary lookups of country values, half of them known. Run with {@code -prof gc} to see that parsing allocates
+ * nothing, while only building the normalised String already does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DictionaryLookupBenchmark {
+
+  private static final String[] VALUES = {
+    "Germany", "DE", "Deutschland", "méxico", "off Australia", "United Kingdom", "Côte d'Ivoire", "ISO 3166-1:DK",
+    "Atlantis", "Middle Earth", "Unknown place", "Sea", "xx", "Narnia", "near the lake", "Holotype"
+  };
+
+  private final CountryParser parser = CountryParser.getInstance();
+
+  @Benchmark
+  @OperationsPerInvocation(16)
+  public void parse(Blackhole bh) {
+    for (String v : VALUES) {
+      bh.consume(parser.parse(v));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(16)
+  public void normalizeOnly(Blackhole bh) {
+    for (String v : VALUES) {
+      bh.consume(parser.normalize(v));
+    }
+  }
+}
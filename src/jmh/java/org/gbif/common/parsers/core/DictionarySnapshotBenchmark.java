@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.common.parsers.CountryParser;
+import org.gbif.common.parsers.LanguageParser;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup cost of the two largest enum parsers, built from their {@link DictionarySnapshot} or from their sources.
+ * Each fork builds them once in a fresh JVM, as an application does on startup. The snapshots are written by the
+ * process-classes phase, so run it after at least that phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class DictionarySnapshotBenchmark {
+
+  @Param({"true", "false"})
+  public String snapshots;
+
+  private Constructor<LanguageParser> language;
+  private Constructor<CountryParser> country;
+
+  @Setup
+  public void setup() throws Exception {
+    System.setProperty(DictionarySnapshot.PROPERTY, snapshots);
+    language = LanguageParser.class.getDeclaredConstructor();
+    language.setAccessible(true);
+    country = CountryParser.class.getDeclaredConstructor();
+    country.setAccessible(true);
+  }
+
+  @Benchmark
+  public Object[] build() throws Exception {
+    // parse once, as the dictionary is only frozen on first use
+    return new Object[] {language.newInstance().parse("de"), country.newInstance().parse("de")};
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Fuzzy lookups of misspelt country names in the full country dictionary of about 10k keys. The values are mapped to
+ * their ISO codes as Strings, so the dictionary has its real size independent of the Country enum.
+ * {@code exactMiss} is the cost of the failing exact lookup preceding every fuzzy one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FuzzyLookupBenchmark {
+
+  private static final String[] ONE_EDIT = {
+    "Germnay", "Frnace", "Australai", "Brazli", "Argentin", "Nethrelands", "Swedne", "Madagascra"
+  };
+
+  private static final String[] TWO_EDITS = {
+    "Gremnany", "Untied Kingdon", "Phlipines", "Kazkahstan", "Mozanbiqeu", "Vnezeula", "Astrailia", "Colmubai"
+  };
+
+  private static final String[] NO_MATCH = {
+    "Atlantis", "Middle Earth", "Unknown place", "near the lake", "Holotype", "Narnia", "Preserved", "Sea shore"
+  };
+
+  private DictionaryBackedParser<String> parser;
+
+  @Setup
+  public void setup() {
+    parser = new FileBasedDictionaryParser<String>(false) {
+      {
+        InputStream in = FuzzyLookupBenchmark.class.getResourceAsStream("/dictionaries/parse/countryName.tsv");
+        init(in);
+      }
+
+      @Override
+      protected String fromDictFile(String value) {
+        return value;
+      }
+    };
+    // build the index before measuring
+    parser.parseFuzzy("Germnay");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(8)
+  public void exactMiss(Blackhole bh) {
+    for (String v : ONE_EDIT) {
+      bh.consume(parser.parse(v));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(8)
+  public void oneEdit(Blackhole bh) {
+    for (String v : ONE_EDIT) {
+      bh.consume(parser.parseFuzzy(v));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(8)
+  public void twoEdits(Blackhole bh) {
+    for (String v : TWO_EDITS) {
+      bh.consume(parser.parseFuzzy(v));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(8)
+  public void noMatch(Blackhole bh) {
+    for (String v : NO_MATCH) {
+      bh.consume(parser.parseFuzzy(v));
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.common.parsers.CountryParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a million country values with {@link Parsers#parallelParse(java.util.stream.Stream, Parsable, boolean)} in
+ * a pool of the given parallelism, to see how it scales with the number of cores. Parallelism beyond the cores of the
+ * machine only shows the overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParallelParseBenchmark {
+
+  private static final String[] VALUES = {
+    "Germany", "DE", "Deutschland", "méxico", "off Australia", "United Kingdom", "Côte d'Ivoire", "ISO 3166-1:DK",
+    "Atlantis", "Middle Earth", "Unknown place", "Sea", "xx", "Narnia", "near the lake", "Holotype"
+  };
+
+  @Param({"1", "2", "4", "8", "16", "32", "64"})
+  public int parallelism;
+
+  @Param({"true", "false"})
+  public boolean ordered;
+
+  private final CountryParser parser = CountryParser.getInstance();
+  private final List<String> inputs = new ArrayList<>();
+  private ForkJoinPool pool;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    for (int i = 0; i < 1_000_000; i++) {
+      // mostly repeated values with a tail of distinct ones, like a real column
+      inputs.add(i % 10 == 0 ? VALUES[i % VALUES.length] + " " + (i % 5000) : VALUES[i % VALUES.length]);
+    }
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public long parallelParse() throws ExecutionException, InterruptedException {
+    return pool.submit(() -> Parsers.parallelParse(inputs.stream(), parser, ordered)
+      .filter(ParseResult::isSuccessful)
+      .count()).get();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.common.parsers.BooleanParser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of obtaining a parser singleton, the way every caller does it before parsing a single value.
+ * Run it with increasing thread counts ({@code -t 1}, {@code -t 4}, {@code -t 16}, ...) to see how each access path
+ * scales: the holder based getInstance() and the registry stay flat, the synchronized baseline does not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserRegistryBenchmark {
+
+  private static BooleanParser synchronizedSingleton = null;
+
+  /**
+   * The lazy, synchronized singleton access all parsers used before.
+   */
+  private static BooleanParser synchronizedGetInstance() {
+    synchronized (ParserRegistryBenchmark.class) {
+      if (synchronizedSingleton == null) {
+        synchronizedSingleton = BooleanParser.getInstance();
+      }
+    }
+    return synchronizedSingleton;
+  }
+
+  @Benchmark
+  public Object synchronizedSingleton() {
+    return synchronizedGetInstance();
+  }
+
+  @Benchmark
+  public Object holderSingleton() {
+    return BooleanParser.getInstance();
+  }
+
+  @Benchmark
+  public Object registryLookup() {
+    return ParserRegistry.lookup(Boolean.class);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.geospatial;
+
+import org.gbif.common.parsers.core.DoubleParseResult;
+import org.gbif.common.parsers.core.OccurrenceParseResult;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boxed and primitive results of {@link MeterRangeParser} and {@link CoordinateParseUtils}, best run with -prof gc to
+ * compare the allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GeospatialParserBenchmark {
+
+  private static final String[] ELEVATIONS = {
+    "10", "1200", "-35.5", "3280ft", "1000m", "250", "12,5", "4061987", "0", "845"
+  };
+
+  private static final String[] LATITUDES = {
+    "-33.8523", "51.5074", "2.123450678", "0", "48,8566", "-12.04", "100", "40.7128", "abc", "55.75"
+  };
+
+  private static final String[] LONGITUDES = {
+    "151.2093", "-0.1278", "-8.123450678", "0", "2,3522", "-77.03", "40", "-74.006", "def", "37.62"
+  };
+
+  private int next;
+
+  @Benchmark
+  public OccurrenceParseResult<DoubleAccuracy> parseElevation() {
+    return MeterRangeParser.parseElevation(ELEVATIONS[next()], null, null);
+  }
+
+  @Benchmark
+  public DoubleParseResult parseElevationValue() {
+    return MeterRangeParser.parseElevationValue(ELEVATIONS[next()], null, null);
+  }
+
+  @Benchmark
+  public OccurrenceParseResult<LatLng> parseLatLng() {
+    final int i = next();
+    return CoordinateParseUtils.parseLatLng(LATITUDES[i], LONGITUDES[i]);
+  }
+
+  @Benchmark
+  public LatLngParseResult parseLatLngValue() {
+    final int i = next();
+    return CoordinateParseUtils.parseLatLngValue(LATITUDES[i], LONGITUDES[i]);
+  }
+
+  // all value arrays have the same length
+  private int next() {
+    final int i = next;
+    next = i + 1 == ELEVATIONS.length ? 0 : i + 1;
+    return i;
+  }
+}
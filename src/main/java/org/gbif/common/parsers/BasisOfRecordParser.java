@@ -15,17 +15,19 @@ package org.gbif.common.parsers;
 
 import org.gbif.api.vocabulary.BasisOfRecord;
 import org.gbif.common.parsers.core.EnumParser;
+import org.gbif.common.parsers.core.FuzzyParseResult;
 import org.gbif.common.parsers.core.ParseResult;
 
 import java.io.InputStream;
-import java.util.Optional;
 
 /**
  * Singleton implementation of the dictionary that uses the file /dictionaries/parse/basisOfRecord.txt.
  */
 public class BasisOfRecordParser extends EnumParser<BasisOfRecord> {
 
-  private static BasisOfRecordParser singletonObject = null;
+  private static class Holder {
+    private static final BasisOfRecordParser INSTANCE = new BasisOfRecordParser(BasisOfRecordParser.class.getResourceAsStream("/dictionaries/parse/basisOfRecord.tsv"));
+  }
 
   private BasisOfRecordParser(InputStream... file) {
     super(BasisOfRecord.class, false, file);
@@ -44,20 +46,40 @@ public class BasisOfRecordParser extends EnumParser<BasisOfRecord> {
 
   public static BasisOfRecordParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (BasisOfRecordParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new BasisOfRecordParser(BasisOfRecordParser.class.getResourceAsStream("/dictionaries/parse/basisOfRecord.tsv"));
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
+  }
+
+  @Override
+  protected boolean overridesParse() {
+    return true;
+  }
+
+  @Override
+  protected boolean overridesParseFuzzy() {
+    return true;
   }
 
   @Override
   public ParseResult<BasisOfRecord> parse(String input) {
     ParseResult<BasisOfRecord> result = super.parse(input);
-    Optional<BasisOfRecord> mappedValue = Optional.ofNullable(result.getPayload()).map(BasisOfRecordParser::getMappedValue);
-    if (result.isSuccessful() && mappedValue.isPresent()) {
-      return ParseResult.success(result.getConfidence(), mappedValue.get());
+    BasisOfRecord mappedValue = result.isSuccessful() ? getMappedValue(result.getPayload()) : null;
+    if (mappedValue != null) {
+      return result.getConfidence() == ParseResult.CONFIDENCE.DEFINITE ?
+        success(mappedValue) : ParseResult.success(result.getConfidence(), mappedValue);
+    }
+    return result;
+  }
+
+  @Override
+  public ParseResult<BasisOfRecord> parseFuzzy(String input) {
+    ParseResult<BasisOfRecord> result = super.parseFuzzy(input);
+    if (result instanceof FuzzyParseResult) {
+      BasisOfRecord mappedValue = getMappedValue(result.getPayload());
+      if (mappedValue != null) {
+        FuzzyParseResult<BasisOfRecord> fuzzy = (FuzzyParseResult<BasisOfRecord>) result;
+        return new FuzzyParseResult<>(fuzzy.getConfidence(), mappedValue, fuzzy.getMatchedKey(),
+          fuzzy.getEditDistance());
+      }
     }
     return result;
   }
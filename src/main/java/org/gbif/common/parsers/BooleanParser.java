@@ -20,7 +20,9 @@ import org.gbif.common.parsers.core.FileBasedDictionaryParser;
  */
 public class BooleanParser extends FileBasedDictionaryParser<Boolean> {
 
-  private static BooleanParser singletonObject = null;
+  private static class Holder {
+    private static final BooleanParser INSTANCE = new BooleanParser();
+  }
 
   private BooleanParser() {
     super(false);
@@ -29,12 +31,7 @@ public class BooleanParser extends FileBasedDictionaryParser<Boolean> {
   }
 
   public static BooleanParser getInstance() {
-    synchronized (BooleanParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new BooleanParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
   @Override
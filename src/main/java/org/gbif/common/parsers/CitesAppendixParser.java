@@ -18,7 +18,9 @@ import org.gbif.common.parsers.core.EnumParser;
 
 public class CitesAppendixParser extends EnumParser<CitesAppendix> {
 
-  private static CitesAppendixParser singletonObject = null;
+  private static class Holder {
+    private static final CitesAppendixParser INSTANCE = new CitesAppendixParser();
+  }
 
   private CitesAppendixParser() {
     super(CitesAppendix.class, true);
@@ -31,12 +33,7 @@ public class CitesAppendixParser extends EnumParser<CitesAppendix> {
   }
 
   public static CitesAppendixParser getInstance() {
-    synchronized (CitesAppendixParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new CitesAppendixParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 }
@@ -21,7 +21,9 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class ContinentParser extends EnumParser<Continent> {
 
-  private static ContinentParser singletonObject = null;
+  private static class Holder {
+    private static final ContinentParser INSTANCE = new ContinentParser();
+  }
 
   private ContinentParser() {
     super(Continent.class, false);
@@ -35,12 +37,7 @@ public class ContinentParser extends EnumParser<Continent> {
   }
 
   public static ContinentParser getInstance() {
-    synchronized (ContinentParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new ContinentParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 }
@@ -16,24 +16,35 @@ package org.gbif.common.parsers;
 import org.gbif.api.util.VocabularyUtils;
 import org.gbif.api.vocabulary.Country;
 import org.gbif.common.parsers.core.EnumParser;
+import org.gbif.common.parsers.core.StringNormalizer;
 
 import java.util.regex.Pattern;
 
-import org.apache.commons.lang3.StringUtils;
-
 /**
  * Singleton implementation of the dictionary that uses the file /dictionaries/parse/countryName.txt.
  */
 public class CountryParser extends EnumParser<Country> {
 
-  private static CountryParser singletonObject = null;
+  private static class Holder {
+    private static final CountryParser INSTANCE = new CountryParser();
+  }
 
-  // "off Australia"
-  private static final Pattern REMOVE_OFF_PATTERN = Pattern.compile("off ", Pattern.CASE_INSENSITIVE);
   private static final Pattern REMOVE_ISO3166_PATTERN = Pattern.compile("\\b(ISO.?3166.?[123]?:?)", Pattern.CASE_INSENSITIVE);
+  private static final StringNormalizer NORMALIZER = StringNormalizer.builder()
+      .nullIf(NOT_AVAILABLE)
+      .removeAll(REMOVE_ISO3166_PATTERN, "3166")
+      .keepLetters()
+      .keepWhitespace()
+      // "off Australia"
+      .removeFirst("off ")
+      .foldToAscii()
+      .keepAlphabetic()
+      .upperCase()
+      .build();
 
   private CountryParser() {
-    super(Country.class, false);
+    // by far the largest dictionary, the trie shares the many common prefixes of country names
+    super(Country.class, false, Storage.TRIE);
     // also make sure we have all official iso countries mapped
     for (Country c : Country.OFFICIAL_COUNTRIES) {
       add(c.name(), c);
@@ -47,28 +58,18 @@ public class CountryParser extends EnumParser<Country> {
     add(Country.KOSOVO.getIso2LetterCode(), Country.KOSOVO);
     add(Country.KOSOVO.getIso3LetterCode(), Country.KOSOVO);
     // use dict file last
-    init(CountryParser.class.getResourceAsStream("/dictionaries/parse/countryName.tsv"));
+    init(CountryParser.class.getResourceAsStream("/dictionaries/parse/countryName.tsv"), "#");
   }
 
   @Override
-  protected String normalize(String value) {
-    value = handleNotAvailable(value);
-    if (value != null) {
-      String cleanedCountry = REMOVE_ISO3166_PATTERN.matcher(value).replaceAll("");
-      // step 1: remove all non-letter and not-whitespace characters
-      cleanedCountry = cleanedCountry.chars()
-          .filter(p -> Character.isLetter((char) p) || Character.isWhitespace(p))
-          .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-          .toString();
-      // step 2: remove 'off '
-      cleanedCountry = REMOVE_OFF_PATTERN.matcher(cleanedCountry).replaceFirst("");
-      // step 3: normalize whitespaces
-      cleanedCountry = StringUtils.normalizeSpace(cleanedCountry);
-      // step 4: trim to null
-      cleanedCountry = StringUtils.trimToNull(cleanedCountry);
-      return super.normalize(cleanedCountry);
-    }
-    return null;
+  protected StringNormalizer normalizer() {
+    return NORMALIZER;
+  }
+
+  // country fields often hold localities or codes of other vocabularies, which are rejected before normalising
+  @Override
+  protected boolean filterMisses() {
+    return true;
   }
 
   @Override
@@ -84,11 +85,6 @@ public class CountryParser extends EnumParser<Country> {
   }
 
   public static CountryParser getInstance() {
-    synchronized (CountryParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new CountryParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 }
@@ -21,7 +21,9 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class DistributionStatusParser extends EnumParser<DistributionStatus> {
 
-  private static DistributionStatusParser singletonObject = null;
+  private static class Holder {
+    private static final DistributionStatusParser INSTANCE = new DistributionStatusParser();
+  }
 
   private DistributionStatusParser() {
     super(DistributionStatus.class, false);
@@ -30,16 +32,11 @@ public class DistributionStatusParser extends EnumParser<DistributionStatus> {
       add(c.name(), c);
     }
     // use dict file last
-    init(DistributionStatusParser.class.getResourceAsStream("/dictionaries/parse/distribution_status.tsv"));
+    init(DistributionStatusParser.class.getResourceAsStream("/dictionaries/parse/distribution_status.tsv"), "#");
   }
 
   public static DistributionStatusParser getInstance() {
-    synchronized (DistributionStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new DistributionStatusParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 }
@@ -22,7 +22,9 @@ import org.gbif.common.parsers.core.EnumParser;
 @Deprecated
 public class EstablishmentMeansParser extends EnumParser<EstablishmentMeans> {
 
-  private static EstablishmentMeansParser singletonObject = null;
+  private static class Holder {
+    private static final EstablishmentMeansParser INSTANCE = new EstablishmentMeansParser();
+  }
 
   private EstablishmentMeansParser() {
     super(EstablishmentMeans.class, false);
@@ -35,12 +37,7 @@ public class EstablishmentMeansParser extends EnumParser<EstablishmentMeans> {
   }
 
   public static EstablishmentMeansParser getInstance() {
-    synchronized (EstablishmentMeansParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new EstablishmentMeansParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 }
@@ -15,38 +15,36 @@ package org.gbif.common.parsers;
 
 import org.gbif.api.vocabulary.Habitat;
 import org.gbif.common.parsers.core.EnumParser;
+import org.gbif.common.parsers.core.StringNormalizer;
 
 /**
  * Singleton implementation of the dictionary that uses the file /dictionaries/parse/habitat.txt.
  */
 public class HabitatParser extends EnumParser<Habitat> {
 
-  private static HabitatParser singletonObject = null;
+  private static class Holder {
+    private static final HabitatParser INSTANCE = new HabitatParser();
+  }
+
+  // strips off any S at the end often found in english plurals
+  private static final StringNormalizer NORMALIZER = enumNormalizer(false).dropTrailing('S').build();
 
   private HabitatParser() {
     super(Habitat.class, false, HabitatParser.class.getResourceAsStream("/dictionaries/parse/habitat.tsv"));
   }
 
   public static HabitatParser getInstance() {
-    synchronized (HabitatParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new HabitatParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
+  }
+
+  @Override
+  protected StringNormalizer normalizer() {
+    return NORMALIZER;
   }
 
-  /**
-   * Strip of any s at the end often found in english plurals
-   */
+  // most habitat descriptions are free text which is not in the dictionary
   @Override
-  protected String normalize(String value) {
-    String x = super.normalize(value);
-    if (x != null && x.length() > 1) {
-      if (x.endsWith("S")) {
-        return x.substring(0, x.length()-1);
-      }
-    }
-    return x;
+  protected boolean filterMisses() {
+    return true;
   }
 }
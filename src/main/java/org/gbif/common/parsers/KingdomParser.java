@@ -17,7 +17,9 @@ import org.gbif.api.vocabulary.Kingdom;
 import org.gbif.common.parsers.core.EnumParser;
 
 public class KingdomParser extends EnumParser<Kingdom> {
-    private static KingdomParser singletonObject = null;
+    private static class Holder {
+        private static final KingdomParser INSTANCE = new KingdomParser();
+    }
 
     private KingdomParser() {
         super(Kingdom.class, false);
@@ -30,11 +32,6 @@ public class KingdomParser extends EnumParser<Kingdom> {
     }
 
     public static KingdomParser getInstance() {
-        synchronized (KingdomParser.class) {
-            if (singletonObject == null) {
-                singletonObject = new KingdomParser();
-            }
-        }
-        return singletonObject;
+        return Holder.INSTANCE;
     }
 }
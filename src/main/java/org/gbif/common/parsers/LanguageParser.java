@@ -36,7 +36,9 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class LanguageParser extends EnumParser<Language> {
 
-  private static LanguageParser singletonObject = null;
+  private static class Holder {
+    private static final LanguageParser INSTANCE = new LanguageParser();
+  }
   private static final Pattern LOCALE = Pattern.compile("^[a-zA-Z]{2,3}[_-][a-zA-Z0-9]");
   private static final List<Pattern> REMOVE_FROM_NAME_PATTERNS = Arrays.asList(
       // remove brackets
@@ -50,6 +52,10 @@ public class LanguageParser extends EnumParser<Language> {
 
   private LanguageParser() {
     super(Language.class, false, LanguageParser.class.getResourceAsStream("/dictionaries/parse/language.tsv"));
+    if (isFromSnapshot()) {
+      // all locales and ISO 639 lists are part of it already
+      return;
+    }
 
     // make sure we have all enum values mapped
     for (Language r : Language.values()) {
@@ -161,6 +167,11 @@ public class LanguageParser extends EnumParser<Language> {
     return langs;
   }
 
+  @Override
+  protected boolean overridesNormalize() {
+    return true;
+  }
+
   @Override
   protected String normalize(String value) {
     if (value != null) {
@@ -189,11 +200,6 @@ public class LanguageParser extends EnumParser<Language> {
   }
 
   public static LanguageParser getInstance() {
-    synchronized (LanguageParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new LanguageParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 }
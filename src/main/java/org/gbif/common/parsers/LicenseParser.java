@@ -16,9 +16,9 @@ package org.gbif.common.parsers;
 import org.gbif.api.vocabulary.License;
 import org.gbif.common.parsers.core.EnumParser;
 import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.StringNormalizer;
 
 import java.net.URI;
-import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
@@ -39,9 +39,11 @@ public class LicenseParser extends EnumParser<License> {
 
   private static final String COMMENT_MARKER = "#";
   private static final String LICENSE_FILEPATH = "/dictionaries/parse/license.tsv";
-  //allows us to remove the protocol part for http:// and https://
-  private static final Pattern REMOVE_HTTP_PATTERN = Pattern.compile("^https?:\\/\\/", Pattern.CASE_INSENSITIVE);
-  private static LicenseParser singletonObject = null;
+  // removes the protocol part of http:// and https:// URLs
+  private static final StringNormalizer NORMALIZER = enumNormalizer(true).stripPrefix("http://", "https://").build();
+  private static class Holder {
+    private static final LicenseParser INSTANCE = new LicenseParser();
+  }
 
   private LicenseParser() {
     super(License.class, true);
@@ -56,20 +58,12 @@ public class LicenseParser extends EnumParser<License> {
   }
 
   @Override
-  protected String normalize(String value) {
-    if(value == null){
-      return null;
-    }
-    return super.normalize(REMOVE_HTTP_PATTERN.matcher(value).replaceAll(""));
+  protected StringNormalizer normalizer() {
+    return NORMALIZER;
   }
 
   public static LicenseParser getInstance() {
-    synchronized (ContinentParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new LicenseParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
   /**
@@ -88,14 +82,14 @@ public class LicenseParser extends EnumParser<License> {
     }
 
     if (uri != null) {
-      ParseResult<License> result = singletonObject.parse(uri.toString());
+      ParseResult<License> result = parse(uri.toString());
       if (result.isSuccessful()) {
         return result.getPayload();
       }
     }
 
     if (StringUtils.isNotEmpty(title)) {
-      ParseResult<License> result = singletonObject.parse(title);
+      ParseResult<License> result = parse(title);
       if (result.isSuccessful()) {
         return result.getPayload();
       }
@@ -14,16 +14,12 @@
 package org.gbif.common.parsers;
 
 import org.gbif.api.vocabulary.License;
-import org.gbif.common.parsers.core.ASCIIParser;
 import org.gbif.common.parsers.core.FileBasedDictionaryParser;
 import org.gbif.common.parsers.core.KeyValue;
-import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.StringNormalizer;
 
 import java.net.URI;
 import java.util.Iterator;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * A license parser giving URIs, compared to {@link License} which is for our GBIF enumeration.
@@ -38,17 +34,29 @@ public class LicenseUriParser extends FileBasedDictionaryParser<URI> {
 
   private static final String COMMENT_MARKER = "#";
   private static final String LICENSE_FILEPATH = "/dictionaries/parse/license_uri.tsv";
-  // allows us to remove the protocol part for http:// and https://
-  private static final Pattern REMOVE_HTTP_PATTERN = Pattern.compile("^https?:\\/\\/", Pattern.CASE_INSENSITIVE);
-  private static final Pattern NORMALIZER = Pattern.compile("[^\\p{IsAlphabetic}\\p{N}©]+");
-  protected final ASCIIParser asciiParser = ASCIIParser.getInstance();
-  private static LicenseUriParser singletonObject = null;
+  // drops the protocol part of http:// and https:// URLs and keeps only letters, digits and ©
+  private static final StringNormalizer NORMALIZER = StringNormalizer.builder()
+      .stripPrefix("http://", "https://")
+      .foldToAscii()
+      .keepAlphabetic()
+      .keepNumbers()
+      .keepChars("©")
+      .upperCase()
+      .build();
+  private static class Holder {
+    private static final LicenseUriParser INSTANCE = new LicenseUriParser();
+  }
 
   private LicenseUriParser() {
     super(false);
     init(LicenseUriParser.class.getResourceAsStream(LICENSE_FILEPATH), COMMENT_MARKER);
   }
 
+  @Override
+  protected boolean overridesInit() {
+    return true;
+  }
+
   /**
    * @param source To build the dictionary from
    */
@@ -63,22 +71,12 @@ public class LicenseUriParser extends FileBasedDictionaryParser<URI> {
   }
 
   @Override
-  protected String normalize(String value) {
-    if (StringUtils.isEmpty(value)) {
-      return null;
-    }
-    ParseResult<String> ascii = asciiParser.parse(value);
-    String noHttp = REMOVE_HTTP_PATTERN.matcher(ascii.getPayload()).replaceAll("").toLowerCase();
-    return super.normalize(NORMALIZER.matcher(noHttp).replaceAll(""));
+  protected StringNormalizer normalizer() {
+    return NORMALIZER;
   }
 
   public static LicenseUriParser getInstance() {
-    synchronized (LicenseUriParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new LicenseUriParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
   @Override
@@ -24,7 +24,9 @@ import org.gbif.common.parsers.core.EnumParser;
 @Deprecated
 public class LifeStageParser extends EnumParser<LifeStage> {
 
-  private static LifeStageParser singletonObject = null;
+  private static class Holder {
+    private static final LifeStageParser INSTANCE = new LifeStageParser();
+  }
 
   private LifeStageParser() {
     super(LifeStage.class, false);
@@ -37,12 +39,12 @@ public class LifeStageParser extends EnumParser<LifeStage> {
   }
 
   public static LifeStageParser getInstance() {
-    synchronized (LifeStageParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new LifeStageParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
+  // life stages are often given as free text, e.g. with counts or sexes, which is not in the dictionary
+  @Override
+  protected boolean filterMisses() {
+    return true;
+  }
 }
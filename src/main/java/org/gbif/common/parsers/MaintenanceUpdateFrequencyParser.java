@@ -21,7 +21,9 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class MaintenanceUpdateFrequencyParser extends EnumParser<MaintenanceUpdateFrequency> {
 
-  private static MaintenanceUpdateFrequencyParser singletonObject = null;
+  private static class Holder {
+    private static final MaintenanceUpdateFrequencyParser INSTANCE = new MaintenanceUpdateFrequencyParser();
+  }
 
   private MaintenanceUpdateFrequencyParser() {
     super(MaintenanceUpdateFrequency.class, false);
@@ -35,11 +37,6 @@ public class MaintenanceUpdateFrequencyParser extends EnumParser<MaintenanceUpda
   }
 
   public static MaintenanceUpdateFrequencyParser getInstance() {
-    synchronized (MaintenanceUpdateFrequencyParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new MaintenanceUpdateFrequencyParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 }
@@ -15,7 +15,11 @@ package org.gbif.common.parsers;
 
 import org.gbif.api.model.common.MediaObject;
 import org.gbif.api.vocabulary.MediaType;
+import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.ParserMetrics;
+import org.gbif.common.parsers.core.ParserMetricsRegistry;
 
+import java.io.Serializable;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
@@ -36,11 +40,15 @@ import org.apache.tika.mime.MimeTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class MediaParser {
+public class MediaParser implements Serializable {
+
+  private static final long serialVersionUID = 1L;
   private static final Logger LOG = LoggerFactory.getLogger(MediaParser.class);
   private static final Tika TIKA = new Tika();
   private static final MimeTypes MIME_TYPES = MimeTypes.getDefaultMimeTypes();
   private static final String HTML_TYPE = "text/html";
+  private static final ParserMetrics.Recorder MIME_TYPE_METRICS =
+    ParserMetricsRegistry.recorder("MediaParser.parseMimeType");
   // MIME types which we consider as HTML links instead of real media file URIs
   private static final Set<String> HTML_MIME_TYPES = Collections.unmodifiableSet(
       new HashSet<>(
@@ -66,15 +74,17 @@ public class MediaParser {
     mediaTypeRegistry.addAlias(org.apache.tika.mime.MediaType.audio("mpeg"), org.apache.tika.mime.MediaType.audio("mpeg3"));
   }
 
-  private static MediaParser instance = null;
+  private static class Holder {
+    private static final MediaParser INSTANCE = new MediaParser();
+  }
 
   public static MediaParser getInstance() {
-    synchronized (MediaParser.class) {
-      if (instance == null) {
-        instance = new MediaParser();
-      }
-    }
-    return instance;
+    return Holder.INSTANCE;
+  }
+
+  // serialised as the class only, deserialised as the shared instance
+  private Object readResolve() {
+    return getInstance();
   }
 
   public MediaObject detectType(MediaObject mo) {
@@ -111,6 +121,17 @@ public class MediaParser {
    * https://tika.apache.org/1.19.1/formats.html#Full_list_of_Supported_Formats
    */
   public String parseMimeType(@Nullable String format) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      String mime = parseMimeTypeUntimed(format);
+      MIME_TYPE_METRICS.record(mime == null ? ParseResult.STATUS.FAIL : ParseResult.STATUS.SUCCESS, null,
+        System.nanoTime() - start);
+      return mime;
+    }
+    return parseMimeTypeUntimed(format);
+  }
+
+  private String parseMimeTypeUntimed(@Nullable String format) {
     if (format != null) {
       format = StringUtils.trimToNull(format.trim().toLowerCase());
     }
@@ -137,6 +158,17 @@ public class MediaParser {
    * https://tika.apache.org/1.19.1/formats.html#Full_list_of_Supported_Formats
    */
   public String parseMimeType(@Nullable URI uri) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      String mime = parseMimeTypeUntimed(uri);
+      MIME_TYPE_METRICS.record(mime == null ? ParseResult.STATUS.FAIL : ParseResult.STATUS.SUCCESS, null,
+        System.nanoTime() - start);
+      return mime;
+    }
+    return parseMimeTypeUntimed(uri);
+  }
+
+  private String parseMimeTypeUntimed(@Nullable URI uri) {
     if (uri != null) {
       String uriString = uri.toString();
       String mime = TIKA.detect(uriString);
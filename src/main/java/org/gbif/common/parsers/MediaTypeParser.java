@@ -21,7 +21,9 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class MediaTypeParser extends EnumParser<MediaType> {
 
-  private static MediaTypeParser singletonObject = null;
+  private static class Holder {
+    private static final MediaTypeParser INSTANCE = new MediaTypeParser();
+  }
 
   private MediaTypeParser() {
     super(MediaType.class, false);
@@ -36,12 +38,7 @@ public class MediaTypeParser extends EnumParser<MediaType> {
   }
 
   public static MediaTypeParser getInstance() {
-    synchronized (MediaTypeParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new MediaTypeParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 }
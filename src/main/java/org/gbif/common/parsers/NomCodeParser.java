@@ -23,7 +23,9 @@ import java.io.InputStream;
  */
 public class NomCodeParser extends EnumParser<NomenclaturalCode> {
 
-    private static NomCodeParser singletonObject = null;
+    private static class Holder {
+        private static final NomCodeParser INSTANCE = new NomCodeParser(NomCodeParser.class.getResourceAsStream("/dictionaries/parse/nomCode.tsv"));
+    }
 
     private NomCodeParser(InputStream... file) {
         super(NomenclaturalCode.class, false, file);
@@ -36,12 +38,7 @@ public class NomCodeParser extends EnumParser<NomenclaturalCode> {
 
     public static NomCodeParser getInstance()
         throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-        synchronized (NomCodeParser.class) {
-            if (singletonObject == null) {
-                singletonObject = new NomCodeParser(NomCodeParser.class.getResourceAsStream("/dictionaries/parse/nomCode.tsv"));
-            }
-        }
-        return singletonObject;
+        return Holder.INSTANCE;
     }
 
 
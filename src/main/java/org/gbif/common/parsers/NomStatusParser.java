@@ -14,14 +14,11 @@
 package org.gbif.common.parsers;
 
 import org.gbif.api.vocabulary.NomenclaturalStatus;
+import org.gbif.common.parsers.core.DictionaryBackedParser;
 import org.gbif.common.parsers.core.EnumParser;
 import org.gbif.common.parsers.core.ParseResult;
 
 import java.io.InputStream;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -29,20 +26,9 @@ import org.apache.commons.lang3.StringUtils;
  * Singleton implementation of the dictionary that uses the file /dictionaries/parse/nomStatus.txt.
  */
 public class NomStatusParser extends EnumParser<NomenclaturalStatus> {
-    private Pattern CLEAN_PREFIX = Pattern.compile("\\s*\\.?\\s*");
-    private final Map<String, NomenclaturalStatus> PREFIXES;
-  private static NomStatusParser singletonObject = null;
-
-  {
-    Map<String, NomenclaturalStatus> prefixes = new HashMap<>();
-    prefixes.put("nom illeg", NomenclaturalStatus.ILLEGITIMATE);
-    prefixes.put("nom inval", NomenclaturalStatus.INVALID);
-    prefixes.put("comb nov", NomenclaturalStatus.NEW_COMBINATION);
-    prefixes.put("nom nov", NomenclaturalStatus.REPLACEMENT);
-    prefixes.put("nom nud", NomenclaturalStatus.NUDUM);
-    prefixes.put("nom rej", NomenclaturalStatus.REJECTED);
-    prefixes.put("unavailable", NomenclaturalStatus.INVALID);
-    PREFIXES = Collections.unmodifiableMap(prefixes);
+  private static final PrefixParser PREFIXES = new PrefixParser();
+  private static class Holder {
+    private static final NomStatusParser INSTANCE = new NomStatusParser(NomStatusParser.class.getResourceAsStream("/dictionaries/parse/nomStatus.tsv"));
   }
 
   private NomStatusParser(InputStream... file) {
@@ -54,18 +40,19 @@ public class NomStatusParser extends EnumParser<NomenclaturalStatus> {
     }
   }
 
+    @Override
+    protected boolean overridesParse() {
+      return true;
+    }
+
     @Override
     public ParseResult<NomenclaturalStatus> parse(String input) {
         ParseResult<NomenclaturalStatus> result = super.parse(input);
         if (!result.isSuccessful() && StringUtils.isNotEmpty(input)) {
-            String normed = CLEAN_PREFIX.matcher(input).replaceFirst(" ").trim().toLowerCase();
-            if (StringUtils.isNotEmpty(normed)) {
-                // try generic parsing of status prefixes only
-                for (Map.Entry<String, NomenclaturalStatus> entry : PREFIXES.entrySet()) {
-                    if (normed.startsWith(entry.getKey())) {
-                        return ParseResult.success(ParseResult.CONFIDENCE.PROBABLE, entry.getValue());
-                    }
-                }
+            // try generic parsing of status prefixes only
+            ParseResult<NomenclaturalStatus> prefix = PREFIXES.parsePrefix(input);
+            if (prefix.isSuccessful()) {
+                return ParseResult.success(ParseResult.CONFIDENCE.PROBABLE, prefix.getPayload());
             }
         }
         return result;
@@ -73,13 +60,59 @@ public class NomStatusParser extends EnumParser<NomenclaturalStatus> {
 
     public static NomStatusParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (NomStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new NomStatusParser(NomStatusParser.class.getResourceAsStream("/dictionaries/parse/nomStatus.tsv"));
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * The generic status prefixes, kept in a trie so the longest prefix of a value is found in a single pass.
+   */
+  private static class PrefixParser extends DictionaryBackedParser<NomenclaturalStatus> {
+
+    private PrefixParser() {
+      super(true, Storage.TRIE);
+      add("nom illeg", NomenclaturalStatus.ILLEGITIMATE);
+      add("nom inval", NomenclaturalStatus.INVALID);
+      add("comb nov", NomenclaturalStatus.NEW_COMBINATION);
+      add("nom nov", NomenclaturalStatus.REPLACEMENT);
+      add("nom nud", NomenclaturalStatus.NUDUM);
+      add("nom rej", NomenclaturalStatus.REJECTED);
+      add("unavailable", NomenclaturalStatus.INVALID);
+      freeze();
+    }
+
+    /**
+     * @return the status of the longest prefix of the input
+     */
+    ParseResult<NomenclaturalStatus> parsePrefix(String input) {
+      return parseLongestPrefix(input);
+    }
+
+    /**
+     * Drops leading whitespace with at most one dot in it and lower cases the rest.
+     */
+    @Override
+    protected String normalize(String value) {
+      if (value == null) {
+        return null;
       }
+      int start = skipWhitespace(value, 0);
+      if (start < value.length() && value.charAt(start) == '.') {
+        start = skipWhitespace(value, start + 1);
+      }
+      return StringUtils.trimToNull(value.substring(start).toLowerCase());
     }
-    return singletonObject;
-  }
 
+    private static int skipWhitespace(String value, int start) {
+      int i = start;
+      while (i < value.length() && isRegexWhitespace(value.charAt(i))) {
+        i++;
+      }
+      return i;
+    }
 
+    // the characters matched by \s in a regular expression
+    private static boolean isRegexWhitespace(char c) {
+      return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+  }
 }
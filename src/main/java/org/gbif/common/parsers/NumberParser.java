@@ -22,22 +22,60 @@ import org.apache.commons.lang3.StringUtils;
 
 /**
  * Utils class to parse numbers trying various locales so that dots and comma based formats are both supported.
- * All methods swallow exceptions and return null instead.
+ * All methods swallow exceptions and return null instead, or the given default value for the primitive variants.
  */
 public class NumberParser {
 
+  // outside of the int range, so it marks an unparsable integer
+  private static final long NO_INTEGER = Long.MIN_VALUE;
+  // formats are not thread safe and expensive to create, so each thread keeps its own
+  private static final ThreadLocal<NumberFormat> GERMAN_FORMAT =
+    ThreadLocal.withInitial(() -> DecimalFormat.getInstance(Locale.GERMANY));
+
   private NumberParser() {
 
   }
 
   public static Double parseDouble(String x) {
+    final double d = parseDouble(x, Double.NaN);
+    if (Double.isNaN(d)) {
+      // NaN is also the failure of the primitive variant, a literal NaN still parses
+      return isNaN(x) ? Double.NaN : null;
+    }
+    return d;
+  }
+
+  /**
+   * Tells a literal NaN apart from unparsable input, as the primitive variants return the default value for both.
+   *
+   * @return true if x parses as {@link Double#NaN}
+   */
+  public static boolean isNaN(String x) {
+    if (x == null || !x.contains("NaN")) return false;
+
+    try {
+      return Double.isNaN(Double.parseDouble(x));
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Parses a double without boxing it.
+   *
+   * @param defaultValue returned if x cannot be parsed, e.g. {@link Double#NaN}
+   *
+   * @return the parsed number or the default value, also for a literal NaN, see {@link #isNaN(String)}
+   */
+  public static double parseDouble(String x, double defaultValue) {
     final String trimmed = x == null ? null : x.trim();
-    if (StringUtils.isEmpty(trimmed)) return null;
+    if (StringUtils.isEmpty(trimmed)) return defaultValue;
 
     try {
-      return Double.parseDouble(x);
+      final double d = Double.parseDouble(x);
+      return Double.isNaN(d) ? defaultValue : d;
     } catch (NumberFormatException e) {
-      NumberFormat format = DecimalFormat.getInstance(Locale.GERMANY);
+      NumberFormat format = GERMAN_FORMAT.get();
       ParsePosition pos = new ParsePosition(0);
       // verify that the parsed position is at the end of the string!
       Number num = format.parse(trimmed, pos);
@@ -45,17 +83,35 @@ public class NumberParser {
         return num.doubleValue();
       }
     }
-    return null;
+    return defaultValue;
   }
 
   public static Integer parseInteger(String x) {
+    final long i = parseInteger(x, NO_INTEGER);
+    return i == NO_INTEGER ? null : (int) i;
+  }
+
+  /**
+   * Parses an integer without boxing it.
+   *
+   * @param defaultValue returned if x cannot be parsed
+   *
+   * @return the parsed number or the default value
+   */
+  public static int parseInt(String x, int defaultValue) {
+    final long i = parseInteger(x, NO_INTEGER);
+    return i == NO_INTEGER ? defaultValue : (int) i;
+  }
+
+  // returns a long so the default can be outside the int range
+  private static long parseInteger(String x, long defaultValue) {
     final String trimmed = x == null ? null : x.trim();
-    if (StringUtils.isEmpty(trimmed)) return null;
+    if (StringUtils.isEmpty(trimmed)) return defaultValue;
 
     try {
       return Integer.parseInt(x);
     } catch (NumberFormatException e) {
-      NumberFormat format = DecimalFormat.getInstance(Locale.GERMANY);
+      NumberFormat format = GERMAN_FORMAT.get();
       ParsePosition pos = new ParsePosition(0);
       // verify that the parsed position is at the end of the string!
       Number num = format.parse(trimmed, pos);
@@ -63,6 +119,6 @@ public class NumberParser {
         return num.intValue();
       }
     }
-    return null;
+    return defaultValue;
   }
 }
@@ -18,7 +18,9 @@ import org.gbif.common.parsers.core.EnumParser;
 
 public class OccurrenceStatusParser extends EnumParser<OccurrenceStatus> {
 
-  private static OccurrenceStatusParser singletonObject = null;
+  private static class Holder {
+    private static final OccurrenceStatusParser INSTANCE = new OccurrenceStatusParser();
+  }
 
   private OccurrenceStatusParser() {
     super(OccurrenceStatus.class, false);
@@ -31,12 +33,7 @@ public class OccurrenceStatusParser extends EnumParser<OccurrenceStatus> {
   }
 
   public static OccurrenceStatusParser getInstance() {
-    synchronized (OccurrenceStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new OccurrenceStatusParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 }
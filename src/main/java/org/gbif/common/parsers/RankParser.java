@@ -23,7 +23,9 @@ import java.io.InputStream;
  */
 public class RankParser extends EnumParser<Rank> {
 
-  private static RankParser singletonObject = null;
+  private static class Holder {
+    private static final RankParser INSTANCE = new RankParser(RankParser.class.getResourceAsStream("/dictionaries/parse/rank.tsv"));
+  }
 
   private RankParser(InputStream... file) {
     super(Rank.class, false, file);
@@ -36,12 +38,7 @@ public class RankParser extends EnumParser<Rank> {
 
   public static RankParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (RankParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new RankParser(RankParser.class.getResourceAsStream("/dictionaries/parse/rank.tsv"));
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 
@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import org.gbif.api.util.IsoDateInterval;
+import org.gbif.api.vocabulary.BasisOfRecord;
+import org.gbif.api.vocabulary.Country;
+import org.gbif.api.vocabulary.EstablishmentMeans;
+import org.gbif.api.vocabulary.License;
+import org.gbif.api.vocabulary.LifeStage;
+import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.gbif.api.vocabulary.OccurrenceStatus;
+import org.gbif.api.vocabulary.Sex;
+import org.gbif.api.vocabulary.TypeStatus;
+import org.gbif.common.parsers.core.OccurrenceParseResult;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The interpreted fields of one occurrence record, see {@link RecordInterpreter}.
+ * <p>
+ * Fields which are missing or cannot be parsed are null, or NaN for the numbers. Issues of all fields are kept in a
+ * single mask of {@link OccurrenceParseResult#issueBit(OccurrenceIssue)} bits. Instances are mutable so they can be
+ * reused for many records and must not be shared between threads.
+ */
+public final class RecordInterpretation {
+
+  // the verbatim values per field ordinal
+  final String[] raw = new String[RecordInterpreter.Field.values().length];
+
+  Country country;
+  BasisOfRecord basisOfRecord;
+  TypeStatus typeStatus;
+  Sex sex;
+  LifeStage lifeStage;
+  EstablishmentMeans establishmentMeans;
+  OccurrenceStatus occurrenceStatus;
+  License license;
+  Integer geodeticDatum;
+  double decimalLatitude;
+  double decimalLongitude;
+  double elevation;
+  double elevationAccuracy;
+  double depth;
+  double depthAccuracy;
+  IsoDateInterval eventDate;
+  long issueMask;
+
+  public RecordInterpretation() {
+    clear();
+  }
+
+  void clear() {
+    Arrays.fill(raw, null);
+    country = null;
+    basisOfRecord = null;
+    typeStatus = null;
+    sex = null;
+    lifeStage = null;
+    establishmentMeans = null;
+    occurrenceStatus = null;
+    license = null;
+    geodeticDatum = null;
+    decimalLatitude = Double.NaN;
+    decimalLongitude = Double.NaN;
+    elevation = Double.NaN;
+    elevationAccuracy = Double.NaN;
+    depth = Double.NaN;
+    depthAccuracy = Double.NaN;
+    eventDate = null;
+    issueMask = 0;
+  }
+
+  /**
+   * @return the verbatim value of the field as read from the record
+   */
+  public String getVerbatim(RecordInterpreter.Field field) {
+    return raw[field.ordinal()];
+  }
+
+  public Country getCountry() {
+    return country;
+  }
+
+  public BasisOfRecord getBasisOfRecord() {
+    return basisOfRecord;
+  }
+
+  public TypeStatus getTypeStatus() {
+    return typeStatus;
+  }
+
+  public Sex getSex() {
+    return sex;
+  }
+
+  public LifeStage getLifeStage() {
+    return lifeStage;
+  }
+
+  public EstablishmentMeans getEstablishmentMeans() {
+    return establishmentMeans;
+  }
+
+  public OccurrenceStatus getOccurrenceStatus() {
+    return occurrenceStatus;
+  }
+
+  public License getLicense() {
+    return license;
+  }
+
+  /**
+   * @return the EPSG code of the datum
+   */
+  public Integer getGeodeticDatum() {
+    return geodeticDatum;
+  }
+
+  public boolean hasCoordinate() {
+    return !Double.isNaN(decimalLatitude);
+  }
+
+  public double getDecimalLatitude() {
+    return decimalLatitude;
+  }
+
+  public double getDecimalLongitude() {
+    return decimalLongitude;
+  }
+
+  /**
+   * @return the elevation in metres
+   */
+  public double getElevation() {
+    return elevation;
+  }
+
+  public double getElevationAccuracy() {
+    return elevationAccuracy;
+  }
+
+  /**
+   * @return the depth in metres
+   */
+  public double getDepth() {
+    return depth;
+  }
+
+  public double getDepthAccuracy() {
+    return depthAccuracy;
+  }
+
+  public IsoDateInterval getEventDate() {
+    return eventDate;
+  }
+
+  public long getIssueMask() {
+    return issueMask;
+  }
+
+  public boolean hasIssue(OccurrenceIssue issue) {
+    final int ordinal = issue.ordinal();
+    return ordinal < OccurrenceParseResult.MASK_BITS && (issueMask & (1L << ordinal)) != 0;
+  }
+
+  /**
+   * @return a new set of the issues
+   */
+  public Set<OccurrenceIssue> getIssues() {
+    Set<OccurrenceIssue> issues = EnumSet.noneOf(OccurrenceIssue.class);
+    for (OccurrenceIssue issue : OccurrenceIssue.values()) {
+      if (hasIssue(issue)) {
+        issues.add(issue);
+      }
+    }
+    return issues;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+      .append("country", country)
+      .append("basisOfRecord", basisOfRecord)
+      .append("typeStatus", typeStatus)
+      .append("sex", sex)
+      .append("lifeStage", lifeStage)
+      .append("establishmentMeans", establishmentMeans)
+      .append("occurrenceStatus", occurrenceStatus)
+      .append("license", license)
+      .append("geodeticDatum", geodeticDatum)
+      .append("decimalLatitude", decimalLatitude)
+      .append("decimalLongitude", decimalLongitude)
+      .append("elevation", elevation)
+      .append("elevationAccuracy", elevationAccuracy)
+      .append("depth", depth)
+      .append("depthAccuracy", depthAccuracy)
+      .append("eventDate", eventDate)
+      .append("issues", getIssues()).toString();
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import org.gbif.api.util.IsoDateInterval;
+import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.gbif.common.parsers.core.DoubleParseResult;
+import org.gbif.common.parsers.core.OccurrenceParseResult;
+import org.gbif.common.parsers.core.Parsable;
+import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.date.TemporalRangeParser;
+import org.gbif.common.parsers.geospatial.CoordinateParseUtils;
+import org.gbif.common.parsers.geospatial.DatumParser;
+import org.gbif.common.parsers.geospatial.LatLngParseResult;
+import org.gbif.common.parsers.geospatial.MeterRangeParser;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import static org.gbif.common.parsers.core.OccurrenceParseResult.issueBit;
+
+/**
+ * Interprets the common fields of an occurrence record with a single call, instead of calling each parser and merging
+ * their results.
+ * <p>
+ * Records are given either as a map from term names to values or as a row of columns, see
+ * {@link #columns(String...)}. Terms are the Darwin Core names of the {@link Field}s, plain, with the dwc: prefix or
+ * as the full URI. All issues end up in the single issue mask of the {@link RecordInterpretation}. A result can be
+ * passed in to be reused for the next record, so a thread interpreting many records allocates it only once.
+ * <p>
+ * The interpreter is immutable and can be shared by any number of threads, the results cannot.
+ */
+public final class RecordInterpreter {
+
+  private static final String DWC_PREFIX = "dwc:";
+  private static final String DWC_NAMESPACE = "http://rs.tdwg.org/dwc/terms/";
+
+  private static final Map<String, Field> TERMS = new HashMap<>();
+
+  static {
+    for (Field field : Field.values()) {
+      TERMS.put(field.term, field);
+      TERMS.put(DWC_PREFIX + field.term, field);
+      TERMS.put(DWC_NAMESPACE + field.term, field);
+    }
+  }
+
+  /**
+   * The fields of a record which are interpreted, with their Darwin Core term names.
+   */
+  public enum Field {
+    COUNTRY("country"),
+    COUNTRY_CODE("countryCode"),
+    BASIS_OF_RECORD("basisOfRecord"),
+    TYPE_STATUS("typeStatus"),
+    SEX("sex"),
+    LIFE_STAGE("lifeStage"),
+    ESTABLISHMENT_MEANS("establishmentMeans"),
+    OCCURRENCE_STATUS("occurrenceStatus"),
+    LICENSE("license"),
+    DECIMAL_LATITUDE("decimalLatitude"),
+    DECIMAL_LONGITUDE("decimalLongitude"),
+    VERBATIM_COORDINATES("verbatimCoordinates"),
+    GEODETIC_DATUM("geodeticDatum"),
+    MINIMUM_ELEVATION("minimumElevationInMeters"),
+    MAXIMUM_ELEVATION("maximumElevationInMeters"),
+    MINIMUM_DEPTH("minimumDepthInMeters"),
+    MAXIMUM_DEPTH("maximumDepthInMeters"),
+    YEAR("year"),
+    MONTH("month"),
+    DAY("day"),
+    EVENT_DATE("eventDate"),
+    START_DAY_OF_YEAR("startDayOfYear"),
+    END_DAY_OF_YEAR("endDayOfYear");
+
+    private final String term;
+
+    Field(String term) {
+      this.term = term;
+    }
+
+    /**
+     * @return the simple Darwin Core term name
+     */
+    public String term() {
+      return term;
+    }
+
+    /**
+     * @param term a term name, plain, with the dwc: prefix or as URI
+     *
+     * @return the field of the term or null if it is not interpreted
+     */
+    public static Field of(String term) {
+      return term == null ? null : TERMS.get(term);
+    }
+  }
+
+  private static final Field[] FIELDS = Field.values();
+
+  private final TemporalRangeParser temporalRangeParser;
+
+  private RecordInterpreter(TemporalRangeParser temporalRangeParser) {
+    this.temporalRangeParser = temporalRangeParser;
+  }
+
+  public static RecordInterpreter create() {
+    return new RecordInterpreter(TemporalRangeParser.builder().create());
+  }
+
+  /**
+   * @param temporalRangeParser the parser for the event date and its atomised fields
+   */
+  public static RecordInterpreter create(TemporalRangeParser temporalRangeParser) {
+    return new RecordInterpreter(temporalRangeParser);
+  }
+
+  /**
+   * Resolves the columns of the fields once, for rows with the given header.
+   *
+   * @param header the term names of the columns
+   */
+  public static Columns columns(String... header) {
+    int[] indexes = new int[FIELDS.length];
+    Arrays.fill(indexes, -1);
+    for (int i = 0; i < header.length; i++) {
+      Field field = Field.of(header[i]);
+      if (field != null && indexes[field.ordinal()] < 0) {
+        indexes[field.ordinal()] = i;
+      }
+    }
+    return new Columns(indexes);
+  }
+
+  /**
+   * @param record the values by term name
+   */
+  public RecordInterpretation interpret(Map<String, String> record) {
+    return interpret(record, new RecordInterpretation());
+  }
+
+  /**
+   * Interprets a record into an existing result, which is cleared first.
+   *
+   * @return the given result
+   */
+  public RecordInterpretation interpret(Map<String, String> record, RecordInterpretation into) {
+    into.clear();
+    for (Map.Entry<String, String> value : record.entrySet()) {
+      Field field = Field.of(value.getKey());
+      if (field != null) {
+        into.raw[field.ordinal()] = value.getValue();
+      }
+    }
+    return interpret(into);
+  }
+
+  /**
+   * @param row a row with the columns of the header the columns were resolved from
+   */
+  public RecordInterpretation interpret(String[] row, Columns columns) {
+    return interpret(row, columns, new RecordInterpretation());
+  }
+
+  /**
+   * Interprets a row into an existing result, which is cleared first.
+   *
+   * @return the given result
+   */
+  public RecordInterpretation interpret(String[] row, Columns columns, RecordInterpretation into) {
+    into.clear();
+    for (int f = 0; f < FIELDS.length; f++) {
+      final int column = columns.indexes[f];
+      if (column >= 0 && column < row.length) {
+        into.raw[f] = row[column];
+      }
+    }
+    return interpret(into);
+  }
+
+  private RecordInterpretation interpret(RecordInterpretation result) {
+    final String[] raw = result.raw;
+    long issues = 0;
+
+    // the ISO code is more reliable than the name
+    result.country = parse(CountryParser.getInstance(), raw[Field.COUNTRY_CODE.ordinal()]);
+    if (result.country == null) {
+      result.country = parse(CountryParser.getInstance(), raw[Field.COUNTRY.ordinal()]);
+    }
+    if (result.country == null
+        && (isPresent(raw, Field.COUNTRY_CODE) || isPresent(raw, Field.COUNTRY))) {
+      issues |= issueBit(OccurrenceIssue.COUNTRY_INVALID);
+    }
+
+    result.basisOfRecord = parse(BasisOfRecordParser.getInstance(), raw[Field.BASIS_OF_RECORD.ordinal()]);
+    if (result.basisOfRecord == null && isPresent(raw, Field.BASIS_OF_RECORD)) {
+      issues |= issueBit(OccurrenceIssue.BASIS_OF_RECORD_INVALID);
+    }
+    result.typeStatus = parse(TypeStatusParser.getInstance(), raw[Field.TYPE_STATUS.ordinal()]);
+    if (result.typeStatus == null && isPresent(raw, Field.TYPE_STATUS)) {
+      issues |= issueBit(OccurrenceIssue.TYPE_STATUS_INVALID);
+    }
+    result.sex = parse(SexParser.getInstance(), raw[Field.SEX.ordinal()]);
+    result.lifeStage = parse(LifeStageParser.getInstance(), raw[Field.LIFE_STAGE.ordinal()]);
+    result.establishmentMeans =
+      parse(EstablishmentMeansParser.getInstance(), raw[Field.ESTABLISHMENT_MEANS.ordinal()]);
+    result.occurrenceStatus = parse(OccurrenceStatusParser.getInstance(), raw[Field.OCCURRENCE_STATUS.ordinal()]);
+    result.license = parse(LicenseParser.getInstance(), raw[Field.LICENSE.ordinal()]);
+
+    // coordinates, preferring the decimal ones
+    LatLngParseResult coordinate = null;
+    if (isPresent(raw, Field.DECIMAL_LATITUDE) || isPresent(raw, Field.DECIMAL_LONGITUDE)) {
+      coordinate = CoordinateParseUtils.parseLatLngValue(raw[Field.DECIMAL_LATITUDE.ordinal()],
+        raw[Field.DECIMAL_LONGITUDE.ordinal()]);
+    }
+    if ((coordinate == null || !coordinate.isSuccessful()) && isPresent(raw, Field.VERBATIM_COORDINATES)) {
+      coordinate = CoordinateParseUtils.parseVerbatimCoordinatesValue(raw[Field.VERBATIM_COORDINATES.ordinal()]);
+    }
+    if (coordinate != null) {
+      issues |= coordinate.getIssueMask();
+      result.decimalLatitude = coordinate.getLat();
+      result.decimalLongitude = coordinate.getLng();
+    }
+    result.geodeticDatum = parse(DatumParser.getInstance(), raw[Field.GEODETIC_DATUM.ordinal()]);
+    if (result.geodeticDatum == null && isPresent(raw, Field.GEODETIC_DATUM)) {
+      issues |= issueBit(OccurrenceIssue.GEODETIC_DATUM_INVALID);
+    }
+
+    if (isPresent(raw, Field.MINIMUM_ELEVATION) || isPresent(raw, Field.MAXIMUM_ELEVATION)) {
+      DoubleParseResult elevation = MeterRangeParser.parseElevationValue(raw[Field.MINIMUM_ELEVATION.ordinal()],
+        raw[Field.MAXIMUM_ELEVATION.ordinal()], null);
+      issues |= elevation.getIssueMask();
+      result.elevation = elevation.getValue();
+      result.elevationAccuracy = elevation.getAccuracy();
+    }
+    if (isPresent(raw, Field.MINIMUM_DEPTH) || isPresent(raw, Field.MAXIMUM_DEPTH)) {
+      DoubleParseResult depth = MeterRangeParser.parseDepthValue(raw[Field.MINIMUM_DEPTH.ordinal()],
+        raw[Field.MAXIMUM_DEPTH.ordinal()], null);
+      issues |= depth.getIssueMask();
+      result.depth = depth.getValue();
+      result.depthAccuracy = depth.getAccuracy();
+    }
+
+    if (isPresent(raw, Field.YEAR) || isPresent(raw, Field.MONTH) || isPresent(raw, Field.DAY)
+        || isPresent(raw, Field.EVENT_DATE) || isPresent(raw, Field.START_DAY_OF_YEAR)
+        || isPresent(raw, Field.END_DAY_OF_YEAR)) {
+      OccurrenceParseResult<IsoDateInterval> eventDate = temporalRangeParser.parse(raw[Field.YEAR.ordinal()],
+        raw[Field.MONTH.ordinal()], raw[Field.DAY.ordinal()], raw[Field.EVENT_DATE.ordinal()],
+        raw[Field.START_DAY_OF_YEAR.ordinal()], raw[Field.END_DAY_OF_YEAR.ordinal()]);
+      issues |= eventDate.getIssueMask();
+      if (eventDate.isSuccessful()) {
+        result.eventDate = eventDate.getPayload();
+      }
+    }
+
+    result.issueMask = issues;
+    return result;
+  }
+
+  private static boolean isPresent(String[] raw, Field field) {
+    return StringUtils.isNotBlank(raw[field.ordinal()]);
+  }
+
+  /**
+   * @return the payload of a successful parse of a value which is not blank, otherwise null
+   */
+  private static <T> T parse(Parsable<T> parser, String value) {
+    if (StringUtils.isBlank(value)) {
+      return null;
+    }
+    ParseResult<T> result = parser.parse(value);
+    return result != null && result.isSuccessful() ? result.getPayload() : null;
+  }
+
+  /**
+   * The columns of the fields in rows with the same header.
+   */
+  public static final class Columns {
+    // column per field ordinal, -1 for missing fields
+    private final int[] indexes;
+
+    private Columns(int[] indexes) {
+      this.indexes = indexes;
+    }
+
+    /**
+     * @return the column of the field or -1 if the header does not have it
+     */
+    public int indexOf(Field field) {
+      return indexes[field.ordinal()];
+    }
+  }
+}
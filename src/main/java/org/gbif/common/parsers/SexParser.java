@@ -21,7 +21,9 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class SexParser extends EnumParser<Sex> {
 
-  private static SexParser singletonObject = null;
+  private static class Holder {
+    private static final SexParser INSTANCE = new SexParser();
+  }
 
   private SexParser() {
     super(Sex.class, false);
@@ -34,11 +36,6 @@ public class SexParser extends EnumParser<Sex> {
   }
 
   public static SexParser getInstance() {
-    synchronized (SexParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new SexParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 }
@@ -23,7 +23,9 @@ import java.io.InputStream;
  */
 public class TaxStatusParser extends EnumParser<TaxonomicStatus> {
 
-  private static TaxStatusParser singletonObject = null;
+  private static class Holder {
+    private static final TaxStatusParser INSTANCE = new TaxStatusParser(TaxStatusParser.class.getResourceAsStream("/dictionaries/parse/taxStatus.tsv"));
+  }
 
   private TaxStatusParser(InputStream... file) {
     super(TaxonomicStatus.class, false, file);
@@ -31,12 +33,7 @@ public class TaxStatusParser extends EnumParser<TaxonomicStatus> {
 
   public static TaxStatusParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (TaxStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new TaxStatusParser(TaxStatusParser.class.getResourceAsStream("/dictionaries/parse/taxStatus.tsv"));
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 
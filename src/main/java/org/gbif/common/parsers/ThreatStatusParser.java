@@ -18,7 +18,9 @@ import org.gbif.common.parsers.core.EnumParser;
 
 public class ThreatStatusParser extends EnumParser<ThreatStatus> {
 
-  private static ThreatStatusParser singletonObject = null;
+  private static class Holder {
+    private static final ThreatStatusParser INSTANCE = new ThreatStatusParser();
+  }
 
   private ThreatStatusParser() {
     super(ThreatStatus.class, false);
@@ -28,16 +30,11 @@ public class ThreatStatusParser extends EnumParser<ThreatStatus> {
       add(c.getCode(), c);
     }
     // use dict file last
-    init(ThreatStatusParser.class.getResourceAsStream("/dictionaries/parse/threat_status.tsv"));
+    init(ThreatStatusParser.class.getResourceAsStream("/dictionaries/parse/threat_status.tsv"), "#");
   }
 
   public static ThreatStatusParser getInstance() {
-    synchronized (ThreatStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new ThreatStatusParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 
 }
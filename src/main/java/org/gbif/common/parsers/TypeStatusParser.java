@@ -15,20 +15,24 @@ package org.gbif.common.parsers;
 
 import org.gbif.api.vocabulary.TypeStatus;
 import org.gbif.common.parsers.core.EnumParser;
-import org.gbif.common.parsers.core.ParseResult;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
+import org.gbif.common.parsers.core.StringNormalizer;
 
 /**
  * Singleton implementation of the dictionary that uses the file /dictionaries/parse/typeStatus.txt.
  */
 public class TypeStatusParser extends EnumParser<TypeStatus> {
 
-  private static TypeStatusParser singletonObject = null;
-  private static final Pattern NAME_SEPARATOR = Pattern.compile("^(.+) (OF|FOR) ");
+  private static class Holder {
+    private static final TypeStatusParser INSTANCE = new TypeStatusParser();
+  }
+  // keeps only words before the typifiedName if existing, e.g. Holotype for "Holotype of Dianthus fruticosus ssp. amorginus Runemark"
+  // then removes whitespace and all non-letters
+  private static final StringNormalizer NORMALIZER = StringNormalizer.builder()
+      .truncateAtLast(" of ", " for ")
+      .foldToAscii()
+      .keepLetters()
+      .upperCase()
+      .build();
 
   private TypeStatusParser() {
     super(TypeStatus.class, false);
@@ -36,36 +40,12 @@ public class TypeStatusParser extends EnumParser<TypeStatus> {
   }
 
   @Override
-  protected String normalize(String value) {
-    if (StringUtils.isEmpty(value)) {
-      return null;
-    }
-    // uppercase
-    value = value.toUpperCase().trim();
-
-    // keep only words before the typifiedName if existing, e.g. Holotype for "Holotype of Dianthus fruticosus ssp. amorginus Runemark"
-    Matcher m = NAME_SEPARATOR.matcher(value);
-    if (m.find()) {
-      value = m.group(1);
-    }
-    // remove whitespace and non letters
-    ParseResult<String> ascii = asciiParser.parse(value);
-
-    // remove all non-letters
-    return ascii.getPayload().chars()
-        .filter(p -> Character.isLetter((char) p))
-        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-        .toString();
+  protected StringNormalizer normalizer() {
+    return NORMALIZER;
   }
 
-
   public static TypeStatusParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (TypeStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new TypeStatusParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
   }
 }
@@ -18,6 +18,7 @@ import org.gbif.api.model.checklistbank.ParsedName;
 import org.gbif.common.parsers.core.Parsable;
 import org.gbif.common.parsers.core.ParseResult;
 
+import java.io.Serializable;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,9 +34,14 @@ import static org.gbif.common.parsers.utils.NameParserUtils.PARSER;
  * For example given the input "Holotype of Dianthus fruticosus ssp. amorginus Runemark"
  * the parser will extract Dianthus fruticosus ssp. amorginus Runemark.
  */
-public class TypifiedNameParser implements Parsable<String> {
-  protected final Logger log = LoggerFactory.getLogger(getClass());
-  private static TypifiedNameParser singletonObject = null;
+public class TypifiedNameParser implements Parsable<String>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected final transient Logger log = LoggerFactory.getLogger(getClass());
+  private static class Holder {
+    private static final TypifiedNameParser INSTANCE = new TypifiedNameParser();
+  }
 
   private static final Range<Integer> REASONABLE_NAME_SIZE_RANGE = Range.between(4, 40);
   private static final Pattern NAME_SEPARATOR = Pattern.compile("\\sOF\\W*\\s+\\W*(.+)\\W*\\s*$", Pattern.CASE_INSENSITIVE);
@@ -70,11 +76,11 @@ public class TypifiedNameParser implements Parsable<String> {
   }
 
   public static TypifiedNameParser getInstance() {
-    synchronized (TypifiedNameParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new TypifiedNameParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
+  }
+
+  // serialised as the class only, deserialised as the shared instance
+  private Object readResolve() {
+    return getInstance();
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import org.gbif.api.vocabulary.BasisOfRecord;
+import org.gbif.api.vocabulary.CitesAppendix;
+import org.gbif.api.vocabulary.Continent;
+import org.gbif.api.vocabulary.Country;
+import org.gbif.api.vocabulary.DistributionStatus;
+import org.gbif.api.vocabulary.EstablishmentMeans;
+import org.gbif.api.vocabulary.Habitat;
+import org.gbif.api.vocabulary.Kingdom;
+import org.gbif.api.vocabulary.Language;
+import org.gbif.api.vocabulary.License;
+import org.gbif.api.vocabulary.LifeStage;
+import org.gbif.api.vocabulary.MaintenanceUpdateFrequency;
+import org.gbif.api.vocabulary.MediaType;
+import org.gbif.api.vocabulary.NomenclaturalCode;
+import org.gbif.api.vocabulary.NomenclaturalStatus;
+import org.gbif.api.vocabulary.OccurrenceStatus;
+import org.gbif.api.vocabulary.Rank;
+import org.gbif.api.vocabulary.Sex;
+import org.gbif.api.vocabulary.TaxonomicStatus;
+import org.gbif.api.vocabulary.ThreatStatus;
+import org.gbif.api.vocabulary.TypeStatus;
+import org.gbif.common.parsers.core.ASCIIParser;
+import org.gbif.common.parsers.core.ParserProvider;
+import org.gbif.common.parsers.core.ParserRegistry;
+import org.gbif.common.parsers.date.DateParsers;
+import org.gbif.common.parsers.geospatial.DatumParser;
+import org.gbif.common.parsers.utils.NameParserUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.gbif.common.parsers.core.ParserRegistry.register;
+
+/**
+ * Registers the vocabulary parsers of this library with the {@link ParserRegistry}, and names its other shared parsers
+ * to preload.
+ */
+public class VocabularyParserProvider implements ParserProvider {
+
+  @Override
+  public void registerParsers() {
+    register(BasisOfRecord.class, BasisOfRecordParser::getInstance);
+    register(Boolean.class, BooleanParser::getInstance);
+    register(CitesAppendix.class, CitesAppendixParser::getInstance);
+    register(Continent.class, ContinentParser::getInstance);
+    register(Country.class, CountryParser::getInstance);
+    register(DistributionStatus.class, DistributionStatusParser::getInstance);
+    register(EstablishmentMeans.class, EstablishmentMeansParser::getInstance);
+    register(Habitat.class, HabitatParser::getInstance);
+    register(Kingdom.class, KingdomParser::getInstance);
+    register(Language.class, LanguageParser::getInstance);
+    register(License.class, LicenseParser::getInstance);
+    register(LifeStage.class, LifeStageParser::getInstance);
+    register(MaintenanceUpdateFrequency.class, MaintenanceUpdateFrequencyParser::getInstance);
+    register(MediaType.class, MediaTypeParser::getInstance);
+    register(NomenclaturalCode.class, NomCodeParser::getInstance);
+    register(NomenclaturalStatus.class, NomStatusParser::getInstance);
+    register(OccurrenceStatus.class, OccurrenceStatusParser::getInstance);
+    register(Rank.class, RankParser::getInstance);
+    register(Sex.class, SexParser::getInstance);
+    register(TaxonomicStatus.class, TaxStatusParser::getInstance);
+    register(ThreatStatus.class, ThreatStatusParser::getInstance);
+    register(TypeStatus.class, TypeStatusParser::getInstance);
+  }
+
+  @Override
+  public Map<String, Supplier<?>> sharedParsers() {
+    Map<String, Supplier<?>> parsers = new LinkedHashMap<>();
+    parsers.put(DatumParser.class.getName(), DatumParser::getInstance);
+    parsers.put(LicenseUriParser.class.getName(), LicenseUriParser::getInstance);
+    parsers.put(TypifiedNameParser.class.getName(), TypifiedNameParser::getInstance);
+    parsers.put(NameParserUtils.class.getName(), () -> NameParserUtils.PARSER);
+    parsers.put(MediaParser.class.getName(), MediaParser::getInstance);
+    parsers.put(ASCIIParser.class.getName(), ASCIIParser::getInstance);
+    // date parsers are created per caller, but share their formatters
+    parsers.put(DateParsers.class.getName(), () -> {
+      DateParsers.preloadFormatters();
+      return null;
+    });
+    return parsers;
+  }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ParserMetrics} counting results and latencies per parser with {@link LongAdder}s.
+ * <p>
+ * The numbers of each parser are published as an MBean named
+ * {@code org.gbif.common.parsers:type=ParserMetrics,name=<parser>} on the platform MBean server.
+ */
+public class DefaultParserMetrics implements ParserMetrics {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DefaultParserMetrics.class);
+
+  static final String DOMAIN = "org.gbif.common.parsers";
+
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+  private final boolean jmx;
+
+  public DefaultParserMetrics() {
+    this(true);
+  }
+
+  /**
+   * @param jmx whether to publish the metrics as MBeans
+   */
+  public DefaultParserMetrics(boolean jmx) {
+    this.jmx = jmx;
+  }
+
+  @Override
+  public Recorder recorder(String parser) {
+    return stats.computeIfAbsent(parser, this::register);
+  }
+
+  /**
+   * @return the metrics of a parser or null if it did not parse anything yet
+   */
+  @Nullable
+  public StatsMBean get(String parser) {
+    return stats.get(parser);
+  }
+
+  private Stats register(String parser) {
+    Stats s = new Stats();
+    if (jmx) {
+      try {
+        ObjectName name = new ObjectName(DOMAIN + ":type=ParserMetrics,name=" + ObjectName.quote(parser));
+        if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+          ManagementFactory.getPlatformMBeanServer().registerMBean(new StandardMBean(s, StatsMBean.class), name);
+        }
+      } catch (JMException e) {
+        LOG.warn("Cannot publish metrics of {}: {}", parser, e.getMessage());
+      }
+    }
+    return s;
+  }
+
+  /**
+   * The metrics of a single parser, as published via JMX.
+   */
+  public interface StatsMBean {
+
+    long getCalls();
+
+    long getSuccesses();
+
+    long getFailures();
+
+    long getErrors();
+
+    /**
+     * @return the share of successful parses, 0 if there were none
+     */
+    double getHitRate();
+
+    long getDefinite();
+
+    long getProbable();
+
+    long getPossible();
+
+    double getMeanLatencyNanos();
+
+    long getMedianLatencyNanos();
+
+    long getP99LatencyNanos();
+
+    long getP999LatencyNanos();
+
+    /**
+     * @return the number of values the miss filter of a dictionary parser rejected without normalising them
+     */
+    long getRejections();
+
+    /**
+     * @return the share of calls rejected by the miss filter, 0 if there were none
+     */
+    double getRejectionRate();
+
+    /**
+     * @return how often the dictionary of the parser was reloaded
+     */
+    long getReloads();
+
+    /**
+     * @return the time of the last reload in milliseconds since the epoch, 0 if there was none
+     */
+    long getLastReloadMillis();
+
+    /**
+     * @return the number of keys of the reloaded dictionary, 0 if there was no reload
+     */
+    int getReloadedEntries();
+
+    /**
+     * Resets the parse counts and latencies, the reload information is kept.
+     */
+    void reset();
+  }
+
+  static final class Stats implements Recorder, StatsMBean {
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder[] confidences = new LongAdder[ParseResult.CONFIDENCE.values().length];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private volatile long lastReloadMillis;
+    private volatile int reloadedEntries;
+
+    Stats() {
+      for (int i = 0; i < confidences.length; i++) {
+        confidences[i] = new LongAdder();
+      }
+    }
+
+    @Override
+    public void record(ParseResult.STATUS status, @Nullable ParseResult.CONFIDENCE confidence, long nanos) {
+      switch (status) {
+        case SUCCESS:
+          successes.increment();
+          break;
+        case FAIL:
+          failures.increment();
+          break;
+        default:
+          errors.increment();
+      }
+      if (confidence != null) {
+        confidences[confidence.ordinal()].increment();
+      }
+      totalNanos.add(nanos);
+      latencies.record(nanos);
+    }
+
+    @Override
+    public void recordRejection() {
+      rejections.increment();
+    }
+
+    @Override
+    public void recordReload(int entries) {
+      reloadedEntries = entries;
+      lastReloadMillis = System.currentTimeMillis();
+      reloads.increment();
+    }
+
+    @Override
+    public long getCalls() {
+      return successes.sum() + failures.sum() + errors.sum();
+    }
+
+    @Override
+    public long getSuccesses() {
+      return successes.sum();
+    }
+
+    @Override
+    public long getFailures() {
+      return failures.sum();
+    }
+
+    @Override
+    public long getErrors() {
+      return errors.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+      long calls = getCalls();
+      return calls == 0 ? 0 : (double) successes.sum() / calls;
+    }
+
+    @Override
+    public long getDefinite() {
+      return confidences[ParseResult.CONFIDENCE.DEFINITE.ordinal()].sum();
+    }
+
+    @Override
+    public long getProbable() {
+      return confidences[ParseResult.CONFIDENCE.PROBABLE.ordinal()].sum();
+    }
+
+    @Override
+    public long getPossible() {
+      return confidences[ParseResult.CONFIDENCE.POSSIBLE.ordinal()].sum();
+    }
+
+    @Override
+    public double getMeanLatencyNanos() {
+      long calls = getCalls();
+      return calls == 0 ? 0 : (double) totalNanos.sum() / calls;
+    }
+
+    @Override
+    public long getMedianLatencyNanos() {
+      return latencies.valueAtQuantile(0.5);
+    }
+
+    @Override
+    public long getP99LatencyNanos() {
+      return latencies.valueAtQuantile(0.99);
+    }
+
+    @Override
+    public long getP999LatencyNanos() {
+      return latencies.valueAtQuantile(0.999);
+    }
+
+    @Override
+    public long getRejections() {
+      return rejections.sum();
+    }
+
+    @Override
+    public double getRejectionRate() {
+      long calls = getCalls();
+      return calls == 0 ? 0 : (double) rejections.sum() / calls;
+    }
+
+    @Override
+    public long getReloads() {
+      return reloads.sum();
+    }
+
+    @Override
+    public long getLastReloadMillis() {
+      return lastReloadMillis;
+    }
+
+    @Override
+    public int getReloadedEntries() {
+      return reloadedEntries;
+    }
+
+    @Override
+    public void reset() {
+      successes.reset();
+      failures.reset();
+      errors.reset();
+      for (LongAdder c : confidences) {
+        c.reset();
+      }
+      totalNanos.reset();
+      latencies.reset();
+      rejections.reset();
+    }
+  }
+}
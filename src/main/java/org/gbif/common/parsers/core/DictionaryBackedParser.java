@@ -13,9 +13,14 @@
  */
 package org.gbif.common.parsers.core;
 
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -29,24 +34,100 @@ import org.slf4j.LoggerFactory;
  * dictionary web service for example, to achieve the same,
  * but allow the abstraction of the dictionary management to a
  * better project (separation of concerns)
+ * <p>
+ * Entries can only be added while the parser is being built. The first parse, or an explicit {@link #freeze()},
+ * turns them into an immutable {@link FrozenDictionary} which is then safe to use from any thread.
+ * A running parser can get a new dictionary with {@link #replace(Iterator)}: it is built completely before it is published
+ * with a single volatile write, so parsing never waits for a lock or sees a partly built dictionary.
+ * <p>
+ * Parsers with a shared instance, i.e. a public static {@code getInstance()} method, are serialised as their class only
+ * and deserialised as the shared instance of the receiving JVM, so their dictionary is never shipped or rebuilt.
+ * Serialising other instances fails.
  */
-public class DictionaryBackedParser<V> implements Parsable<V> {
+public class DictionaryBackedParser<V> implements Parsable<V>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * System property listing the simple class names of parsers which keep their dictionary {@link Storage#OFF_HEAP}
+   * whatever storage they declare, separated by commas, e.g. {@code CountryParser,LanguageParser}. Use * for all.
+   */
+  public static final String OFF_HEAP_PROPERTY = "org.gbif.common.parsers.offheap";
+
   protected final Logger log = LoggerFactory.getLogger(getClass());
-  private final Map<String, V> dictionary = new HashMap<String, V>();
+  // shorter values allow no edits in fuzzy lookups, as too many keys would match
+  private static final int CHARS_PER_EDIT = 4;
+  // sources with at least as many keys are normalised in parallel
+  private static final int PARALLEL_NORMALIZATION = 4096;
   private final boolean caseSensitive;
+  private final Storage storage;
+  // entries collected while the parser is built, released once frozen
+  private Map<String, V> entries = new HashMap<String, V>();
+  private volatile FrozenDictionary<V> dictionary;
+  // the dictionary the parser was built with, replacements are laid over it
+  private FrozenDictionary<V> builtDictionary;
+  private volatile long reloads;
+  private volatile long lastReloadMillis;
+  // whether the dictionary was read from a prebuilt snapshot, which already contains all later additions
+  private boolean fromSnapshot;
+  // whether parse can use the normalizer directly, which avoids creating the normalised String
+  private final boolean directLookup;
+  // whether parse is not overridden, so batches can look up the dictionary directly
+  private final boolean dictionaryParse;
+  // whether parse is not overridden or parseFuzzy is as well, so fuzzy hits get the same post processing
+  private final boolean fuzzyParse;
+  // whether init is not overridden, so sources can be added without it
+  private final boolean dictionaryInit;
+  // whether raw values are checked against the MissFilter of the dictionary before they are normalised
+  private final boolean filterMisses;
+  private final ParserMetrics.Recorder metrics = ParserMetricsRegistry.recorder(getClass());
 
   /**
    * @param caseSensitive If the dictionary should be case sensitive (only applicable to String keys)
    */
   public DictionaryBackedParser(boolean caseSensitive) {
+    this(caseSensitive, Storage.HASH);
+  }
+
+  /**
+   * @param caseSensitive If the dictionary should be case sensitive (only applicable to String keys)
+   * @param storage       How the frozen dictionary keeps its keys
+   */
+  public DictionaryBackedParser(boolean caseSensitive, Storage storage) {
     this.caseSensitive = caseSensitive;
+    this.storage = offHeap(getClass()) ? Storage.OFF_HEAP : storage;
+    this.directLookup = !overridesNormalize();
+    this.dictionaryParse = !overridesParse();
+    this.fuzzyParse = dictionaryParse || overridesParseFuzzy();
+    this.dictionaryInit = !overridesInit();
+    this.filterMisses = directLookup && filterMisses();
   }
 
   /**
+   * @return true if the parser class is listed in the {@value #OFF_HEAP_PROPERTY} system property
+   */
+  private static boolean offHeap(Class<?> parserClass) {
+    String parsers = System.getProperty(OFF_HEAP_PROPERTY);
+    if (parsers != null) {
+      for (String parser : parsers.split(",")) {
+        if (parser.trim().equals("*") || parser.trim().equals(parserClass.getSimpleName())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Subclasses overriding this method must return true from {@link #overridesInit()}.
+   *
    * @param source To build the dictionary from
    */
   @SuppressWarnings("unchecked")
   public void init(Iterator<KeyValue<String, V>> source) {
+    if (fromSnapshot) {
+      return;
+    }
     while (source.hasNext()) {
       KeyValue<String, V> kvp = source.next();
       add(kvp.getKey(), kvp.getValue());
@@ -54,29 +135,266 @@ public class DictionaryBackedParser<V> implements Parsable<V> {
   }
 
   final protected void add(String key, V value) {
+    if (fromSnapshot) {
+      return;
+    }
+    if (dictionary != null) {
+      throw new IllegalStateException("Dictionary of " + getClass().getSimpleName() + " is frozen already");
+    }
+    put(entries, key, value);
+  }
+
+  /**
+   * Adds the entries in their order like {@link #add(String, Object)}. Large numbers of keys are normalised in
+   * parallel, which requires {@link #normalize(String)} to be thread safe as it is for parsing anyway.
+   * A parser which {@link #overridesInit()} gets the entries one by one instead.
+   *
+   * @param values the values, same index as the keys
+   */
+  final void addAll(List<String> keys, List<V> values) {
+    if (!dictionaryInit) {
+      List<KeyValue<String, V>> source = new ArrayList<>(keys.size());
+      for (int i = 0; i < keys.size(); i++) {
+        source.add(new KeyValue<>(keys.get(i), values.get(i)));
+      }
+      init(source.iterator());
+      return;
+    }
+    if (fromSnapshot) {
+      return;
+    }
+    if (dictionary != null) {
+      throw new IllegalStateException("Dictionary of " + getClass().getSimpleName() + " is frozen already");
+    }
+    String[] normedKeys = new String[keys.size()];
+    IntStream indexes = IntStream.range(0, normedKeys.length);
+    (normedKeys.length >= PARALLEL_NORMALIZATION ? indexes.parallel() : indexes).forEach(i -> {
+      String key = keys.get(i);
+      normedKeys[i] = StringUtils.isBlank(key) ? null : normalize(key);
+    });
+    for (int i = 0; i < normedKeys.length; i++) {
+      put(entries, keys.get(i), normedKeys[i], values.get(i));
+    }
+  }
+
+  /**
+   * Adds the normalised key to the entries unless it is mapped to another value already.
+   */
+  private void put(Map<String, V> target, String key, V value) {
     if (!StringUtils.isBlank(key)) {
-      String normedKey = normalize(key);
-      if (StringUtils.isNotEmpty(normedKey)) {
-        V existingValue = dictionary.get(normedKey);
-        if (existingValue == null) {
-          dictionary.put(normedKey, value);
-        } else if (!existingValue.equals(value)) {
-          log.warn("Ignoring mapping {}→{} as {} is already mapped to {}", key, value, key, existingValue);
+      put(target, key, normalize(key), value);
+    }
+  }
+
+  private void put(Map<String, V> target, String key, String normedKey, V value) {
+    if (StringUtils.isNotEmpty(normedKey)) {
+      V existingValue = target.get(normedKey);
+      if (existingValue == null) {
+        target.put(normedKey, value);
+      } else if (!existingValue.equals(value)) {
+        log.warn("Ignoring mapping {}→{} as {} is already mapped to {}", key, value, key, existingValue);
+      }
+    }
+  }
+
+  /**
+   * Turns the added entries into an immutable lookup table. Further calls to {@link #add(String, Object)} fail.
+   * This happens automatically on the first parse, but parsers may call it once they are fully built.
+   */
+  protected final void freeze() {
+    getDictionary();
+  }
+
+  /**
+   * Uses already normalised entries, e.g. from a {@link DictionarySnapshot}, as the frozen dictionary.
+   * Entries added or read from sources later on are ignored, as they are expected to be part of them already.
+   */
+  final synchronized void freeze(Map<String, V> normalisedEntries) {
+    dictionary = build(normalisedEntries);
+    entries = null;
+    fromSnapshot = true;
+  }
+
+  /**
+   * @return true if the dictionary was read from a prebuilt snapshot, so there is no need to add any more entries
+   */
+  protected final boolean isFromSnapshot() {
+    return fromSnapshot;
+  }
+
+  final FrozenDictionary<V> frozenDictionary() {
+    return getDictionary();
+  }
+
+  /**
+   * Builds the frozen dictionary and the filter of misses, which would otherwise happen on the first parse.
+   */
+  final void preload() {
+    FrozenDictionary<V> dict = getDictionary();
+    if (filterMisses) {
+      dict.missFilter();
+    }
+  }
+
+  private FrozenDictionary<V> getDictionary() {
+    FrozenDictionary<V> dict = dictionary;
+    if (dict == null) {
+      synchronized (this) {
+        dict = dictionary;
+        if (dict == null) {
+          dict = build(entries);
+          entries = null;
+          dictionary = dict;
         }
       }
     }
+    return dict;
+  }
+
+  /**
+   * Replaces the dictionary of a running parser. The entries are laid over the ones the parser was built with, so they
+   * can add keys or map existing keys to another value. Each call starts again from the built dictionary, so entries
+   * of an earlier replacement which are no longer given are dropped.
+   * <p>
+   * The new dictionary is built completely before it replaces the current one in a single volatile write, so parse
+   * calls never take a lock and see either the old or the new dictionary. Batches use one of them for all values.
+   *
+   * @param source the entries to lay over the built dictionary, keys are normalised like added ones and entries
+   *               without a value are ignored
+   *
+   * @return the number of keys of the new dictionary
+   */
+  protected final synchronized int replace(Iterator<KeyValue<String, V>> source) {
+    Map<String, V> overlay = new HashMap<>();
+    while (source.hasNext()) {
+      KeyValue<String, V> kvp = source.next();
+      if (kvp.getValue() != null) {
+        put(overlay, kvp.getKey(), kvp.getValue());
+      }
+    }
+    if (builtDictionary == null) {
+      builtDictionary = getDictionary();
+    }
+    Map<String, V> merged = new HashMap<>(builtDictionary.size() + overlay.size());
+    builtDictionary.forEach(merged::put);
+    merged.putAll(overlay);
+    FrozenDictionary<V> replacement = build(merged);
+
+    dictionary = replacement;
+    lastReloadMillis = System.currentTimeMillis();
+    reloads++;
+    metrics.recordReload(replacement.size());
+    log.info("Replaced dictionary of {} with {} entries, {} of them given", getClass().getSimpleName(),
+      replacement.size(), overlay.size());
+    return replacement.size();
+  }
+
+  /**
+   * @return how often the dictionary was replaced
+   */
+  public final long getReloadCount() {
+    return reloads;
+  }
+
+  /**
+   * @return the time of the last replacement of the dictionary in milliseconds since the epoch, 0 if there was none
+   */
+  public final long getLastReloadMillis() {
+    return lastReloadMillis;
+  }
+
+  private FrozenDictionary<V> build(Map<String, V> normalisedEntries) {
+    switch (storage) {
+      case TRIE:
+        return FrozenDictionary.trie(normalisedEntries);
+      case OFF_HEAP:
+        return FrozenDictionary.offHeap(normalisedEntries, getClass().getName());
+      default:
+        return FrozenDictionary.of(normalisedEntries);
+    }
+  }
+
+  /**
+   * The declared normalisation of this parser, used by {@link #normalize(String)} if present.
+   * It is called while the parser is still being constructed, so implementations should return a static instance.
+   * Unless {@link #overridesNormalize()} is true, parsing uses the normalizer directly without creating the normalised
+   * String.
+   *
+   * @return the normalisation of this parser or null to trim and uppercase values
+   */
+  protected StringNormalizer normalizer() {
+    return null;
+  }
+
+  /**
+   * Whether raw values are checked against a filter of the dictionary keys before they are normalised, so that most
+   * values which cannot be keys fail without being normalised. The filter never rejects a value which would be found.
+   * It relies on the normalisation only removing chars, as the default and every {@link StringNormalizer} do, and is
+   * therefore not used if {@link #overridesNormalize()} is true.
+   * Like {@link #normalizer()} it is called while the parser is still being constructed.
+   *
+   * @return true to filter values, worthwhile for parsers seeing many values which are not in their dictionary
+   */
+  protected boolean filterMisses() {
+    return false;
+  }
+
+  /**
+   * Whether {@link #normalize(String)} is overridden to do more than applying the {@link #normalizer()}, so parsing
+   * must call it instead of using the normalizer directly. It is called while the parser is still being constructed.
+   *
+   * @return true if this parser overrides {@link #normalize(String)} and has a normalizer
+   */
+  protected boolean overridesNormalize() {
+    return false;
+  }
+
+  /**
+   * Whether {@link #parse(String)} is overridden, so batches must call it instead of looking up the dictionary directly
+   * and {@link #parseFuzzy(String)} has no fuzzy fallback unless {@link #overridesParseFuzzy()} is true as well.
+   * It is called while the parser is still being constructed.
+   *
+   * @return true if this parser overrides {@link #parse(String)}
+   */
+  protected boolean overridesParse() {
+    return false;
+  }
+
+  /**
+   * Whether {@link #parseFuzzy(String)} is overridden to change fuzzy hits the same way an override of
+   * {@link #parse(String)} changes exact ones. It is called while the parser is still being constructed.
+   *
+   * @return true if this parser overrides {@link #parseFuzzy(String)} to match its override of {@link #parse(String)}
+   */
+  protected boolean overridesParseFuzzy() {
+    return false;
+  }
+
+  /**
+   * Whether {@link #init(Iterator)} is overridden, so entries read from files must be passed to it one by one instead
+   * of being added in bulk. It is called while the parser is still being constructed.
+   *
+   * @return true if this parser overrides {@link #init(Iterator)}
+   */
+  protected boolean overridesInit() {
+    return false;
   }
 
   /**
    * Normalisation of a value used both by adding to the internal dictionary and parsing values.
-   * The default does trim and uppercase the value for Strings, but leaves other types unaltered.
-   * Override this method to provide specific normalisations for parsers.
+   * The default applies the {@link #normalizer()} if there is one, otherwise it does trim and uppercase the value.
+   * Override this method to provide specific normalisations for parsers, together with {@link #overridesNormalize()}
+   * if the parser has a normalizer.
    *
    * @param value the value to be normalised.
    *
    * @return the normalised value
    */
   protected String normalize(String value) {
+    StringNormalizer normalizer = normalizer();
+    if (normalizer != null) {
+      return normalizer.normalize(value);
+    }
     if (value != null) {
       if (!caseSensitive) {
         return StringUtils.trimToNull(value.toUpperCase());
@@ -87,11 +405,22 @@ public class DictionaryBackedParser<V> implements Parsable<V> {
     return value;
   }
 
+  /**
+   * @param value a value of this dictionary
+   *
+   * @return a DEFINITE success for the value, shared by all calls for enum dictionaries
+   */
+  protected final ParseResult<V> success(V value) {
+    ParseResult<V> result = getDictionary().result(value);
+    return result != null ? result : ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, value);
+  }
+
   /**
    * Tries to parse the input data according to its backing dictionary.
    * If no entry in the dictionary can be found the result will be {@link ParseResult.STATUS FAIL} otherwise the
    * result will be a {@link org.gbif.common.parsers.core.ParseResult.CONFIDENCE DEFINITE} {@link ParseResult.STATUS
-   * SUCCESS}.
+   * SUCCESS}. Successful results are shared instances, one per dictionary value.
+   * Subclasses overriding this method must return true from {@link #overridesParse()}.
    *
    * @param input To lookup in the dictionary
    *
@@ -99,12 +428,155 @@ public class DictionaryBackedParser<V> implements Parsable<V> {
    */
   @Override
   public ParseResult<V> parse(String input) {
-    String normed = normalize(input);
-    V value = dictionary.get(normed);
-    if (value == null) {
-      return ParseResult.fail();
-    } else {
-      return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, value);
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      ParseResult<V> result = lookup(input);
+      metrics.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return lookup(input);
+  }
+
+  private ParseResult<V> lookup(String input) {
+    return lookup(input, getDictionary(), directLookup ? normalizer() : null);
+  }
+
+  private ParseResult<V> lookup(String input, FrozenDictionary<V> dict, StringNormalizer normalizer) {
+    ParseResult<V> result = filtered(input, dict) ? null
+      : normalizer != null ? normalizer.lookup(input, dict) : dict.lookup(normalize(input));
+    return result == null ? ParseResult.fail() : result;
+  }
+
+  /**
+   * @return true if the miss filter is used and rejects the input
+   */
+  private boolean filtered(String input, FrozenDictionary<V> dict) {
+    if (filterMisses && dict.missFilter().rejects(input)) {
+      if (ParserMetricsRegistry.ENABLED) {
+        metrics.recordRejection();
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Parses a batch of values like {@link #parse(String)}, but only gets the dictionary once for the whole batch.
+   * Each distinct input is normalised and looked up once, its repeats anywhere in the batch get the same result.
+   * Subclasses overriding {@link #parse(String)}, as told by {@link #overridesParse()}, deduplicate inputs as every
+   * other parser does.
+   */
+  @Override
+  public void parseInto(String[] inputs, ParseResult<V>[] results) {
+    if (!dictionaryParse) {
+      Parsable.super.parseInto(inputs, results);
+      return;
+    }
+    if (results.length < inputs.length) {
+      throw new IllegalArgumentException("Results array is shorter than the inputs");
+    }
+    final FrozenDictionary<V> dict = getDictionary();
+    final StringNormalizer normalizer = directLookup ? normalizer() : null;
+    final Map<String, ParseResult<V>> parsed = new HashMap<>();
+    for (int i = 0; i < inputs.length; i++) {
+      // each value is timed on its own, so slow values show up in the latency histogram
+      final long start = ParserMetricsRegistry.ENABLED ? System.nanoTime() : 0;
+      final String input = inputs[i];
+      if (input == null) {
+        results[i] = lookup(null, dict, normalizer);
+      } else if (i > 0 && input.equals(inputs[i - 1])) {
+        // runs of the same value are common and need no hashing
+        results[i] = results[i - 1];
+      } else {
+        ParseResult<V> result = parsed.get(input);
+        if (result == null) {
+          result = lookup(input, dict, normalizer);
+          parsed.put(input, result);
+        }
+        results[i] = result;
+      }
+      if (ParserMetricsRegistry.ENABLED) {
+        metrics.record(results[i], System.nanoTime() - start);
+      }
+    }
+  }
+
+  /**
+   * Parses like {@link #parse(String)}, but if the input is not found falls back to the dictionary key with the fewest
+   * edits, e.g. to parse "Germnay" or "holotpye". An edit is inserting, deleting or replacing a char or swapping two
+   * adjacent chars. Normalised inputs of at least 4 chars allow one edit, those of at least 8 chars two.
+   * <p>
+   * A key one edit away is a PROBABLE, one two edits away a POSSIBLE {@link FuzzyParseResult} which also tells the
+   * matched key and distance. If keys of different values are equally close the result fails with these values as
+   * alternatives. The index of the keys needed is built on the first fuzzy lookup.
+   * <p>
+   * The dictionary values of fuzzy hits are returned as they are. A subclass overriding {@link #parse(String)} to
+   * change the values must override this method to change them the same way and return true from
+   * {@link #overridesParseFuzzy()}, otherwise there is no fuzzy fallback.
+   *
+   * @param input To lookup in the dictionary
+   *
+   * @return the exact or closest replacement from the dictionary
+   */
+  public ParseResult<V> parseFuzzy(String input) {
+    ParseResult<V> result = parse(input);
+    if (result.isSuccessful() || input == null || !fuzzyParse) {
+      return result;
     }
+    String normalised = normalize(input);
+    if (normalised == null) {
+      return result;
+    }
+    int maxDistance = Math.min(FuzzyIndex.MAX_DISTANCE, normalised.length() / CHARS_PER_EDIT);
+    if (maxDistance == 0) {
+      return result;
+    }
+    ParseResult<V> fuzzy = getDictionary().fuzzyIndex().lookup(normalised, maxDistance);
+    return fuzzy == null ? result : fuzzy;
+  }
+
+  /**
+   * Parses the longest dictionary key the normalised input starts with, e.g. to find the value for "nom. nov. 1820".
+   * This is a single walk along the input with {@link Storage#TRIE}, and a lookup per prefix length otherwise.
+   *
+   * @param input To lookup in the dictionary
+   *
+   * @return the DEFINITE success for the longest matching key or a failure
+   */
+  protected ParseResult<V> parseLongestPrefix(String input) {
+    ParseResult<V> result = getDictionary().lookupLongestPrefix(normalize(input));
+    return result == null ? ParseResult.fail() : result;
+  }
+
+  /**
+   * @return the class of the parser as its serialised form
+   *
+   * @throws ObjectStreamException if this is not the shared instance of its class
+   */
+  protected final Object writeReplace() throws ObjectStreamException {
+    return SerializedParser.of(this);
+  }
+
+  /**
+   * How a frozen dictionary keeps its keys.
+   */
+  public enum Storage {
+    /**
+     * A hash table, the fastest for exact lookups.
+     */
+    HASH,
+    /**
+     * A trie sharing common key prefixes, which also finds the longest key an input starts with in a single pass.
+     */
+    TRIE,
+    /**
+     * A hash table of UTF-8 keys outside of the Java heap, for large dictionaries of long lived parsers.
+     * Lookups are somewhat slower than with {@link #HASH}, but the keys are neither scanned by the garbage collector
+     * nor part of heap dumps. If the system property {@code org.gbif.common.parsers.offheap.dir} names a directory,
+     * the table is a file memory mapped by all JVMs of the host building the same dictionary.
+     * Applications can keep the dictionaries of any parsers off heap with the
+     * {@value DictionaryBackedParser#OFF_HEAP_PROPERTY} property.
+     */
+    OFF_HEAP
   }
 }
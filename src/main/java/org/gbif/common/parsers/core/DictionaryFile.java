@@ -0,0 +1,189 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The entries of a tab delimited dictionary file with a key and a value per line.
+ * <p>
+ * The file is read into a single byte array, which is scanned for tabs and line ends directly. Keys and values are
+ * trimmed on the bytes and decoded from UTF-8 once. Blank lines, comments and keys without a value, e.g.
+ * {@code "eggs<tab>"}, are skipped. Other lines without exactly a key and a value are skipped with a warning naming
+ * the line, as they are most likely typos.
+ */
+final class DictionaryFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DictionaryFile.class);
+
+  private final List<String> keys = new ArrayList<>();
+  private final List<String> values = new ArrayList<>();
+  private final List<String> errors = new ArrayList<>();
+
+  private DictionaryFile() {
+  }
+
+  /**
+   * Reads and closes the input.
+   *
+   * @param commentMarker marker identifying a commented line (e.g. #) or null to read all lines
+   * @param name          names the file in warnings
+   */
+  static DictionaryFile read(InputStream input, @Nullable String commentMarker, String name) throws IOException {
+    byte[] bytes;
+    try (InputStream in = input) {
+      bytes = DictionarySnapshot.readFully(in);
+    }
+    DictionaryFile file = new DictionaryFile();
+    file.scan(bytes, commentMarker == null ? null : commentMarker.getBytes(StandardCharsets.UTF_8));
+    for (String error : file.errors) {
+      LOG.warn("Skipping {} of dictionary {}", error, name);
+    }
+    return file;
+  }
+
+  private void scan(byte[] bytes, byte[] commentMarker) {
+    final int length = bytes.length;
+    // a byte order mark is not part of the first key
+    int pos = length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF ? 3 : 0;
+    int line = 0;
+    while (pos < length) {
+      line++;
+      int firstTab = -1;
+      int secondTab = -1;
+      int end = pos;
+      for (byte b; end < length && (b = bytes[end]) != '\n' && b != '\r'; end++) {
+        if (b == '\t') {
+          if (firstTab < 0) {
+            firstTab = end;
+          } else if (secondTab < 0) {
+            secondTab = end;
+          }
+        }
+      }
+      if (!isComment(bytes, pos, end, commentMarker)) {
+        readLine(bytes, pos, end, firstTab, secondTab, line);
+      }
+      // \n, \r and \r\n end a line
+      pos = end;
+      if (pos < length && bytes[pos] == '\r') {
+        pos++;
+      }
+      if (pos < length && bytes[pos] == '\n') {
+        pos++;
+      }
+    }
+  }
+
+  private void readLine(byte[] bytes, int start, int end, int firstTab, int secondTab, int line) {
+    if (isBlank(bytes, start, end)) {
+      return;
+    }
+    if (firstTab < 0) {
+      errors.add("line " + line + " without a tab");
+      return;
+    }
+    // further columns may only be empty
+    if (secondTab >= 0) {
+      for (int i = secondTab; i < end; i++) {
+        if (bytes[i] != '\t') {
+          errors.add("line " + line + " with more than two columns");
+          return;
+        }
+      }
+    }
+    String key = decodeTrimmed(bytes, start, firstTab);
+    if (key == null) {
+      errors.add("line " + line + " without a key");
+      return;
+    }
+    String value = decodeTrimmed(bytes, firstTab + 1, secondTab < 0 ? end : secondTab);
+    if (value != null) {
+      keys.add(key);
+      values.add(value);
+    }
+  }
+
+  private static boolean isComment(byte[] bytes, int start, int end, byte[] commentMarker) {
+    if (commentMarker == null || end - start < commentMarker.length) {
+      return false;
+    }
+    for (int i = 0; i < commentMarker.length; i++) {
+      if (bytes[start + i] != commentMarker[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Whitespace like {@link String#trim()} does, bytes of multibyte UTF-8 chars are never below a space.
+   */
+  private static boolean isWhitespace(byte b) {
+    return (b & 0xFF) <= ' ';
+  }
+
+  private static boolean isBlank(byte[] bytes, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!isWhitespace(bytes[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the trimmed text or null if it is blank
+   */
+  private static String decodeTrimmed(byte[] bytes, int start, int end) {
+    while (start < end && isWhitespace(bytes[start])) {
+      start++;
+    }
+    while (end > start && isWhitespace(bytes[end - 1])) {
+      end--;
+    }
+    return start == end ? null : new String(bytes, start, end - start, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the keys in the order of the file
+   */
+  List<String> keys() {
+    return Collections.unmodifiableList(keys);
+  }
+
+  /**
+   * @return the values, same index as the keys
+   */
+  List<String> values() {
+    return Collections.unmodifiableList(values);
+  }
+
+  /**
+   * @return the skipped lines which were neither blank, comments nor keys without a value
+   */
+  List<String> errors() {
+    return Collections.unmodifiableList(errors);
+  }
+}
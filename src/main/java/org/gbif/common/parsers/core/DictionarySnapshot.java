@@ -0,0 +1,272 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prebuilt dictionaries of enum parsers, so they do not need to read and normalise their sources on startup.
+ * <p>
+ * The build runs {@link #main(String[])} in a JVM of its own after compiling, which writes the frozen dictionary of
+ * every enum parser in the {@link ParserRegistry} to {@code /dictionaries/snapshot/<parser class>.bin}. A snapshot
+ * holds the sorted normalised keys with the ordinal of their value and ends with a CRC32 checksum.
+ * <p>
+ * The build also writes a {@link #stamp} of the artifact version and the checksums of all dictionary files to
+ * {@code /dictionaries/snapshot/stamp}, and every snapshot holds the stamp it was written with. Every snapshot also
+ * holds the {@link #normalization} of its parser, i.e. the configuration of its {@link StringNormalizer} and the Java
+ * version, whose locale and Unicode data the normalised keys depend on. Both are compared on startup without reading
+ * any sources. A parser whose snapshot is intact, has the stamp of the snapshots on the classpath, the normalization of
+ * the running parser and was written for the same enum constants is built from it without reading any of its sources.
+ * Otherwise, e.g. for a snapshot left over from another build, changed normalizers compiled without writing the
+ * snapshots again or another JDK, a warning is logged and it is built from its sources as before. Set the system
+ * property {@value #PROPERTY} to false to ignore all snapshots.
+ */
+public final class DictionarySnapshot {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DictionarySnapshot.class);
+
+  /**
+   * System property to disable the use of snapshots.
+   */
+  public static final String PROPERTY = "org.gbif.common.parsers.snapshots";
+
+  static final String RESOURCE_DIR = "dictionaries/snapshot/";
+  static final String STAMP = RESOURCE_DIR + "stamp";
+  private static final String SOURCE_DIR = "dictionaries/";
+  private static final int MAGIC = 0x47424644; // "GBFD"
+  private static final int FORMAT_VERSION = 4;
+
+  private DictionarySnapshot() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Writes the snapshots of all registered enum parsers and their stamp. The parsers must be built from their sources,
+   * so this needs to run with snapshots disabled.
+   *
+   * @param args the directory to write the dictionaries/snapshot folder to, usually target/classes, and the version of
+   *             the artifact
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("Usage: DictionarySnapshot <output directory> <version>");
+    }
+    if (enabled()) {
+      throw new IllegalStateException("Snapshots must be written with -D" + PROPERTY + "=false");
+    }
+    Path classes = Paths.get(args[0]);
+    String stamp = stamp(args[1], classes);
+    Path dir = classes.resolve(RESOURCE_DIR);
+    Files.createDirectories(dir);
+    Files.deleteIfExists(classes.resolve(STAMP));
+    for (Class<?> vocabulary : ParserRegistry.vocabularies()) {
+      Parsable<?> parser = ParserRegistry.lookup(vocabulary);
+      if (vocabulary.isEnum() && parser instanceof EnumParser) {
+        try (OutputStream out = Files.newOutputStream(dir.resolve(parser.getClass().getName() + ".bin"))) {
+          write((EnumParser<?>) parser, stamp, out);
+        }
+        LOG.info("Wrote dictionary snapshot of {}", parser.getClass().getSimpleName());
+      }
+    }
+    // written last, so an interrupted build leaves no stamp and no snapshot is used
+    Files.write(classes.resolve(STAMP), stamp.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * The version of the artifact and a checksum of the names and content of all files in the dictionaries folder but
+   * the snapshots, so snapshots of another build or written from other dictionary files have another stamp.
+   */
+  static String stamp(String version, Path classes) throws IOException {
+    Path sources = classes.resolve(SOURCE_DIR);
+    Path snapshots = classes.resolve(RESOURCE_DIR);
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(sources)) {
+      files = walk.filter(Files::isRegularFile)
+        .filter(p -> !p.startsWith(snapshots))
+        .sorted()
+        .collect(Collectors.toList());
+    }
+    CRC32 crc = new CRC32();
+    for (Path file : files) {
+      crc.update(sources.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+      crc.update(0);
+      crc.update(Files.readAllBytes(file));
+    }
+    return String.format("%s %08x", version, crc.getValue());
+  }
+
+  /**
+   * Writes the frozen dictionary of an enum parser.
+   */
+  static <T extends Enum<T>> void write(EnumParser<T> parser, String stamp, OutputStream out) throws IOException {
+    Map<String, T> entries = new TreeMap<>();
+    parser.frozenDictionary().forEach(entries::put);
+    Class<T> enumClass = parser.getEnumClass();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream data = new DataOutputStream(bytes);
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    data.writeUTF(stamp);
+    data.writeUTF(normalization(parser));
+    data.writeUTF(enumClass.getName());
+    data.writeInt(fingerprint(enumClass));
+    data.writeInt(entries.size());
+    for (Map.Entry<String, T> e : entries.entrySet()) {
+      data.writeUTF(e.getKey());
+      data.writeShort(e.getValue().ordinal());
+    }
+    data.flush();
+    CRC32 crc = new CRC32();
+    crc.update(bytes.toByteArray());
+    data.writeInt((int) crc.getValue());
+    data.flush();
+    bytes.writeTo(out);
+  }
+
+  /**
+   * The configuration of the normalizer of a parser and the Java version, which both decide the normalised keys.
+   * Normalisations overriding {@link DictionaryBackedParser#normalize(String)} are only covered by the stamp.
+   */
+  static String normalization(DictionaryBackedParser<?> parser) {
+    StringNormalizer normalizer = parser.normalizer();
+    String configuration = normalizer == null ? "default" : normalizer.configuration();
+    return configuration + "; java " + System.getProperty("java.version");
+  }
+
+  /**
+   * Reads the snapshot of a parser from the classpath. It is called while the parser is constructed, before any entry
+   * is added.
+   *
+   * @return the normalised dictionary entries or null if there is no valid snapshot or snapshots are disabled
+   */
+  static <T extends Enum<T>> Map<String, T> read(EnumParser<T> parser) {
+    if (!enabled() || Stamp.VALUE == null) {
+      return null;
+    }
+    Class<?> parserClass = parser.getClass();
+    try (InputStream in = parserClass.getResourceAsStream("/" + RESOURCE_DIR + parserClass.getName() + ".bin")) {
+      if (in == null) {
+        return null;
+      }
+      Map<String, T> entries = read(in, parser.getEnumClass(), Stamp.VALUE, normalization(parser));
+      if (entries == null) {
+        LOG.warn("Ignoring stale dictionary snapshot of {}", parserClass.getSimpleName());
+      }
+      return entries;
+    } catch (IOException e) {
+      LOG.warn("Cannot read dictionary snapshot of {}: {}", parserClass.getSimpleName(), e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * @return the entries of the snapshot or null if it is corrupt, has another stamp or normalization or was written for
+   * other enum constants
+   */
+  static <T extends Enum<T>> Map<String, T> read(InputStream in, Class<T> enumClass, String stamp,
+                                                 String normalization) throws IOException {
+    byte[] bytes = readFully(in);
+    if (bytes.length < 4) {
+      return null;
+    }
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length - 4);
+    DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+    data.skipBytes(bytes.length - 4);
+    if (data.readInt() != (int) crc.getValue()) {
+      return null;
+    }
+
+    data = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4));
+    if (data.readInt() != MAGIC
+        || data.readInt() != FORMAT_VERSION
+        || !data.readUTF().equals(stamp)
+        || !data.readUTF().equals(normalization)
+        || !data.readUTF().equals(enumClass.getName())
+        || data.readInt() != fingerprint(enumClass)) {
+      return null;
+    }
+    T[] constants = enumClass.getEnumConstants();
+    int size = data.readInt();
+    Map<String, T> entries = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      String key = data.readUTF();
+      entries.put(key, constants[data.readUnsignedShort()]);
+    }
+    return entries;
+  }
+
+  static byte[] readFully(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    byte[] buffer = new byte[64 * 1024];
+    int n;
+    while ((n = in.read(buffer)) > 0) {
+      out.write(buffer, 0, n);
+    }
+    return out.toByteArray();
+  }
+
+  private static boolean enabled() {
+    return Boolean.parseBoolean(System.getProperty(PROPERTY, "true"));
+  }
+
+  /**
+   * A checksum of the enum constant names, so a snapshot is not used with another version of the enum.
+   */
+  private static int fingerprint(Class<? extends Enum<?>> enumClass) {
+    CRC32 crc = new CRC32();
+    for (Enum<?> constant : enumClass.getEnumConstants()) {
+      crc.update(constant.name().getBytes(StandardCharsets.UTF_8));
+      crc.update(0);
+    }
+    return (int) crc.getValue();
+  }
+
+  /**
+   * The stamp of the snapshots on the classpath, read once.
+   */
+  private static final class Stamp {
+    private static final String VALUE = readStamp();
+
+    private static String readStamp() {
+      try (InputStream in = DictionarySnapshot.class.getResourceAsStream("/" + STAMP)) {
+        return in == null ? null : new String(readFully(in), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+        LOG.warn("Cannot read dictionary snapshot stamp: {}", e.getMessage());
+        return null;
+      }
+    }
+  }
+}
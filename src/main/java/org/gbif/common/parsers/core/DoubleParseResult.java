@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.OccurrenceIssue;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The result of parsing a double, optionally with an accuracy, without boxing the numbers.
+ * <p>
+ * A missing number is {@link Double#NaN}: the value of a failed result and the accuracy of a result without one.
+ * Issues are bits of {@link OccurrenceParseResult#issueBit(OccurrenceIssue)}.
+ */
+public final class DoubleParseResult {
+
+  private static final DoubleParseResult FAIL =
+    new DoubleParseResult(ParseResult.STATUS.FAIL, null, Double.NaN, Double.NaN, 0);
+
+  private final ParseResult.STATUS status;
+  private final ParseResult.CONFIDENCE confidence;
+  private final double value;
+  private final double accuracy;
+  private final long issueMask;
+
+  private DoubleParseResult(ParseResult.STATUS status, ParseResult.CONFIDENCE confidence, double value,
+                            double accuracy, long issueMask) {
+    this.status = status;
+    this.confidence = confidence;
+    this.value = value;
+    this.accuracy = accuracy;
+    this.issueMask = issueMask;
+  }
+
+  public static DoubleParseResult success(ParseResult.CONFIDENCE confidence, double value) {
+    return new DoubleParseResult(ParseResult.STATUS.SUCCESS, confidence, value, Double.NaN, 0);
+  }
+
+  /**
+   * @param accuracy the accuracy, NaN if unknown, stored as its absolute value
+   */
+  public static DoubleParseResult success(ParseResult.CONFIDENCE confidence, double value, double accuracy,
+                                          long issueMask) {
+    return new DoubleParseResult(ParseResult.STATUS.SUCCESS, confidence, value, Math.abs(accuracy), issueMask);
+  }
+
+  /**
+   * @return the shared failure without issues
+   */
+  public static DoubleParseResult fail() {
+    return FAIL;
+  }
+
+  public static DoubleParseResult fail(long issueMask) {
+    return issueMask == 0 ? FAIL : new DoubleParseResult(ParseResult.STATUS.FAIL, null, Double.NaN, Double.NaN, issueMask);
+  }
+
+  public ParseResult.STATUS getStatus() {
+    return status;
+  }
+
+  public ParseResult.CONFIDENCE getConfidence() {
+    return confidence;
+  }
+
+  public boolean isSuccessful() {
+    return status == ParseResult.STATUS.SUCCESS;
+  }
+
+  /**
+   * @return the parsed value, NaN if parsing failed
+   */
+  public double getValue() {
+    return value;
+  }
+
+  /**
+   * @return the accuracy of the value, NaN if unknown
+   */
+  public double getAccuracy() {
+    return accuracy;
+  }
+
+  public boolean hasAccuracy() {
+    return !Double.isNaN(accuracy);
+  }
+
+  public long getIssueMask() {
+    return issueMask;
+  }
+
+  public boolean hasIssue(OccurrenceIssue issue) {
+    final int ordinal = issue.ordinal();
+    return ordinal < OccurrenceParseResult.MASK_BITS && (issueMask & (1L << ordinal)) != 0;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+      .append("status", status)
+      .append("confidence", confidence)
+      .append("value", value)
+      .append("accuracy", accuracy)
+      .append("issueMask", Long.toBinaryString(issueMask)).toString();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A dictionary encoded column: the distinct values of the column and for every row the index of its value.
+ * <p>
+ * Arrays are shared, not copied, so they must not be modified while the column is in use. Parsing an encoded column
+ * with {@link Parsable#parseColumn(EncodedColumn)} only parses the distinct values and keeps the row indexes as they
+ * are.
+ *
+ * @param <V> the type of the values
+ */
+public final class EncodedColumn<V> {
+
+  private final V[] values;
+  private final int[] indexes;
+
+  /**
+   * @param values  the distinct values
+   * @param indexes the index into values for each row
+   */
+  public EncodedColumn(V[] values, int[] indexes) {
+    this.values = values;
+    this.indexes = indexes;
+  }
+
+  /**
+   * Encodes a column given row by row.
+   */
+  public static EncodedColumn<String> encode(String[] rows) {
+    Map<String, Integer> distinct = new HashMap<>();
+    int[] indexes = new int[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      indexes[i] = distinct.computeIfAbsent(rows[i], v -> distinct.size());
+    }
+    String[] values = new String[distinct.size()];
+    for (Map.Entry<String, Integer> v : distinct.entrySet()) {
+      values[v.getValue()] = v.getKey();
+    }
+    return new EncodedColumn<>(values, indexes);
+  }
+
+  /**
+   * @return the distinct values
+   */
+  public V[] getValues() {
+    return values;
+  }
+
+  /**
+   * @return the index into the values for each row
+   */
+  public int[] getIndexes() {
+    return indexes;
+  }
+
+  /**
+   * @return the number of rows
+   */
+  public int size() {
+    return indexes.length;
+  }
+
+  /**
+   * @return the value of a row
+   */
+  public V get(int row) {
+    return values[indexes[row]];
+  }
+
+  /**
+   * @param newValues replacements for the distinct values, index by index
+   *
+   * @return a column with the same rows holding the new values
+   */
+  public <R> EncodedColumn<R> withValues(R[] newValues) {
+    if (newValues.length != values.length) {
+      throw new IllegalArgumentException("Expected " + values.length + " values, got " + newValues.length);
+    }
+    return new EncodedColumn<>(newValues, indexes);
+  }
+}
@@ -17,11 +17,11 @@ import org.gbif.api.util.VocabularyUtils;
 
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Generic parser for enumerations making use of our vocabulary util to lookup an enum value from a string.
@@ -31,28 +31,44 @@ import org.apache.commons.lang3.StringUtils;
 public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T> {
 
   private final Class<T> clazz;
-  private final Pattern NORMALIZER;
+  private final boolean allowDigits;
+  /**
+   * @deprecated no longer used by this parser, values are folded by its {@link StringNormalizer}.
+   * Use {@link ASCIIParser#getInstance()} instead.
+   */
+  @Deprecated
   protected final ASCIIParser asciiParser = ASCIIParser.getInstance();
 
   // These become null, as after removing non-letters "N/A" might mean something like "Namibia".
   // Only values that could conflict with an enum value need be included.
   // Values are used in uppercase.
-  private final HashSet<String> notAvailable = new HashSet<>(
+  protected static final Set<String> NOT_AVAILABLE = Collections.unmodifiableSet(new HashSet<>(
       Arrays.asList(
           "N/A", "N.A.", "N.A", "N / A", "#N/A", "[N/A]", "(N/A)", // Not available
           "N/K", "N.K.", "N.K", "N / K", "#N/K", "[N/K]", "(N/K)", // Not known
           "UNK.", "UNK" // Unknown
-      ));
+      )));
+
+  private static final StringNormalizer LETTERS = enumNormalizer(false).build();
+  private static final StringNormalizer LETTERS_AND_NUMBERS = enumNormalizer(true).build();
 
   protected EnumParser(Class<T> clazz, boolean allowDigits, final InputStream... inputs) {
-    super(false);
+    this(clazz, allowDigits, Storage.HASH, inputs);
+  }
 
-    if (allowDigits) {
-      NORMALIZER = Pattern.compile("[^\\p{IsAlphabetic}♀♂\\p{N}]+");
-    } else {
-      NORMALIZER = Pattern.compile("[^\\p{IsAlphabetic}♀♂]+");
-    }
+  /**
+   * @param storage how to keep the dictionary, a trie takes less memory for large dictionaries
+   */
+  protected EnumParser(Class<T> clazz, boolean allowDigits, Storage storage, final InputStream... inputs) {
+    super(false, storage);
+
+    this.allowDigits = allowDigits;
     this.clazz = clazz;
+    // a snapshot written by the same build makes all further additions unnecessary
+    Map<String, T> snapshot = DictionarySnapshot.read(this);
+    if (snapshot != null) {
+      freeze(snapshot);
+    }
     // init dicts
     addEnumValues();
 
@@ -72,13 +88,26 @@ public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T>
     }
   }
 
-  @Override
-  protected String normalize(String value) {
-    if (StringUtils.isEmpty(handleNotAvailable(value))) return null;
+  /**
+   * The normalisation of all enum parsers: placeholders like "n/a" become null, then values are converted to ASCII
+   * and uppercased keeping only letters and optionally numbers.
+   * Subclasses can add steps to it for their own {@link #normalizer()}.
+   */
+  protected static StringNormalizer.Builder enumNormalizer(boolean allowDigits) {
+    StringNormalizer.Builder builder = StringNormalizer.builder()
+        .nullIf(NOT_AVAILABLE)
+        .foldToAscii()
+        .keepAlphabetic()
+        .keepChars("♀♂");
+    if (allowDigits) {
+      builder.keepNumbers();
+    }
+    return builder.upperCase();
+  }
 
-    // convert to ascii
-    ParseResult<String> asci = asciiParser.parse(value);
-    return NORMALIZER.matcher(asci.getPayload()).replaceAll("").toUpperCase();
+  @Override
+  protected StringNormalizer normalizer() {
+    return allowDigits ? LETTERS_AND_NUMBERS : LETTERS;
   }
 
   /**
@@ -89,7 +118,11 @@ public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T>
     if (value == null) {
       return null;
     }
-    return notAvailable.contains(value.toUpperCase(Locale.ENGLISH)) ? null : value;
+    return NOT_AVAILABLE.contains(value.toUpperCase(Locale.ENGLISH)) ? null : value;
+  }
+
+  Class<T> getEnumClass() {
+    return clazz;
   }
 
   @Override
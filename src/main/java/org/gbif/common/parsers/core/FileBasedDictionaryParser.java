@@ -13,134 +13,116 @@
  */
 package org.gbif.common.parsers.core;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * A very simple Dictionary backed by a tab delimited file.
+ * A very simple Dictionary backed by a tab delimited file, see {@link DictionaryFile} for the format.
+ * <p>
+ * Long running applications can {@link #reload(Path)} fixes to the dictionary from external files of the same format
+ * without a new release.
  */
 public abstract class FileBasedDictionaryParser<T> extends DictionaryBackedParser<T> {
 
+  // the comment marker of the bundled file, also used for reloaded files
+  private String commentMarker;
+
   public FileBasedDictionaryParser(boolean caseSensitive) {
     super(caseSensitive);
   }
 
+  public FileBasedDictionaryParser(boolean caseSensitive, Storage storage) {
+    super(caseSensitive, storage);
+  }
+
   protected void init(InputStream input) {
     init(input, null);
   }
 
   /**
    * Init the parser to read the InputStream and ignore lines starting with the commentMarker.
+   * Malformed lines are skipped with a warning naming the line. Large files have their keys normalised in parallel.
    *
    * @param input
    * @param commentMarker marker identifying a commented line (e.g. #) or null to read all lines
    */
   protected void init(InputStream input, String commentMarker) {
-    init(new Source(input, commentMarker));
-  }
-
-  /**
-   * Returns the value read from the dictionary as an instance of <T>
-   *
-   * @param value
-   * @return
-   */
-  protected abstract T fromDictFile(String value);
-
-  /**
-   * An iterator over a well formed tab file.
-   * Should the file be poorly formed expect runtime exceptions.
-   */
-  class Source implements Iterator<KeyValue<String, T>> {
-
-    private final BufferedReader r;
-    private final Pattern tab = Pattern.compile("\t");
-    private final String commentMarker;
-    private String line = null;
-
-    Source(InputStream file) {
-      this(file, null);
-    }
-
-    Source(InputStream file, String commentMarker) {
-      r = new BufferedReader(new InputStreamReader(file, StandardCharsets.UTF_8));
-      this.commentMarker = commentMarker;
-    }
-
-    @Override
-    public boolean hasNext() {
-      if (line != null) {
-        return true;
-      }
-
+    this.commentMarker = commentMarker;
+    if (isFromSnapshot()) {
       try {
-        // we discard empty or commented lines
-        do {
-          line = r.readLine();
-        } while (line != null && !isValidLine(line));
+        input.close();
       } catch (IOException ignored) {
-        close();
-        return false;
-      }
-
-      if (line == null) {
-        close();
-        return false;
-      } else {
-        return true;
       }
+      return;
     }
-
-    /**
-     * Check if a line is valid or not.
-     * A valid line is not a comment (if configured) and should be in the form "key<tab>value".
-     *
-     * @param line
-     * @return
-     */
-    private boolean isValidLine(String line) {
-      if (line == null) {
-        return false;
-      }
-
-      if (commentMarker != null) {
-        if (line.startsWith(commentMarker)) {
-          return false;
-        }
-      }
-      return (tab.split(line).length == 2);
+    DictionaryFile file;
+    try {
+      file = DictionaryFile.read(input, commentMarker, getClass().getSimpleName());
+    } catch (IOException e) {
+      log.error("Cannot read dictionary of {}: {}", getClass().getSimpleName(), e.getMessage());
+      return;
     }
+    addAll(file.keys(), values(file));
+  }
 
-    @Override
-    public KeyValue<String, T> next() {
-      if (!hasNext()) {
-        throw new NoSuchElementException();
+  /**
+   * Lays the entries of an external tab delimited file over the bundled dictionary, e.g. to add a synonym or fix a
+   * mapping while the application keeps running. A directory is read as all its files in the order of their names,
+   * where the first mapping of a key wins.
+   * <p>
+   * Every reload starts again from the bundled dictionary, so the path should always contain all fixes. The files are
+   * read and the new dictionary is built before it replaces the current one, parsing continues meanwhile without any
+   * lock. If a file cannot be opened the current dictionary is kept.
+   *
+   * @param path a dictionary file or a directory of them
+   *
+   * @return the number of keys of the new dictionary
+   */
+  public int reload(Path path) throws IOException {
+    List<Path> files;
+    if (Files.isDirectory(path)) {
+      try (Stream<Path> list = Files.list(path)) {
+        files = list.filter(Files::isRegularFile)
+          .filter(p -> !p.getFileName().toString().startsWith("."))
+          .sorted()
+          .collect(Collectors.toList());
       }
-
-      String[] atoms = tab.split(line);
-      line = null;
-      return new KeyValue<>(StringUtils.trimToNull(atoms[0]), fromDictFile(StringUtils.trimToNull(atoms[1])));
+    } else {
+      files = Collections.singletonList(path);
     }
 
-    @Override
-    public void remove() {
+    // read everything first, so a broken file does not leave a partial dictionary
+    List<KeyValue<String, T>> entries = new ArrayList<>();
+    for (Path file : files) {
+      DictionaryFile dictionary = DictionaryFile.read(Files.newInputStream(file), commentMarker, file.toString());
+      List<T> values = values(dictionary);
+      for (int i = 0; i < values.size(); i++) {
+        entries.add(new KeyValue<>(dictionary.keys().get(i), values.get(i)));
+      }
     }
+    return replace(entries.iterator());
+  }
 
-    public void close() {
-      if (r != null) {
-        try {
-          r.close();
-        } catch (IOException ignored) {
-        }
-      }
+  private List<T> values(DictionaryFile file) {
+    List<T> values = new ArrayList<>(file.values().size());
+    for (String value : file.values()) {
+      values.add(fromDictFile(value));
     }
+    return values;
   }
+
+  /**
+   * Returns the value read from the dictionary as an instance of <T>
+   *
+   * @param value
+   * @return
+   */
+  protected abstract T fromDictFile(String value);
 }
@@ -0,0 +1,236 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable table holding the normalised keys of a {@link DictionaryBackedParser}.
+ * <p>
+ * Values are stored once in a small array and referenced by index from each key; for enum payloads that index is
+ * the ordinal. Each distinct value also gets a single DEFINITE {@link ParseResult} which all lookups return.
+ * Once built a table is never modified and can be shared by any number of threads.
+ * Keys are kept either in an open addressing {@link HashDictionary hash table}, in a {@link TrieDictionary trie} or in
+ * an {@link OffHeapDictionary off heap hash table}.
+ */
+abstract class FrozenDictionary<V> {
+
+  // distinct values, for enums all constants in ordinal order
+  private final V[] values;
+  // the shared DEFINITE success for each value, same index as values
+  private final ParseResult<V>[] results;
+  private final boolean enumValues;
+  // built on the first fuzzy lookup
+  private volatile FuzzyIndex<V> fuzzyIndex;
+  // built on the first filtered lookup
+  private volatile MissFilter missFilter;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  FrozenDictionary(Values<V> values) {
+    this.values = values.distinct();
+    this.enumValues = values.enumValues;
+    this.results = new ParseResult[this.values.length];
+    for (int i = 0; i < this.values.length; i++) {
+      results[i] = ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, this.values[i]);
+    }
+  }
+
+  /**
+   * Builds a hash table from already normalised keys. Keys mapped to null are left out, they would not be found anyway.
+   */
+  static <V> FrozenDictionary<V> of(Map<String, V> entries) {
+    return new HashDictionary<>(entries);
+  }
+
+  /**
+   * Builds a trie from already normalised keys. Keys mapped to null are left out.
+   */
+  static <V> FrozenDictionary<V> trie(Map<String, V> entries) {
+    return new TrieDictionary<>(entries);
+  }
+
+  /**
+   * Builds a hash table kept outside of the Java heap from already normalised keys. Keys mapped to null are left out.
+   *
+   * @param name the name of the dictionary, used for files shared between JVMs
+   */
+  static <V> FrozenDictionary<V> offHeap(Map<String, V> entries, String name) {
+    return new OffHeapDictionary<>(entries, name);
+  }
+
+  /**
+   * @param key the normalised key
+   *
+   * @return the value for the key or null
+   */
+  V get(String key) {
+    ParseResult<V> result = lookup(key);
+    return result == null ? null : result.getPayload();
+  }
+
+  /**
+   * @param key the normalised key
+   *
+   * @return the shared success result for the key or null if the key is unknown
+   */
+  abstract ParseResult<V> lookup(String key);
+
+  /**
+   * @param key the normalised key in chars [0, length)
+   *
+   * @return the shared success result for the key or null if the key is unknown
+   */
+  abstract ParseResult<V> lookup(char[] key, int length);
+
+  /**
+   * @param text normalised text
+   *
+   * @return the shared success result for the longest key the text starts with, the text itself included, or null
+   */
+  abstract ParseResult<V> lookupLongestPrefix(String text);
+
+  /**
+   * @return the shared success result for an enum value of this dictionary, or null if there is none
+   */
+  ParseResult<V> result(V value) {
+    if (enumValues && value != null) {
+      int ordinal = ((Enum<?>) value).ordinal();
+      if (ordinal < values.length && values[ordinal] == value) {
+        return results[ordinal];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the shared success result for a value index, null for a negative index
+   */
+  final ParseResult<V> resultAt(int valueIndex) {
+    return valueIndex < 0 ? null : results[valueIndex];
+  }
+
+  final V valueAt(int valueIndex) {
+    return values[valueIndex];
+  }
+
+  /**
+   * @return the index of the keys for fuzzy lookups, built on first use
+   */
+  final FuzzyIndex<V> fuzzyIndex() {
+    FuzzyIndex<V> index = fuzzyIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = fuzzyIndex;
+        if (index == null) {
+          index = new FuzzyIndex<>(this);
+          fuzzyIndex = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * @return the filter of values which cannot be keys, built on first use
+   */
+  final MissFilter missFilter() {
+    MissFilter filter = missFilter;
+    if (filter == null) {
+      synchronized (this) {
+        filter = missFilter;
+        if (filter == null) {
+          filter = new MissFilter(this);
+          missFilter = filter;
+        }
+      }
+    }
+    return filter;
+  }
+
+  /**
+   * @return the number of keys
+   */
+  abstract int size();
+
+  /**
+   * Calls the action with every key and its value, in no particular order.
+   */
+  abstract void forEach(BiConsumer<String, ? super V> action);
+
+  /**
+   * The distinct values of a dictionary and their indexes.
+   */
+  static final class Values<V> {
+    private final Map<V, Integer> index = new HashMap<>();
+    private final V[] enumConstants;
+    private final boolean enumValues;
+
+    @SuppressWarnings("unchecked")
+    Values(Map<String, V> entries) {
+      enumConstants = (V[]) enumConstants(entries);
+      enumValues = enumConstants != null;
+      if (enumValues) {
+        for (V v : enumConstants) {
+          index.put(v, ((Enum<?>) v).ordinal());
+        }
+      } else {
+        for (V v : entries.values()) {
+          if (v != null) {
+            index.computeIfAbsent(v, x -> index.size());
+          }
+        }
+      }
+    }
+
+    int indexOf(V value) {
+      return index.get(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V[] distinct() {
+      if (enumValues) {
+        return enumConstants;
+      }
+      V[] distinct = (V[]) new Object[index.size()];
+      for (Map.Entry<V, Integer> v : index.entrySet()) {
+        distinct[v.getValue()] = v.getKey();
+      }
+      return distinct;
+    }
+
+    /**
+     * @return the enum constants if all values are constants of the same enum, otherwise null
+     */
+    private static Object[] enumConstants(Map<String, ?> entries) {
+      Class<?> enumClass = null;
+      for (Object v : entries.values()) {
+        if (v == null) {
+          continue;
+        }
+        if (!(v instanceof Enum)) {
+          return null;
+        }
+        Class<?> c = ((Enum<?>) v).getDeclaringClass();
+        if (enumClass == null) {
+          enumClass = c;
+        } else if (enumClass != c) {
+          return null;
+        }
+      }
+      return enumClass == null ? null : enumClass.getEnumConstants();
+    }
+  }
+}
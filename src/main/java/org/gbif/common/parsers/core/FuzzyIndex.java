@@ -0,0 +1,293 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds the keys of a {@link FrozenDictionary} within a small edit distance of a value, using symmetric deletion.
+ * <p>
+ * Two strings are at most n edits apart only if deleting at most n chars from each gives the same string. The index
+ * therefore maps the hash of every string obtained by deleting up to {@link #MAX_DISTANCE} chars of a key to the key.
+ * A lookup deletes up to n chars of the value, collects the keys of all matching hashes and verifies their actual
+ * distance. This takes a few dozen hash probes instead of comparing the value with every key.
+ * Only the first {@value #PREFIX_LENGTH} chars are used for deletions, which keeps the index small; longer keys
+ * sharing such a prefix are told apart by the verification.
+ * <p>
+ * The distance is the optimal string alignment distance, i.e. the Levenshtein distance in which swapping two adjacent
+ * chars counts as a single edit.
+ */
+final class FuzzyIndex<V> {
+
+  static final int MAX_DISTANCE = 2;
+  private static final int PREFIX_LENGTH = 12;
+
+  private final String[] keys;
+  private final List<V> values = new ArrayList<>();
+  // open addressing table of the distinct deletion hashes, per slot the hash << 32 | the index of the hash + 1
+  private final long[] slots;
+  // the postings of hash h are [postingStarts[h], postingStarts[h+1]), each the key index << 2 | deleted chars
+  private final int[] postingStarts;
+  private final int[] postings;
+
+  FuzzyIndex(FrozenDictionary<V> dictionary) {
+    List<String> keyList = new ArrayList<>(dictionary.size());
+    dictionary.forEach((k, v) -> {
+      keyList.add(k);
+      values.add(v);
+    });
+    keys = keyList.toArray(new String[0]);
+
+    // all deletions as hash << 32 | key << 2 | deleted chars, sorted by hash
+    long[][] perKey = new long[keys.length][];
+    int total = 0;
+    for (int k = 0; k < keys.length; k++) {
+      perKey[k] = distinctDeletions(keys[k]);
+      total += perKey[k].length;
+    }
+    long[] all = new long[total];
+    int n = 0;
+    for (int k = 0; k < keys.length; k++) {
+      for (long d : perKey[k]) {
+        all[n++] = (d & 0xFFFFFFFF00000000L) | ((long) k << 2) | (d & 3);
+      }
+    }
+    Arrays.sort(all);
+
+    int distinct = 0;
+    for (int i = 0; i < total; i++) {
+      if (i == 0 || hash(all[i]) != hash(all[i - 1])) {
+        distinct++;
+      }
+    }
+    postingStarts = new int[distinct + 1];
+    postings = new int[total];
+    slots = new long[tableSize(distinct)];
+    final int mask = slots.length - 1;
+    int h = -1;
+    for (int i = 0; i < total; i++) {
+      if (i == 0 || hash(all[i]) != hash(all[i - 1])) {
+        final int hash = hash(all[i]);
+        postingStarts[++h] = i;
+        int slot = spread(hash) & mask;
+        while (slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        slots[slot] = ((long) hash << 32) | (h + 1);
+      }
+      postings[i] = (int) all[i];
+    }
+    postingStarts[distinct] = total;
+  }
+
+  private static int hash(long deletion) {
+    return (int) (deletion >>> 32);
+  }
+
+  private static int tableSize(int size) {
+    int capacity = Integer.highestOneBit(Math.max(size * 2, 1) - 1) << 1;
+    return Math.max(capacity, 2);
+  }
+
+  /**
+   * The finalizer of MurmurHash3. Deletions of similar keys have similar String hashes, which would cluster in the
+   * table with a weaker mix.
+   */
+  private static int spread(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * @return the distinct deletions of a key, for each hash only the one with the fewest chars deleted
+   */
+  private static long[] distinctDeletions(String key) {
+    long[] deletions = deletions(key, MAX_DISTANCE);
+    // sorted by hash and then deleted chars, so the first of each hash has the fewest
+    Arrays.sort(deletions);
+    int distinct = 0;
+    for (int i = 0; i < deletions.length; i++) {
+      if (i == 0 || hash(deletions[i]) != hash(deletions[i - 1])) {
+        deletions[distinct++] = deletions[i];
+      }
+    }
+    return Arrays.copyOf(deletions, distinct);
+  }
+
+  /**
+   * Hashes the prefix of the string with up to the given number of chars deleted. The String.hashCode() of each is
+   * combined from the hashes of the prefixes of the string, so it takes constant time.
+   *
+   * @return per deletion its hash << 32 | the number of chars deleted, possibly with repeated hashes
+   */
+  static long[] deletions(String s, int distance) {
+    final int length = Math.min(s.length(), PREFIX_LENGTH);
+    // prefixes[i] is the hash of the first i chars
+    final int[] prefixes = new int[length + 1];
+    final int[] powers = new int[length + 1];
+    powers[0] = 1;
+    for (int i = 0; i < length; i++) {
+      prefixes[i + 1] = 31 * prefixes[i] + s.charAt(i);
+      powers[i + 1] = 31 * powers[i];
+    }
+
+    long[] deletions = new long[1 + (distance > 0 ? length : 0) + (distance > 1 ? length * (length - 1) / 2 : 0)];
+    int n = 0;
+    deletions[n++] = (long) prefixes[length] << 32;
+    for (int i = 0; distance > 0 && i < length; i++) {
+      final int before = prefixes[i];
+      int hash = before * powers[length - i - 1] + segment(prefixes, powers, i + 1, length);
+      deletions[n++] = ((long) hash << 32) | 1;
+      for (int j = i + 1; distance > 1 && j < length; j++) {
+        hash = (before * powers[j - i - 1] + segment(prefixes, powers, i + 1, j)) * powers[length - j - 1]
+          + segment(prefixes, powers, j + 1, length);
+        deletions[n++] = ((long) hash << 32) | 2;
+      }
+    }
+    return deletions;
+  }
+
+  /**
+   * @return the hash of the chars [from, to)
+   */
+  private static int segment(int[] prefixes, int[] powers, int from, int to) {
+    return prefixes[to] - prefixes[from] * powers[to - from];
+  }
+
+  /**
+   * @param value       the normalised value
+   * @param maxDistance the number of edits allowed, at most {@link #MAX_DISTANCE}
+   *
+   * @return a {@link FuzzyParseResult} for the closest key, a failure listing the values if several keys of different
+   * values are equally close, or null if there is no key within the distance
+   */
+  ParseResult<V> lookup(String value, int maxDistance) {
+    final int mask = slots.length - 1;
+    int bestDistance = maxDistance + 1;
+    int best = -1;
+    List<V> ties = null;
+    // keys verified already and the rows of the distance matrix
+    final long[] seen = new long[(keys.length + 63) >>> 6];
+    final int[] rows = new int[3 * (value.length() + maxDistance + 1)];
+
+    // most misspellings are a single edit away, which needs far fewer deletions, so look for those first
+    for (int within = 1; within <= maxDistance; within++) {
+      for (long deletion : deletions(value, within)) {
+        final int hash = hash(deletion);
+        int h = -1;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+          if (hash(slots[slot]) == hash) {
+            h = (int) slots[slot] - 1;
+            break;
+          }
+        }
+        if (h < 0) {
+          continue;
+        }
+        for (int p = postingStarts[h]; p < postingStarts[h + 1]; p++) {
+          final int k = postings[p] >>> 2;
+          if ((postings[p] & 3) > within || (seen[k >>> 6] & (1L << k)) != 0) {
+            continue;
+          }
+          seen[k >>> 6] |= 1L << k;
+          if (Math.abs(keys[k].length() - value.length()) > maxDistance) {
+            continue;
+          }
+          // one above the best, so an equal distance is a tie
+          final int distance = distance(value, keys[k], bestDistance + 1, rows);
+          if (distance < bestDistance) {
+            bestDistance = distance;
+            best = k;
+            ties = null;
+          } else if (distance == bestDistance && best >= 0 && !values.get(k).equals(values.get(best))) {
+            if (ties == null) {
+              ties = new ArrayList<>();
+              ties.add(values.get(best));
+            }
+            if (!ties.contains(values.get(k))) {
+              ties.add(values.get(k));
+            }
+          }
+        }
+      }
+      // all keys within this distance have been verified
+      if (bestDistance <= within) {
+        break;
+      }
+    }
+
+    if (best < 0) {
+      return null;
+    }
+    if (ties != null) {
+      return new ParseResult<>(ParseResult.STATUS.FAIL, ParseResult.CONFIDENCE.POSSIBLE, null, ties, null);
+    }
+    ParseResult.CONFIDENCE confidence = bestDistance == 0 ? ParseResult.CONFIDENCE.DEFINITE
+      : bestDistance == 1 ? ParseResult.CONFIDENCE.PROBABLE : ParseResult.CONFIDENCE.POSSIBLE;
+    return new FuzzyParseResult<>(confidence, values.get(best), keys[best], bestDistance);
+  }
+
+  /**
+   * The optimal string alignment distance of two strings, computed with three rows of the dynamic programming matrix.
+   *
+   * @return the distance or limit if it is at least limit
+   */
+  static int distance(String a, String b, int limit) {
+    return distance(a, b, limit, new int[3 * (b.length() + 1)]);
+  }
+
+  /**
+   * @param rows room for three rows of b.length() + 1 ints
+   */
+  private static int distance(String a, String b, int limit, int[] rows) {
+    if (Math.abs(a.length() - b.length()) >= limit) {
+      return limit;
+    }
+    final int width = b.length() + 1;
+    int previous2 = 0;
+    int previous = width;
+    int current = 2 * width;
+    for (int j = 0; j < width; j++) {
+      rows[previous + j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      rows[current] = i;
+      int rowMin = i;
+      final char ca = a.charAt(i - 1);
+      for (int j = 1; j < width; j++) {
+        final char cb = b.charAt(j - 1);
+        int d = Math.min(Math.min(rows[previous + j] + 1, rows[current + j - 1] + 1),
+          rows[previous + j - 1] + (ca == cb ? 0 : 1));
+        if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) {
+          d = Math.min(d, rows[previous2 + j - 2] + 1);
+        }
+        rows[current + j] = d;
+        rowMin = Math.min(rowMin, d);
+      }
+      if (rowMin >= limit) {
+        return limit;
+      }
+      int rotate = previous2;
+      previous2 = previous;
+      previous = current;
+      current = rotate;
+    }
+    return Math.min(rows[previous + b.length()], limit);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * A successful result of a fuzzy dictionary lookup, which found a key a few edits away from the normalised input.
+ */
+public class FuzzyParseResult<T> extends ParseResult<T> {
+
+  private final String matchedKey;
+  private final int editDistance;
+
+  public FuzzyParseResult(CONFIDENCE confidence, T payload, String matchedKey, int editDistance) {
+    super(STATUS.SUCCESS, confidence, payload, null, null);
+    this.matchedKey = matchedKey;
+    this.editDistance = editDistance;
+  }
+
+  /**
+   * @return the normalised dictionary key which was matched
+   */
+  public String getMatchedKey() {
+    return matchedKey;
+  }
+
+  /**
+   * @return the number of inserted, deleted, replaced or swapped adjacent chars between the input and the key
+   */
+  public int getEditDistance() {
+    return editDistance;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+      .append("status", getStatus())
+      .append("confidence", getConfidence())
+      .append("payload", getPayload())
+      .append("matchedKey", matchedKey)
+      .append("editDistance", editDistance).toString();
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link FrozenDictionary} using open addressing with linear probing.
+ * <p>
+ * All keys are concatenated into a single char array, so there is no String, entry or boxed hash object per key.
+ */
+final class HashDictionary<V> extends FrozenDictionary<V> {
+
+  // the table is kept at most half full, which keeps probe sequences short
+  private static final int LOAD_FACTOR_INVERSE = 2;
+
+  // entry index + 1 per slot, 0 for an empty slot
+  private final int[] slots;
+  // per entry: String.hashCode() of the key, start of the key in keyChars and index into values
+  private final int[] hashes;
+  private final int[] keyOffsets;
+  private final int[] valueIndexes;
+  // all keys concatenated, keyOffsets has a trailing sentinel so key e spans [keyOffsets[e], keyOffsets[e+1])
+  private final char[] keyChars;
+
+  HashDictionary(Map<String, V> entries) {
+    this(entries, new Values<>(entries));
+  }
+
+  private HashDictionary(Map<String, V> entries, Values<V> values) {
+    super(values);
+    int size = 0;
+    int totalLength = 0;
+    for (Map.Entry<String, V> entry : entries.entrySet()) {
+      if (entry.getValue() != null) {
+        size++;
+        totalLength += entry.getKey().length();
+      }
+    }
+
+    hashes = new int[size];
+    keyOffsets = new int[size + 1];
+    valueIndexes = new int[size];
+    keyChars = new char[totalLength];
+    slots = new int[tableSize(size)];
+    final int mask = slots.length - 1;
+
+    int e = 0;
+    int offset = 0;
+    for (Map.Entry<String, V> entry : entries.entrySet()) {
+      if (entry.getValue() == null) {
+        continue;
+      }
+      String key = entry.getKey();
+      key.getChars(0, key.length(), keyChars, offset);
+      keyOffsets[e] = offset;
+      offset += key.length();
+      hashes[e] = key.hashCode();
+      valueIndexes[e] = values.indexOf(entry.getValue());
+
+      int slot = spread(hashes[e]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = e + 1;
+      e++;
+    }
+    keyOffsets[size] = offset;
+  }
+
+  private static int tableSize(int size) {
+    int capacity = Integer.highestOneBit(Math.max(size * LOAD_FACTOR_INVERSE, 1) - 1) << 1;
+    return Math.max(capacity, 2);
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  @Override
+  ParseResult<V> lookup(String key) {
+    if (key == null) {
+      return null;
+    }
+    final int hash = key.hashCode();
+    final int mask = slots.length - 1;
+    for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+      int e = slots[slot] - 1;
+      if (e < 0) {
+        return null;
+      }
+      if (hashes[e] == hash && keyEquals(e, key, key.length())) {
+        return resultAt(valueIndexes[e]);
+      }
+    }
+  }
+
+  @Override
+  ParseResult<V> lookup(char[] key, int length) {
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + key[i];
+    }
+    final int mask = slots.length - 1;
+    for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+      int e = slots[slot] - 1;
+      if (e < 0) {
+        return null;
+      }
+      if (hashes[e] == hash && keyEquals(e, key, length)) {
+        return resultAt(valueIndexes[e]);
+      }
+    }
+  }
+
+  /**
+   * Probes every prefix of the text, their hashes are computed in one pass.
+   */
+  @Override
+  ParseResult<V> lookupLongestPrefix(String text) {
+    if (text == null) {
+      return null;
+    }
+    final int mask = slots.length - 1;
+    ParseResult<V> longest = null;
+    int hash = 0;
+    for (int length = 0; length <= text.length(); length++) {
+      if (length > 0) {
+        hash = 31 * hash + text.charAt(length - 1);
+      }
+      for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+        int e = slots[slot] - 1;
+        if (e < 0) {
+          break;
+        }
+        if (hashes[e] == hash && keyEquals(e, text, length)) {
+          longest = resultAt(valueIndexes[e]);
+          break;
+        }
+      }
+    }
+    return longest;
+  }
+
+  private boolean keyEquals(int e, CharSequence key, int length) {
+    final int start = keyOffsets[e];
+    if (keyOffsets[e + 1] - start != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (keyChars[start + i] != key.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean keyEquals(int e, char[] key, int length) {
+    final int start = keyOffsets[e];
+    if (keyOffsets[e + 1] - start != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (keyChars[start + i] != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  int size() {
+    return hashes.length;
+  }
+
+  @Override
+  void forEach(BiConsumer<String, ? super V> action) {
+    for (int e = 0; e < hashes.length; e++) {
+      action.accept(new String(keyChars, keyOffsets[e], keyOffsets[e + 1] - keyOffsets[e]), valueAt(valueIndexes[e]));
+    }
+  }
+}
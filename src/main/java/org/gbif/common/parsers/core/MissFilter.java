@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+/**
+ * Rejects raw values which cannot be found in a {@link FrozenDictionary}, before they are normalised.
+ * <p>
+ * The normalisations of dictionary parsers trim, upper case and remove chars, but never add any for ASCII values.
+ * The normalised form of an ASCII value is therefore made of chars the value contains, ignoring case, and is not
+ * longer than the value. The filter maps chars to 16 classes and marks every set of classes containing the classes of
+ * some key. An ASCII value is a definite miss if its set of classes is not marked or it is shorter than the shortest
+ * key. Values with other chars pass, as folding or upper casing them can add chars.
+ */
+final class MissFilter {
+
+  private static final int CLASSES = 16;
+  // the class bit of each ASCII char, letters grouped so that each class is about as frequent in names
+  private static final int[] CLASS_BITS = new int[0x80];
+
+  static {
+    String[] letters = {"A", "E", "I", "O", "UY", "R", "N", "S", "T", "L", "CKQX", "BDP", "GHM", "FJVWZ"};
+    // digits and all other chars take the last two classes
+    for (int c = 0; c < CLASS_BITS.length; c++) {
+      CLASS_BITS[c] = Character.isDigit(c) ? 1 << (CLASSES - 2) : 1 << (CLASSES - 1);
+    }
+    for (int i = 0; i < letters.length; i++) {
+      for (char c : letters[i].toCharArray()) {
+        CLASS_BITS[c] = 1 << i;
+        CLASS_BITS[Character.toLowerCase(c)] = 1 << i;
+      }
+    }
+  }
+
+  // one bit per set of classes, set if the set contains the classes of a key
+  private final long[] possible = new long[(1 << CLASSES) / Long.SIZE];
+  private final int minLength;
+
+  MissFilter(FrozenDictionary<?> dictionary) {
+    int[] min = {Integer.MAX_VALUE};
+    dictionary.forEach((key, value) -> {
+      // chars outside ASCII might come from ASCII ones, they do not restrict the values which can match the key
+      int classes = 0;
+      for (int i = 0; i < key.length(); i++) {
+        char c = key.charAt(i);
+        if (c < 0x80) {
+          classes |= CLASS_BITS[c];
+        }
+      }
+      mark(classes);
+      min[0] = Math.min(min[0], key.length());
+    });
+    minLength = min[0];
+    // add every superset of a marked set, one class at a time
+    for (int bit = 1; bit < 1 << CLASSES; bit <<= 1) {
+      for (int set = 0; set < 1 << CLASSES; set++) {
+        if ((set & bit) == 0 && isMarked(set)) {
+          mark(set | bit);
+        }
+      }
+    }
+  }
+
+  private void mark(int set) {
+    possible[set >>> 6] |= 1L << set;
+  }
+
+  private boolean isMarked(int set) {
+    return (possible[set >>> 6] & 1L << set) != 0;
+  }
+
+  /**
+   * @param value the raw value, before normalisation
+   *
+   * @return true if the value is certainly not in the dictionary, false if it might be
+   */
+  boolean rejects(CharSequence value) {
+    if (value == null) {
+      return false;
+    }
+    final int length = value.length();
+    int classes = 0;
+    for (int i = 0; i < length; i++) {
+      final char c = value.charAt(i);
+      if (c >= 0x80) {
+        return false;
+      }
+      classes |= CLASS_BITS[c];
+    }
+    return length < minLength || !isMarked(classes);
+  }
+}
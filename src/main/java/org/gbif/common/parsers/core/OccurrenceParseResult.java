@@ -15,28 +15,57 @@ package org.gbif.common.parsers.core;
 
 import org.gbif.api.vocabulary.OccurrenceIssue;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.AbstractSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * A {@link ParseResult} with the {@link OccurrenceIssue}s found while parsing.
+ * <p>
+ * Issues are kept as bits indexed by their ordinal, so adding, testing and merging them does not allocate.
+ * Issues with an ordinal below {@value #MASK_BITS} fit into a single long mask, see {@link #issueBit(OccurrenceIssue)};
+ * the few others go to an array created on demand. {@link #getIssues()} is a live set view of the bits.
+ */
 public class OccurrenceParseResult<T> extends ParseResult<T> {
-  private final Set<OccurrenceIssue> issues = EnumSet.noneOf(OccurrenceIssue.class);
+
+  /**
+   * The number of issues which can be given as a long mask.
+   */
+  public static final int MASK_BITS = Long.SIZE;
+
+  private static final OccurrenceIssue[] ISSUES = OccurrenceIssue.values();
+
+  // issues with ordinal < MASK_BITS
+  private long issueMask;
+  // issues with ordinal >= MASK_BITS, bit (ordinal - MASK_BITS) of the words, null until the first such issue
+  private long[] moreIssues;
+  // created on the first call of getIssues()
+  private Set<OccurrenceIssue> issueView;
 
   public OccurrenceParseResult(STATUS status, CONFIDENCE confidence, T payload, List<T> alternativePayloads, Throwable error, Collection<OccurrenceIssue> issues) {
     super(status, confidence, payload, alternativePayloads, error);
     if (issues != null) {
       // add non nulls only
-      issues.stream()
-          .filter(Objects::nonNull)
-          .forEach(this.issues::add);
+      for (OccurrenceIssue issue : issues) {
+        if (issue != null) {
+          addIssue(issue);
+        }
+      }
     }
   }
 
+  /**
+   * @param issueMask the issues as bits of {@link #issueBit(OccurrenceIssue)}
+   */
+  public OccurrenceParseResult(STATUS status, CONFIDENCE confidence, T payload, List<T> alternativePayloads, Throwable error, long issueMask) {
+    super(status, confidence, payload, alternativePayloads, error);
+    this.issueMask = issueMask;
+  }
+
   public OccurrenceParseResult(STATUS status, CONFIDENCE confidence, T payload, List<T> alternativePayloads, Throwable error) {
     super(status, confidence, payload, alternativePayloads, error);
   }
@@ -80,11 +109,18 @@ public class OccurrenceParseResult<T> extends ParseResult<T> {
   }
 
   public static <T> OccurrenceParseResult<T> success(CONFIDENCE confidence, T payload, OccurrenceIssue issue) {
-    return new OccurrenceParseResult<>(STATUS.SUCCESS, confidence, payload, null, null, new ArrayList<>(Collections.singletonList(issue)));
+    return withIssue(new OccurrenceParseResult<>(STATUS.SUCCESS, confidence, payload, null, null), issue);
   }
 
   public static <T> OccurrenceParseResult<T> success(CONFIDENCE confidence, T payload, OccurrenceIssue ... issues) {
-    return new OccurrenceParseResult<>(STATUS.SUCCESS, confidence, payload, null, null, new ArrayList<>(Arrays.asList(issues)));
+    return withIssues(new OccurrenceParseResult<>(STATUS.SUCCESS, confidence, payload, null, null), issues);
+  }
+
+  /**
+   * @param issueMask the issues as bits of {@link #issueBit(OccurrenceIssue)}
+   */
+  public static <T> OccurrenceParseResult<T> success(CONFIDENCE confidence, T payload, long issueMask) {
+    return new OccurrenceParseResult<>(STATUS.SUCCESS, confidence, payload, null, null, issueMask);
   }
 
   public static <T> OccurrenceParseResult<T> success(CONFIDENCE confidence, T payload, Collection<OccurrenceIssue> issues) {
@@ -92,11 +128,18 @@ public class OccurrenceParseResult<T> extends ParseResult<T> {
   }
 
   public static <T> OccurrenceParseResult<T> fail(OccurrenceIssue issue) {
-    return new OccurrenceParseResult<>(STATUS.FAIL, null, null, null, null, new ArrayList<>(Collections.singletonList(issue)));
+    return withIssue(new OccurrenceParseResult<>(STATUS.FAIL, null, null, null, null), issue);
   }
 
   public static <T> OccurrenceParseResult<T> fail(OccurrenceIssue ... issues) {
-    return new OccurrenceParseResult<>(STATUS.FAIL, null, null, null, null, new ArrayList<>(Arrays.asList(issues)));
+    return withIssues(new OccurrenceParseResult<>(STATUS.FAIL, null, null, null, null), issues);
+  }
+
+  /**
+   * @param issueMask the issues as bits of {@link #issueBit(OccurrenceIssue)}
+   */
+  public static <T> OccurrenceParseResult<T> fail(long issueMask) {
+    return new OccurrenceParseResult<>(STATUS.FAIL, null, null, null, null, issueMask);
   }
 
   public static <T> OccurrenceParseResult<T> fail(Collection<OccurrenceIssue> issues) {
@@ -117,7 +160,14 @@ public class OccurrenceParseResult<T> extends ParseResult<T> {
   }
 
   public static <T> OccurrenceParseResult<T> fail(T payload, OccurrenceIssue ... issues) {
-    return new OccurrenceParseResult<>(STATUS.FAIL, null, payload, null, null, new ArrayList<>(Arrays.asList(issues)));
+    return withIssues(new OccurrenceParseResult<>(STATUS.FAIL, null, payload, null, null), issues);
+  }
+
+  /**
+   * Like {@link #fail(Object, Collection)} with the issues as bits of {@link #issueBit(OccurrenceIssue)}.
+   */
+  public static <T> OccurrenceParseResult<T> fail(T payload, long issueMask) {
+    return new OccurrenceParseResult<>(STATUS.FAIL, null, payload, null, null, issueMask);
   }
 
   /**
@@ -130,17 +180,199 @@ public class OccurrenceParseResult<T> extends ParseResult<T> {
    * @return the new parse response which has a status of FAIL and an additional payload.
    */
   public static <T> OccurrenceParseResult<T> fail(T payload, OccurrenceIssue issue) {
-    return new OccurrenceParseResult<>(STATUS.FAIL, null, payload, null, null, new ArrayList<>(Collections.singletonList(issue)));
+    return withIssue(new OccurrenceParseResult<>(STATUS.FAIL, null, payload, null, null), issue);
+  }
+
+  // null issues are ignored, like the collection constructor does
+  private static <T> OccurrenceParseResult<T> withIssue(OccurrenceParseResult<T> result, OccurrenceIssue issue) {
+    if (issue != null) {
+      result.addIssue(issue);
+    }
+    return result;
+  }
+
+  private static <T> OccurrenceParseResult<T> withIssues(OccurrenceParseResult<T> result, OccurrenceIssue... issues) {
+    if (issues != null) {
+      for (OccurrenceIssue issue : issues) {
+        withIssue(result, issue);
+      }
+    }
+    return result;
   }
 
+  /**
+   * @return the bit of the issue in a long issue mask
+   *
+   * @throws IllegalArgumentException if the ordinal of the issue is {@value #MASK_BITS} or more
+   */
+  public static long issueBit(OccurrenceIssue issue) {
+    final int ordinal = issue.ordinal();
+    if (ordinal >= MASK_BITS) {
+      throw new IllegalArgumentException(issue + " does not fit into an issue mask");
+    }
+    return 1L << ordinal;
+  }
 
+  /**
+   * @return a modifiable set view of the issues
+   */
   public Set<OccurrenceIssue> getIssues() {
-    return issues;
+    if (issueView == null) {
+      issueView = new IssueSet();
+    }
+    return issueView;
+  }
+
+  /**
+   * @return the issues with an ordinal below {@value #MASK_BITS} as bits of {@link #issueBit(OccurrenceIssue)}
+   */
+  public long getIssueMask() {
+    return issueMask;
+  }
+
+  public boolean hasIssue(OccurrenceIssue issue) {
+    final int ordinal = issue.ordinal();
+    if (ordinal < MASK_BITS) {
+      return (issueMask & (1L << ordinal)) != 0;
+    }
+    final int bit = ordinal - MASK_BITS;
+    return moreIssues != null && (moreIssues[bit >>> 6] & (1L << bit)) != 0;
   }
 
   public void addIssue(OccurrenceIssue issue) {
     Objects.requireNonNull(issue);
-    issues.add(issue);
+    final int ordinal = issue.ordinal();
+    if (ordinal < MASK_BITS) {
+      issueMask |= 1L << ordinal;
+    } else {
+      if (moreIssues == null) {
+        moreIssues = new long[((ISSUES.length - MASK_BITS - 1) >>> 6) + 1];
+      }
+      final int bit = ordinal - MASK_BITS;
+      moreIssues[bit >>> 6] |= 1L << bit;
+    }
+  }
+
+  /**
+   * Adds the issues of a mask of {@link #issueBit(OccurrenceIssue)} bits.
+   */
+  public void addIssues(long issueMask) {
+    this.issueMask |= issueMask;
   }
 
+  /**
+   * Adds all issues of another result.
+   */
+  public void addIssues(OccurrenceParseResult<?> other) {
+    issueMask |= other.issueMask;
+    if (other.moreIssues != null) {
+      if (moreIssues == null) {
+        moreIssues = new long[other.moreIssues.length];
+      }
+      for (int i = 0; i < moreIssues.length; i++) {
+        moreIssues[i] |= other.moreIssues[i];
+      }
+    }
+  }
+
+  private void removeIssue(OccurrenceIssue issue) {
+    final int ordinal = issue.ordinal();
+    if (ordinal < MASK_BITS) {
+      issueMask &= ~(1L << ordinal);
+    } else if (moreIssues != null) {
+      final int bit = ordinal - MASK_BITS;
+      moreIssues[bit >>> 6] &= ~(1L << bit);
+    }
+  }
+
+  /**
+   * Set view of the issue bits, iterating in ordinal order like an EnumSet.
+   */
+  private final class IssueSet extends AbstractSet<OccurrenceIssue> {
+
+    @Override
+    public int size() {
+      int size = Long.bitCount(issueMask);
+      if (moreIssues != null) {
+        for (long word : moreIssues) {
+          size += Long.bitCount(word);
+        }
+      }
+      return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof OccurrenceIssue && hasIssue((OccurrenceIssue) o);
+    }
+
+    @Override
+    public boolean add(OccurrenceIssue issue) {
+      if (hasIssue(issue)) {
+        return false;
+      }
+      addIssue(issue);
+      return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!contains(o)) {
+        return false;
+      }
+      removeIssue((OccurrenceIssue) o);
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      issueMask = 0;
+      moreIssues = null;
+    }
+
+    @Override
+    public Iterator<OccurrenceIssue> iterator() {
+      return new Iterator<OccurrenceIssue>() {
+        private int next = advance(0);
+        private int last = -1;
+
+        private int advance(int from) {
+          int ordinal = from;
+          while (ordinal < ISSUES.length && !hasIssue(ISSUES[ordinal])) {
+            ordinal++;
+          }
+          return ordinal;
+        }
+
+        @Override
+        public boolean hasNext() {
+          return next < ISSUES.length;
+        }
+
+        @Override
+        public OccurrenceIssue next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          last = next;
+          next = advance(next + 1);
+          return ISSUES[last];
+        }
+
+        @Override
+        public void remove() {
+          if (last < 0) {
+            throw new IllegalStateException();
+          }
+          removeIssue(ISSUES[last]);
+          last = -1;
+        }
+      };
+    }
+  }
 }
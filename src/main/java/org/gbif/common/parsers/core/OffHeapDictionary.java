@@ -0,0 +1,439 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link FrozenDictionary} keeping its keys outside of the Java heap, so large and long lived dictionaries are
+ * neither scanned nor copied by the garbage collector.
+ * <p>
+ * The keys are UTF-8 encoded into a single buffer together with an open addressing hash index, the layout being:
+ * <pre>
+ *   header:  slot count, entry count, stamp of the entries, CRC-32 of the slots and entries
+ *   slots:   per slot the offset of an entry + 1, 0 for an empty slot
+ *   entries: per key its String.hashCode(), value index, UTF-8 length and UTF-8 bytes
+ * </pre>
+ * Lookups hash the chars of the input and compare them with the UTF-8 bytes directly, they create no objects.
+ * <p>
+ * The buffer is a direct ByteBuffer, unless the system property {@value #DIRECTORY_PROPERTY} names a directory.
+ * Then the buffer is kept in a file named after the dictionary, which is mapped read only. All JVMs on a host building
+ * the same dictionary map the same file and share its pages, the file being readable by all users. The stamp of the
+ * entries is computed while iterating them and the file is only used if its stamp is the same and its CRC matches its
+ * content, so the layout is not built on the heap for an existing file. Otherwise, e.g. for a reloaded dictionary, the
+ * layout is written to a temporary file which atomically replaces the previous one. JVMs which mapped the previous file
+ * keep using it until they unmap it, so there is a single file per dictionary.
+ * Only the few distinct values stay on the heap.
+ */
+final class OffHeapDictionary<V> extends FrozenDictionary<V> {
+
+  /**
+   * System property naming a directory to share off heap dictionaries between JVMs as memory mapped files.
+   */
+  static final String DIRECTORY_PROPERTY = "org.gbif.common.parsers.offheap.dir";
+
+  // the table is kept at most half full, which keeps probe sequences short
+  private static final int LOAD_FACTOR_INVERSE = 2;
+  private static final int HEADER_BYTES = 24;
+  private static final int STAMP_OFFSET = 8;
+  private static final int CRC_OFFSET = 16;
+  // hash, value index and key length
+  private static final int ENTRY_HEADER_BYTES = 10;
+
+  private final ByteBuffer buffer;
+  private final int slotCount;
+  private final int size;
+
+  OffHeapDictionary(Map<String, V> entries, String name) {
+    this(entries, new Values<>(entries), name);
+  }
+
+  private OffHeapDictionary(Map<String, V> entries, Values<V> values, String name) {
+    super(values);
+    buffer = share(entries, values, name);
+    slotCount = buffer.getInt(0);
+    size = buffer.getInt(4);
+  }
+
+  /**
+   * Writes the index and keys into a heap buffer, which only lives until it is copied or written to a file.
+   */
+  private static <V> ByteBuffer layout(Map<String, V> entries, Values<V> values, long stamp) {
+    int size = 0;
+    int entryBytes = 0;
+    for (Map.Entry<String, V> entry : entries.entrySet()) {
+      if (entry.getValue() != null) {
+        int length = utf8Length(entry.getKey());
+        if (length > Short.MAX_VALUE) {
+          throw new IllegalArgumentException("Key too long for an off heap dictionary: " + length + " bytes");
+        }
+        size++;
+        entryBytes += ENTRY_HEADER_BYTES + length;
+      }
+    }
+    final int slots = tableSize(size);
+    final int mask = slots - 1;
+    final int entriesStart = HEADER_BYTES + slots * 4;
+
+    ByteBuffer layout = ByteBuffer.allocate(entriesStart + entryBytes);
+    layout.putInt(0, slots);
+    layout.putInt(4, size);
+    layout.position(entriesStart);
+    for (Map.Entry<String, V> entry : entries.entrySet()) {
+      if (entry.getValue() == null) {
+        continue;
+      }
+      final String key = entry.getKey();
+      final int offset = layout.position();
+      final int hash = key.hashCode();
+      layout.putInt(hash);
+      layout.putInt(values.indexOf(entry.getValue()));
+      layout.putShort((short) utf8Length(key));
+      putUtf8(layout, key);
+
+      int slot = spread(hash) & mask;
+      while (layout.getInt(HEADER_BYTES + slot * 4) != 0) {
+        slot = (slot + 1) & mask;
+      }
+      layout.putInt(HEADER_BYTES + slot * 4, offset + 1);
+    }
+    layout.putLong(STAMP_OFFSET, stamp);
+    layout.putLong(CRC_OFFSET, crc(layout));
+    layout.clear();
+    return layout;
+  }
+
+  /**
+   * Identifies the entries in the order they are laid out, without encoding them into a buffer.
+   *
+   * @return the CRC-32 of the keys and value indexes in the upper bits and their polynomial hash in the lower bits
+   */
+  private static <V> long stamp(Map<String, V> entries, Values<V> values) {
+    CRC32 crc = new CRC32();
+    long hash = 0;
+    for (Map.Entry<String, V> entry : entries.entrySet()) {
+      if (entry.getValue() != null) {
+        final String key = entry.getKey();
+        final int index = values.indexOf(entry.getValue());
+        update(crc, key.length());
+        for (int i = 0; i < key.length(); i++) {
+          final char c = key.charAt(i);
+          crc.update(c >>> 8);
+          crc.update(c);
+        }
+        update(crc, index);
+        hash = 31 * (31 * hash + key.hashCode()) + index;
+      }
+    }
+    return crc.getValue() << 32 ^ hash;
+  }
+
+  private static void update(CRC32 crc, int value) {
+    crc.update(value >>> 24);
+    crc.update(value >>> 16);
+    crc.update(value >>> 8);
+    crc.update(value);
+  }
+
+  /**
+   * @return the CRC-32 of the slots and entries of a layout
+   */
+  private static long crc(ByteBuffer layout) {
+    ByteBuffer content = layout.duplicate();
+    content.clear().position(HEADER_BYTES);
+    CRC32 crc = new CRC32();
+    crc.update(content);
+    return crc.getValue();
+  }
+
+  /**
+   * @return true if the mapped file has the stamp and is not truncated or corrupted, e.g. by a full disk
+   */
+  private static boolean valid(ByteBuffer mapped, long stamp) {
+    return mapped != null
+      && mapped.capacity() >= HEADER_BYTES
+      && mapped.getLong(STAMP_OFFSET) == stamp
+      && mapped.getLong(CRC_OFFSET) == crc(mapped);
+  }
+
+  /**
+   * @return a direct copy of the layout, or the layout mapped from a shared file if a directory is configured
+   */
+  private static <V> ByteBuffer share(Map<String, V> entries, Values<V> values, String name) {
+    String dir = System.getProperty(DIRECTORY_PROPERTY);
+    if (dir == null || dir.isEmpty()) {
+      ByteBuffer layout = layout(entries, values, 0);
+      return ByteBuffer.allocateDirect(layout.capacity()).put(layout);
+    }
+    final long stamp = stamp(entries, values);
+    Path file = Paths.get(dir).resolve(name + ".dict");
+    try {
+      Files.createDirectories(file.getParent());
+      ByteBuffer mapped = map(file);
+      if (!valid(mapped, stamp)) {
+        // missing, of another version or damaged
+        mapped = write(layout(entries, values, stamp), file, name);
+        if (!valid(mapped, stamp)) {
+          throw new IOException("Content differs from the dictionary written");
+        }
+      }
+      return mapped;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot share off heap dictionary " + file, e);
+    }
+  }
+
+  /**
+   * @return the file mapped read only or null if there is no such file
+   */
+  private static ByteBuffer map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // the mapping stays valid after the channel is closed
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Writes to a temporary file first, which is mapped and then moved over the file, so no other JVM maps a partly
+   * written file and JVMs using the replaced file keep their mapping. The file is readable by all users, so JVMs
+   * running as other users can map it as well.
+   *
+   * @return the written file mapped read only
+   */
+  private static ByteBuffer write(ByteBuffer layout, Path file, String name) throws IOException {
+    Path tmp = Files.createTempFile(file.getParent(), name, ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+        while (layout.hasRemaining()) {
+          channel.write(layout);
+        }
+      }
+      try {
+        Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-r--r--"));
+      } catch (UnsupportedOperationException e) {
+        // not a POSIX file system, the default permissions apply
+      }
+      ByteBuffer mapped = map(tmp);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return mapped;
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private static int tableSize(int size) {
+    int capacity = Integer.highestOneBit(Math.max(size * LOAD_FACTOR_INVERSE, 1) - 1) << 1;
+    return Math.max(capacity, 2);
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  @Override
+  ParseResult<V> lookup(String key) {
+    return key == null ? null : resultAt(find(key.hashCode(), key, null, key.length()));
+  }
+
+  @Override
+  ParseResult<V> lookup(char[] key, int length) {
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + key[i];
+    }
+    return resultAt(find(hash, null, key, length));
+  }
+
+  /**
+   * Probes every prefix of the text, their hashes are computed in one pass.
+   */
+  @Override
+  ParseResult<V> lookupLongestPrefix(String text) {
+    if (text == null) {
+      return null;
+    }
+    int longest = -1;
+    int hash = 0;
+    for (int length = 0; length <= text.length(); length++) {
+      if (length > 0) {
+        hash = 31 * hash + text.charAt(length - 1);
+      }
+      int found = find(hash, text, null, length);
+      if (found >= 0) {
+        longest = found;
+      }
+    }
+    return resultAt(longest);
+  }
+
+  /**
+   * @return the value index of the key, given either as a String or as chars, or -1
+   */
+  private int find(int hash, String string, char[] chars, int length) {
+    final int mask = slotCount - 1;
+    for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+      final int offset = buffer.getInt(HEADER_BYTES + slot * 4) - 1;
+      if (offset < 0) {
+        return -1;
+      }
+      if (buffer.getInt(offset) == hash && keyEquals(offset, string, chars, length)) {
+        return buffer.getInt(offset + 4);
+      }
+    }
+  }
+
+  /**
+   * Compares the UTF-8 key of an entry with the chars [0, length) of the string or char array.
+   */
+  private boolean keyEquals(int offset, String string, char[] chars, int length) {
+    int pos = offset + ENTRY_HEADER_BYTES;
+    final int end = pos + buffer.getShort(offset + 8);
+    int i = 0;
+    while (pos < end) {
+      final int bytes = utf8Bytes(buffer.get(pos));
+      final int cp = codePoint(pos, bytes);
+      if (bytes < 4) {
+        if (i >= length || charAt(string, chars, i) != cp) {
+          return false;
+        }
+        i++;
+      } else {
+        if (i + 1 >= length
+            || charAt(string, chars, i) != Character.highSurrogate(cp)
+            || charAt(string, chars, i + 1) != Character.lowSurrogate(cp)) {
+          return false;
+        }
+        i += 2;
+      }
+      pos += bytes;
+    }
+    return i == length;
+  }
+
+  /**
+   * @return the length of the UTF-8 sequence starting with the byte
+   */
+  private static int utf8Bytes(byte first) {
+    final int b = first & 0xFF;
+    return b < 0x80 ? 1 : b < 0xE0 ? 2 : b < 0xF0 ? 3 : 4;
+  }
+
+  /**
+   * Decodes the UTF-8 sequence of the given length at the position.
+   */
+  private int codePoint(int pos, int bytes) {
+    switch (bytes) {
+      case 1:
+        return buffer.get(pos);
+      case 2:
+        return ((buffer.get(pos) & 0x1F) << 6) | (buffer.get(pos + 1) & 0x3F);
+      case 3:
+        return ((buffer.get(pos) & 0x0F) << 12) | ((buffer.get(pos + 1) & 0x3F) << 6) | (buffer.get(pos + 2) & 0x3F);
+      default:
+        return ((buffer.get(pos) & 0x07) << 18) | ((buffer.get(pos + 1) & 0x3F) << 12)
+          | ((buffer.get(pos + 2) & 0x3F) << 6) | (buffer.get(pos + 3) & 0x3F);
+    }
+  }
+
+  private static char charAt(String string, char[] chars, int i) {
+    return string != null ? string.charAt(i) : chars[i];
+  }
+
+  /**
+   * The UTF-8 length of a string, lone surrogates are encoded on their own in 3 bytes.
+   */
+  private static int utf8Length(String s) {
+    int length = 0;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static void putUtf8(ByteBuffer out, String s) {
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        out.put((byte) c);
+      } else if (c < 0x800) {
+        out.put((byte) (0xC0 | (c >> 6)));
+        out.put((byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, s.charAt(++i));
+        out.put((byte) (0xF0 | (cp >> 18)));
+        out.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+        out.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+        out.put((byte) (0x80 | (cp & 0x3F)));
+      } else {
+        out.put((byte) (0xE0 | (c >> 12)));
+        out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        out.put((byte) (0x80 | (c & 0x3F)));
+      }
+    }
+  }
+
+  /**
+   * @return the number of bytes kept off heap
+   */
+  int offHeapBytes() {
+    return buffer.capacity();
+  }
+
+  @Override
+  int size() {
+    return size;
+  }
+
+  @Override
+  void forEach(BiConsumer<String, ? super V> action) {
+    int offset = HEADER_BYTES + slotCount * 4;
+    StringBuilder key = new StringBuilder();
+    for (int e = 0; e < size; e++) {
+      final int end = offset + ENTRY_HEADER_BYTES + buffer.getShort(offset + 8);
+      key.setLength(0);
+      for (int pos = offset + ENTRY_HEADER_BYTES; pos < end; ) {
+        final int bytes = utf8Bytes(buffer.get(pos));
+        key.appendCodePoint(codePoint(pos, bytes));
+        pos += bytes;
+      }
+      action.accept(key.toString(), valueAt(buffer.getInt(offset + 4)));
+      offset = end;
+    }
+  }
+}
@@ -13,6 +13,11 @@
  */
 package org.gbif.common.parsers.core;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Generic interface to allow multiple parser implementations.
  *
@@ -29,4 +34,65 @@ public interface Parsable<T> {
    * @return The output result of the operation
    */
   ParseResult<T> parse(String input);
+
+  /**
+   * Parses a batch of values, see {@link #parseInto(String[], ParseResult[])}.
+   *
+   * @param inputs To parse
+   *
+   * @return the results in the order of the inputs
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  default List<ParseResult<T>> parseAll(List<String> inputs) {
+    ParseResult<T>[] results = new ParseResult[inputs.size()];
+    parseInto(inputs.toArray(new String[0]), results);
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Parses a dictionary encoded column. Only its distinct values are parsed, with {@link #parseInto(String[],
+   * ParseResult[])}, so the work is proportional to the number of distinct values rather than rows.
+   *
+   * @param column To parse
+   *
+   * @return the results for the distinct values with the row indexes of the column
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  default EncodedColumn<ParseResult<T>> parseColumn(EncodedColumn<String> column) {
+    ParseResult<T>[] results = new ParseResult[column.getValues().length];
+    parseInto(column.getValues(), results);
+    return column.withValues(results);
+  }
+
+  /**
+   * Parses a batch of values, which is usually much faster for the repetitive values of real datasets.
+   * Each distinct input is only parsed once and all its occurrences get the same result instance.
+   *
+   * @param inputs  To parse
+   * @param results Receives the result of inputs[i] at index i, must be at least as long as the inputs
+   *
+   * @throws IllegalArgumentException if the results array is too short
+   */
+  default void parseInto(String[] inputs, ParseResult<T>[] results) {
+    if (results.length < inputs.length) {
+      throw new IllegalArgumentException("Results array is shorter than the inputs");
+    }
+    Map<String, ParseResult<T>> parsed = new HashMap<>();
+    for (int i = 0; i < inputs.length; i++) {
+      final String input = inputs[i];
+      if (input == null) {
+        results[i] = parse(null);
+      } else if (i > 0 && input.equals(inputs[i - 1])) {
+        // runs of the same value are common and need no hashing
+        results[i] = results[i - 1];
+      } else {
+        ParseResult<T> result = parsed.get(input);
+        if (result == null) {
+          result = parse(input);
+          parsed.put(input, result);
+        }
+        results[i] = result;
+      }
+    }
+  }
 }
@@ -33,6 +33,10 @@ public class ParseResult<T> {
     DEFINITE, PROBABLE, POSSIBLE
   }
 
+  // results without payload are immutable, so a single instance of each is shared
+  private static final ParseResult<?> FAIL = new ParseResult<>(STATUS.FAIL, null, null, null, null);
+  private static final ParseResult<?> ERROR = new ParseResult<>(STATUS.ERROR, null, null, null, null);
+
   // the details of the response
   protected final STATUS status;
   protected final CONFIDENCE confidence;
@@ -52,17 +56,19 @@ public class ParseResult<T> {
   }
 
   /**
-   * @return A new parse response with only the status set to FAIL
+   * @return The shared parse response with only the status set to FAIL
    */
+  @SuppressWarnings("unchecked")
   public static <T1> ParseResult<T1> fail() {
-    return new ParseResult<T1>(STATUS.FAIL, null, null, null, null);
+    return (ParseResult<T1>) FAIL;
   }
 
   /**
-   * @return A new parse response configured to indicate an error
+   * @return The shared parse response configured to indicate an error
    */
+  @SuppressWarnings("unchecked")
   public static <T1> ParseResult<T1> error() {
-    return new ParseResult<T1>(STATUS.ERROR, null, null, null, null);
+    return (ParseResult<T1>) ERROR;
   }
 
   /**
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import javax.annotation.Nullable;
+
+/**
+ * Service provider interface to collect metrics of parsers, e.g. hit rates and latencies.
+ * <p>
+ * Metrics are disabled by default. They are enabled by an implementation registered for the {@link
+ * java.util.ServiceLoader} in {@code META-INF/services/org.gbif.common.parsers.core.ParserMetrics}, or with the
+ * built-in {@link DefaultParserMetrics} by setting the system property {@value ParserMetricsRegistry#PROPERTY} to
+ * true. See {@link ParserMetricsRegistry}.
+ */
+public interface ParserMetrics {
+
+  /**
+   * Called once per parser, or per parse method of the parse utilities, e.g. "CountryParser" or
+   * "CoordinateParseUtils.parseLatLng".
+   *
+   * @param parser the name of the parser
+   *
+   * @return the recorder all parses of the parser are reported to, used by any number of threads
+   */
+  Recorder recorder(String parser);
+
+  /**
+   * Receives the outcome of each parse.
+   */
+  interface Recorder {
+
+    /**
+     * @param status     the status of the result
+     * @param confidence the confidence of the result, null if there is none
+     * @param nanos      the time taken
+     */
+    void record(ParseResult.STATUS status, @Nullable ParseResult.CONFIDENCE confidence, long nanos);
+
+    /**
+     * @param result the result of the parse
+     * @param nanos  the time taken
+     */
+    default void record(ParseResult<?> result, long nanos) {
+      record(result.getStatus(), result.getConfidence(), nanos);
+    }
+
+    /**
+     * Called when the dictionary of a parser was replaced while running, see
+     * {@link FileBasedDictionaryParser#reload(java.nio.file.Path)}.
+     *
+     * @param entries the number of keys of the new dictionary
+     */
+    default void recordReload(int entries) {
+    }
+
+    /**
+     * Called when a dictionary parser rejected a value without normalising it, see
+     * {@link DictionaryBackedParser#filterMisses()}. The failed parse is recorded as well.
+     */
+    default void recordRejection() {
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides once, when this class is loaded, which {@link ParserMetrics} are used.
+ * <p>
+ * The first implementation found by the {@link ServiceLoader} is used. If there is none, setting the system property
+ * {@value #PROPERTY} to true uses {@link DefaultParserMetrics}, otherwise metrics are disabled.
+ * Parsers check {@link #ENABLED} before measuring anything. It is a constant, so with metrics disabled the JIT
+ * removes the measuring code altogether.
+ */
+public final class ParserMetricsRegistry {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParserMetricsRegistry.class);
+
+  /**
+   * System property to enable the {@link DefaultParserMetrics}.
+   */
+  public static final String PROPERTY = "org.gbif.common.parsers.metrics";
+
+  private static final ParserMetrics.Recorder NOOP = (status, confidence, nanos) -> { };
+
+  private static final ParserMetrics METRICS = load();
+
+  /**
+   * Whether parsers record metrics.
+   */
+  public static final boolean ENABLED = METRICS != null;
+
+  private ParserMetricsRegistry() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  private static ParserMetrics load() {
+    Iterator<ParserMetrics> providers = ServiceLoader.load(ParserMetrics.class).iterator();
+    if (providers.hasNext()) {
+      ParserMetrics metrics = providers.next();
+      LOG.info("Recording parser metrics with {}", metrics.getClass().getName());
+      return metrics;
+    }
+    if (Boolean.getBoolean(PROPERTY)) {
+      LOG.info("Recording parser metrics with {}", DefaultParserMetrics.class.getName());
+      return new DefaultParserMetrics();
+    }
+    return null;
+  }
+
+  /**
+   * @param parser the name of the parser
+   *
+   * @return the recorder for the parser, one doing nothing if metrics are disabled
+   */
+  public static ParserMetrics.Recorder recorder(String parser) {
+    return ENABLED ? METRICS.recorder(parser) : NOOP;
+  }
+
+  /**
+   * @return the recorder for a parser class, named by its simple name
+   */
+  public static ParserMetrics.Recorder recorder(Class<?> parser) {
+    if (!ENABLED) {
+      return NOOP;
+    }
+    String name = parser.getSimpleName();
+    return METRICS.recorder(name.isEmpty() ? parser.getName() : name);
+  }
+}
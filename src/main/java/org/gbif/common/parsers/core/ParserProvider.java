@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Service provider interface to register parsers with the {@link ParserRegistry}.
+ * <p>
+ * Implementations registered for the {@link java.util.ServiceLoader} in
+ * {@code META-INF/services/org.gbif.common.parsers.core.ParserProvider} are called once, when the registry is first
+ * used. The parsers of this library are registered this way, so the registry does not depend on them.
+ */
+public interface ParserProvider {
+
+  /**
+   * Registers the parsers of the provider with {@link ParserRegistry#register(Class, java.util.function.Supplier)}.
+   */
+  void registerParsers();
+
+  /**
+   * The shared parsers of the provider which are not registered, e.g. those used by other parsers, for
+   * {@link Parsers#preloadAll(java.util.concurrent.Executor)}. Each supplier is called by its own task. Dictionaries of
+   * the parsers it returns are frozen as well.
+   *
+   * @return suppliers of the shared parsers by the name their timing is reported under, a supplier which builds shared
+   * state other than a parser returns null
+   */
+  default Map<String, Supplier<?>> sharedParsers() {
+    return Collections.emptyMap();
+  }
+}
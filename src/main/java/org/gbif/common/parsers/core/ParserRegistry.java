@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Looks up the singleton parser of a vocabulary, e.g. {@code ParserRegistry.lookup(Country.class)} returns the
+ * {@code CountryParser}.
+ * <p>
+ * The parsers of this library and of any other {@link ParserProvider} found by the {@link ServiceLoader} are
+ * registered when the registry is first used, further parsers can be registered at any time. A provider which can't
+ * be loaded, fails or registers a vocabulary that already has a parser is logged and skipped with all its
+ * registrations, so it never breaks the registry itself.
+ * <p>
+ * Lookups never take a lock. The registrations live in a {@link ConcurrentHashMap} and every parser is created lazily
+ * by its own {@code getInstance()}, which uses the initialization-on-demand holder idiom. A parser is therefore only
+ * built the first time it is looked up. A parser whose construction fails, e.g. because its dictionary can't be read,
+ * is not built again: the first lookup throws an {@link ExceptionInInitializerError} and every later one a
+ * {@link NoClassDefFoundError}, for as long as the class loader lives.
+ */
+public final class ParserRegistry {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParserRegistry.class);
+
+  private static final Map<Class<?>, Supplier<? extends Parsable<?>>> PARSERS = new ConcurrentHashMap<>();
+  private static final List<ParserProvider> PROVIDERS = new CopyOnWriteArrayList<>();
+
+  static {
+    load(ServiceLoader.load(ParserProvider.class, ParserRegistry.class.getClassLoader()).iterator());
+  }
+
+  private ParserRegistry() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Registers the parser for a vocabulary that has none yet.
+   * Existing registrations can't be replaced, as other callers may already hold or serialise the registered parser.
+   * The supplier is called on every lookup, so it should return a cached instance.
+   *
+   * @param vocabulary the type the parser produces
+   * @param parser supplies the parser instance
+   *
+   * @throws IllegalStateException if a parser is already registered for the vocabulary
+   */
+  public static <T> void register(Class<T> vocabulary, Supplier<? extends Parsable<T>> parser) {
+    if (PARSERS.putIfAbsent(vocabulary, parser) != null) {
+      throw new IllegalStateException("A parser is already registered for " + vocabulary.getName());
+    }
+  }
+
+  /**
+   * Registers the parsers of the providers. A provider which fails is skipped, and the registrations it made before
+   * failing are removed again.
+   */
+  static void load(Iterator<ParserProvider> providers) {
+    while (true) {
+      ParserProvider provider;
+      try {
+        if (!providers.hasNext()) {
+          return;
+        }
+        provider = providers.next();
+      } catch (ServiceConfigurationError e) {
+        LOG.error("Skipping a parser provider which can't be loaded", e);
+        continue;
+      }
+      Set<Class<?>> registered = new HashSet<>(PARSERS.keySet());
+      try {
+        provider.registerParsers();
+        PROVIDERS.add(provider);
+      } catch (RuntimeException e) {
+        PARSERS.keySet().retainAll(registered);
+        LOG.error("Skipping parser provider {}", provider.getClass().getName(), e);
+      }
+    }
+  }
+
+  /**
+   * Removes the registration of a vocabulary, for tests only.
+   */
+  static void unregister(Class<?> vocabulary) {
+    PARSERS.remove(vocabulary);
+  }
+
+  /**
+   * Removes a loaded provider, for tests only.
+   */
+  static void unregister(ParserProvider provider) {
+    PROVIDERS.remove(provider);
+  }
+
+  /**
+   * @param vocabulary the type the parser produces
+   *
+   * @return the parser registered for the vocabulary
+   *
+   * @throws IllegalArgumentException if no parser is registered for the vocabulary
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Parsable<T> lookup(Class<T> vocabulary) {
+    Supplier<? extends Parsable<?>> parser = PARSERS.get(vocabulary);
+    if (parser == null) {
+      throw new IllegalArgumentException("No parser registered for " + vocabulary.getName());
+    }
+    return (Parsable<T>) parser.get();
+  }
+
+  /**
+   * @return the providers found by the {@link ServiceLoader}
+   */
+  static List<ParserProvider> providers() {
+    return Collections.unmodifiableList(PROVIDERS);
+  }
+
+  /**
+   * @return true if a parser is registered for the vocabulary
+   */
+  public static boolean contains(Class<?> vocabulary) {
+    return PARSERS.containsKey(vocabulary);
+  }
+
+  /**
+   * @return an unmodifiable view of all vocabularies with a registered parser
+   */
+  public static Set<Class<?>> vocabularies() {
+    return Collections.unmodifiableSet(PARSERS.keySet());
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+/**
+ * Parallel bulk parsing with streams.
+ * <p>
+ * Inputs are split into chunks of {@value #CHUNK_SIZE} values, and each chunk is parsed as one batch by a single
+ * thread, see {@link Parsable#parseInto(String[], ParseResult[])}. Duplicates are therefore only removed within a
+ * chunk, and all scratch state lives in the chunk or in per thread buffers of the parsers. The shared singleton
+ * parsers, e.g. from {@link ParserRegistry}, are immutable once built and safe to use from any number of threads, so
+ * there is no need for a parser per thread.
+ * <p>
+ * Results keep the encounter order of the inputs unless unordered results are asked for, which lets the stream
+ * skip the buffering needed for ordering.
+ * <p>
+ * {@link #preloadAll(Executor)} builds all shared parsers at once when a worker starts, rather than one after the other
+ * as the first records need them.
+ */
+public final class Parsers {
+
+  /**
+   * The number of values parsed as one batch.
+   */
+  public static final int CHUNK_SIZE = 1024;
+
+  private Parsers() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Parses the inputs in parallel, keeping their order.
+   */
+  public static <T> Stream<ParseResult<T>> parallelParse(Stream<String> inputs, Parsable<T> parser) {
+    return parallelParse(inputs, parser, true);
+  }
+
+  /**
+   * Parses the inputs in parallel.
+   *
+   * @param ordered whether the results need to be in the order of the inputs
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static <T> Stream<ParseResult<T>> parallelParse(Stream<String> inputs, Parsable<T> parser, boolean ordered) {
+    return parallelParseChunks(inputs, chunk -> {
+      ParseResult<T>[] results = new ParseResult[chunk.length];
+      parser.parseInto(chunk, results);
+      return results;
+    }, ordered);
+  }
+
+  /**
+   * Parses the inputs in parallel with a parser of whole chunks, e.g. one that takes further arguments like
+   * {@link org.gbif.common.parsers.date.DateParsers#parallelParse}.
+   *
+   * @param parseChunk parses a chunk of inputs into as many results
+   * @param ordered    whether the results need to be in the order of the inputs
+   */
+  public static <R> Stream<R> parallelParseChunks(Stream<String> inputs, Function<String[], R[]> parseChunk,
+                                                  boolean ordered) {
+    Stream<R> results = StreamSupport.stream(new ChunkSpliterator(inputs.spliterator()), true)
+      .map(parseChunk)
+      .flatMap(Arrays::stream)
+      .onClose(inputs::close);
+    return ordered ? results : results.unordered();
+  }
+
+  /**
+   * Builds all shared parsers concurrently: those of the {@link ParserRegistry} and the
+   * {@link ParserProvider#sharedParsers() shared parsers} of its providers, e.g. the name parser and the formatters of
+   * the default date parser. Dictionaries are frozen as well, so the first parse does not build them. The startup of a
+   * worker therefore takes about as long as the slowest parser instead of all of them together. Parsers already built
+   * take no time.
+   *
+   * @param executor runs one task per parser, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}
+   *
+   * @return completes with the time taken to build each parser, by the fully qualified name of its class for registered
+   * parsers and by the name given by the provider for shared ones, or exceptionally if any parser could not be built
+   */
+  public static CompletableFuture<Map<String, Duration>> preloadAll(Executor executor) {
+    List<CompletableFuture<Map.Entry<String, Duration>>> loads = new ArrayList<>();
+    for (Class<?> vocabulary : ParserRegistry.vocabularies()) {
+      loads.add(CompletableFuture.supplyAsync(() -> time(null, () -> ParserRegistry.lookup(vocabulary)), executor));
+    }
+    for (ParserProvider provider : ParserRegistry.providers()) {
+      for (Map.Entry<String, Supplier<?>> parser : provider.sharedParsers().entrySet()) {
+        loads.add(CompletableFuture.supplyAsync(() -> time(parser.getKey(), parser.getValue()), executor));
+      }
+    }
+    return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+      Map<String, Duration> timings = new TreeMap<>();
+      for (CompletableFuture<Map.Entry<String, Duration>> load : loads) {
+        Map.Entry<String, Duration> timing = load.join();
+        timings.put(timing.getKey(), timing.getValue());
+      }
+      return Collections.unmodifiableMap(timings);
+    });
+  }
+
+  /**
+   * Builds a parser and freezes its dictionary.
+   *
+   * @param name the name of the timing, or null for the fully qualified name of the class of the parser
+   */
+  private static Map.Entry<String, Duration> time(@Nullable String name, Supplier<?> preload) {
+    final long start = System.nanoTime();
+    Object parser = preload.get();
+    if (parser instanceof DictionaryBackedParser) {
+      ((DictionaryBackedParser<?>) parser).preload();
+    }
+    if (name == null) {
+      name = parser.getClass().getName();
+    }
+    return new AbstractMap.SimpleImmutableEntry<>(name, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  /**
+   * Groups the values of a spliterator into chunks. It splits like the source as long as that is larger than a
+   * chunk, and hands out single chunks from sources which cannot split, e.g. those backed by an iterator.
+   */
+  static final class ChunkSpliterator implements Spliterator<String[]> {
+
+    private final Spliterator<String> source;
+
+    ChunkSpliterator(Spliterator<String> source) {
+      this.source = source;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String[]> action) {
+      String[] chunk = nextChunk();
+      if (chunk == null) {
+        return false;
+      }
+      action.accept(chunk);
+      return true;
+    }
+
+    @Override
+    public Spliterator<String[]> trySplit() {
+      if (source.estimateSize() <= CHUNK_SIZE) {
+        return null;
+      }
+      Spliterator<String> prefix = source.trySplit();
+      if (prefix != null) {
+        return new ChunkSpliterator(prefix);
+      }
+      String[] chunk = nextChunk();
+      return chunk == null ? null : Arrays.spliterator(new String[][] {chunk});
+    }
+
+    private String[] nextChunk() {
+      Chunk chunk = new Chunk();
+      while (chunk.size < CHUNK_SIZE && source.tryAdvance(chunk)) {
+        // filled by the chunk
+      }
+      if (chunk.size == 0) {
+        return null;
+      }
+      return chunk.size == CHUNK_SIZE ? chunk.values : Arrays.copyOf(chunk.values, chunk.size);
+    }
+
+    @Override
+    public long estimateSize() {
+      long size = source.estimateSize();
+      return size == Long.MAX_VALUE ? size : (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    @Override
+    public int characteristics() {
+      return (source.characteristics() & ORDERED) | NONNULL;
+    }
+  }
+
+  private static final class Chunk implements Consumer<String> {
+    private final String[] values = new String[CHUNK_SIZE];
+    private int size;
+
+    @Override
+    public void accept(String value) {
+      values[size++] = value;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * The serialised form of a parser with a single shared instance, which is nothing but the name of its class.
+ * <p>
+ * It is deserialised as the instance returned by the public static {@code getInstance()} method of the class, so a
+ * parser captured by a closure shipped to other JVMs costs a few bytes and is built at most once per JVM. The name
+ * is kept rather than the class, whose descriptor would list the fields of the parser and all its superclasses.
+ * Only names of {@link DictionaryBackedParser} subclasses are resolved, so a crafted stream cannot initialise or call
+ * any other class.
+ */
+final class SerializedParser implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String parserClass;
+
+  private SerializedParser(String parserClass) {
+    this.parserClass = parserClass;
+  }
+
+  /**
+   * @throws NotSerializableException if the parser is not the shared instance of its class
+   */
+  static SerializedParser of(DictionaryBackedParser<?> parser) throws NotSerializableException {
+    if (sharedInstance(parser.getClass()) != parser) {
+      throw new NotSerializableException(parser.getClass().getName() + " is not the shared instance of its class");
+    }
+    return new SerializedParser(parser.getClass().getName());
+  }
+
+  private Object readResolve() throws InvalidObjectException {
+    Class<?> c;
+    try {
+      // not initialised before it is known to be a parser
+      c = Class.forName(parserClass, false, classLoader());
+    } catch (ClassNotFoundException e) {
+      throw new InvalidObjectException(parserClass + " has no shared instance");
+    }
+    if (!DictionaryBackedParser.class.isAssignableFrom(c)) {
+      throw new InvalidObjectException(parserClass + " is not a dictionary backed parser");
+    }
+    Object parser = sharedInstance(c);
+    if (parser == null) {
+      throw new InvalidObjectException(parserClass + " has no shared instance");
+    }
+    return parser;
+  }
+
+  /**
+   * @return the context class loader, which frameworks like Spark set to the one of the application
+   */
+  private static ClassLoader classLoader() {
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    return loader != null ? loader : SerializedParser.class.getClassLoader();
+  }
+
+  /**
+   * @return the instance returned by the getInstance() method declared by the class, or null if there is none
+   */
+  private static Object sharedInstance(Class<?> parserClass) {
+    try {
+      Method getInstance = parserClass.getMethod("getInstance");
+      if (getInstance.getDeclaringClass() == parserClass && Modifier.isStatic(getInstance.getModifiers())) {
+        return getInstance.invoke(null);
+      }
+    } catch (ReflectiveOperationException e) {
+      // no shared instance
+    }
+    return null;
+  }
+}
@@ -0,0 +1,628 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * A normalisation declared once with a {@link Builder} and executed in a single pass over the characters of a value,
+ * e.g. for country names:
+ * <pre>
+ * StringNormalizer.builder()
+ *   .keepLetters().keepWhitespace()
+ *   .removeFirst("off ")
+ *   .foldToAscii()
+ *   .keepAlphabetic()
+ *   .upperCase()
+ *   .build();
+ * </pre>
+ * The steps always run in this order, whatever order they are declared in:
+ * <ol>
+ *   <li>{@link Builder#stripPrefix} removes one leading prefix</li>
+ *   <li>{@link Builder#nullIf} turns placeholders like "n/a" into null</li>
+ *   <li>{@link Builder#removeAll} removes all matches of a regular expression, the only step with a pass of its own
+ *   which can be limited to values containing some text</li>
+ *   <li>{@link Builder#truncateAtLast} keeps only the text before the last separator</li>
+ *   <li>a single loop over all characters doing the keep filters declared before folding, {@link Builder#removeFirst},
+ *   {@link Builder#foldToAscii}, the keep filters declared after folding, {@link Builder#collapseWhitespace} and
+ *   {@link Builder#upperCase}</li>
+ *   <li>{@link Builder#dropTrailing} on the result</li>
+ * </ol>
+ * Empty results are returned as null. Instances are immutable and can be shared by any number of threads, each thread
+ * normalises into a buffer of its own so that dictionary lookups need not create a String at all. The buffer also
+ * remembers a copy of the last value it normalised, so the same value given to several parsers with an equally
+ * configured normaliser is only normalised once.
+ */
+public final class StringNormalizer {
+
+  private static final char[][] NONE = new char[0][];
+  private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(() -> new Buffer(64));
+
+  private final char[][] prefixes;
+  private final char[][] nullValues;
+  private final Pattern[] patterns;
+  // per pattern an upper cased ASCII text every match contains, or null
+  private final char[][] triggers;
+  private final char[][] separators;
+  private final IntPredicate keepBeforeFolding;
+  private final char[] removeFirst;
+  // KMP failure function of removeFirst
+  private final int[] removeFirstFailure;
+  private final boolean fold;
+  private final IntPredicate keep;
+  private final boolean collapseWhitespace;
+  private final boolean upperCase;
+  private final char dropTrailing;
+  // the declared steps, which identify what the normalizer does
+  private final String configuration;
+
+  private StringNormalizer(Builder b) {
+    prefixes = b.prefixes.toArray(NONE);
+    nullValues = b.nullValues.toArray(NONE);
+    patterns = b.patterns.toArray(new Pattern[0]);
+    triggers = b.triggers.toArray(NONE);
+    separators = b.separators.toArray(NONE);
+    keepBeforeFolding = b.keepBeforeFolding;
+    removeFirst = b.removeFirst;
+    removeFirstFailure = removeFirst == null ? null : failure(removeFirst);
+    fold = b.fold;
+    keep = b.keep;
+    collapseWhitespace = b.collapseWhitespace;
+    upperCase = b.upperCase;
+    dropTrailing = b.dropTrailing;
+    configuration = String.join(" ", b.steps);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return the steps in the order they were declared with their arguments, equal for normalizers doing the same
+   */
+  String configuration() {
+    return configuration;
+  }
+
+  /**
+   * @param value the value to normalise, may be null
+   *
+   * @return the normalised value or null if nothing is left of it
+   */
+  public String normalize(String value) {
+    if (value == null) {
+      return null;
+    }
+    Buffer buffer = normalized(value);
+    if (buffer == null) {
+      return null;
+    }
+    if (buffer.string == null) {
+      // kept for further calls with the same value
+      buffer.string = new String(buffer.chars, 0, buffer.length);
+    }
+    return buffer.string;
+  }
+
+  /**
+   * Looks up the normalised form of a value without creating a String for it, unless non-ASCII letters need to be
+   * upper cased.
+   *
+   * @return the shared success result of the dictionary or null if the value is not in it
+   */
+  <V> ParseResult<V> lookup(CharSequence value, FrozenDictionary<V> dictionary) {
+    if (value == null) {
+      return null;
+    }
+    Buffer buffer = normalized(value);
+    if (buffer == null) {
+      return null;
+    }
+    return buffer.string != null ? dictionary.lookup(buffer.string) : dictionary.lookup(buffer.chars, buffer.length);
+  }
+
+  /**
+   * Normalises the value into a buffer. The buffer of each thread remembers a copy of the chars it last normalised and
+   * the {@link #configuration()} of the normaliser, so a record value passed to several parsers with equal normalisers,
+   * e.g. a status column tried as occurrence status, establishment means and distribution status, is folded and
+   * stripped only once. The value itself is not referenced after the call.
+   *
+   * @return the buffer holding the result or null if the result is null
+   */
+  private Buffer normalized(CharSequence value) {
+    final Buffer memo = BUFFER.get();
+    if (memo.remembers(value, configuration)) {
+      return memo.empty ? null : memo;
+    }
+    final int capacity = value.length() * (fold ? ASCIIParser.MAX_FOLDED_LENGTH : 1);
+    if (capacity > Buffer.MAX_CACHED_CAPACITY) {
+      // very long values get a buffer of their own
+      Buffer buffer = new Buffer(capacity);
+      return normalize(value, buffer) ? buffer : null;
+    }
+    if (memo.chars.length < capacity) {
+      memo.chars = new char[Math.max(capacity, memo.chars.length * 2)];
+    }
+    memo.configuration = null;
+    final boolean found = normalize(value, memo);
+    memo.remember(value, configuration, !found);
+    return found ? memo : null;
+  }
+
+  /**
+   * Normalises the value into the buffer, which has room for it.
+   *
+   * @return false if the result is null
+   */
+  private boolean normalize(CharSequence value, Buffer buffer) {
+    buffer.string = null;
+    int start = 0;
+    int end = value.length();
+
+    for (char[] prefix : prefixes) {
+      if (regionMatches(value, 0, prefix)) {
+        start = prefix.length;
+        break;
+      }
+    }
+
+    if (isNullValue(value, start, end)) {
+      return false;
+    }
+
+    for (int p = 0; p < patterns.length; p++) {
+      if (triggers[p] == null || indexOf(value, start, end, triggers[p]) >= 0) {
+        value = patterns[p].matcher(value.subSequence(start, end)).replaceAll("");
+        start = 0;
+        end = value.length();
+      }
+    }
+
+    if (separators.length > 0) {
+      end = truncate(value, start, end);
+    }
+
+    // the single pass over all characters
+    final char[] out = buffer.chars;
+    int length = 0;
+    boolean ascii = true;
+    boolean pendingSpace = false;
+    // state of the removeFirst match: number of chars matched, and per matched char the output state before it
+    boolean removing = removeFirst != null;
+    int matched = 0;
+    int seen = 0;
+    final int[] marks = removing ? buffer.marks(removeFirst.length) : null;
+
+    for (int i = start; i < end; ) {
+      final int cp = Character.codePointAt(value, i);
+      i += Character.charCount(cp);
+      if (keepBeforeFolding != null && !keepBeforeFolding.test(cp)) {
+        continue;
+      }
+
+      if (removing) {
+        final int u = asciiUpperCase(cp);
+        while (matched > 0 && removeFirst[matched] != u) {
+          matched = removeFirstFailure[matched - 1];
+        }
+        marks[seen++ % removeFirst.length] = pendingSpace ? -length - 1 : length;
+        if (removeFirst[matched] == u && ++matched == removeFirst.length) {
+          // drop everything written since the first matched char
+          int mark = marks[(seen - matched) % removeFirst.length];
+          pendingSpace = mark < 0;
+          length = mark < 0 ? -mark - 1 : mark;
+          removing = false;
+          continue;
+        }
+      }
+
+      final String folded = fold && cp < Character.MIN_SUPPLEMENTARY_CODE_POINT ? ASCIIParser.replacement((char) cp) : null;
+      final int n = folded == null ? 1 : folded.length();
+      for (int k = 0; k < n; k++) {
+        int c = folded == null ? cp : folded.charAt(k);
+        if (keep != null && !keep.test(c)) {
+          continue;
+        }
+        if (collapseWhitespace && Character.isWhitespace(c)) {
+          pendingSpace = length > 0;
+          continue;
+        }
+        if (pendingSpace) {
+          out[length++] = ' ';
+          pendingSpace = false;
+        }
+        if (c < 0x80) {
+          out[length++] = (char) (upperCase && c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+        } else {
+          ascii = false;
+          length += Character.toChars(c, out, length);
+        }
+      }
+    }
+
+    if (length == 0) {
+      return false;
+    }
+    if (ascii || !upperCase) {
+      if (dropTrailing != 0 && length > 1 && out[length - 1] == dropTrailing) {
+        length--;
+      }
+      buffer.length = length;
+    } else {
+      // only letters outside ASCII need the full, possibly length changing, case mapping
+      String result = new String(out, 0, length).toUpperCase();
+      if (dropTrailing != 0 && result.length() > 1 && result.charAt(result.length() - 1) == dropTrailing) {
+        result = result.substring(0, result.length() - 1);
+      }
+      buffer.string = result;
+    }
+    return true;
+  }
+
+  /**
+   * @return the end of the text before the last separator, or end if there is none
+   */
+  private int truncate(CharSequence value, int start, int end) {
+    // like the regex "^(.+)SEPARATOR" on the trimmed value
+    while (start < end && value.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    int lineEnd = start;
+    while (lineEnd < end && !isLineTerminator(value.charAt(lineEnd))) {
+      lineEnd++;
+    }
+    int truncated = -1;
+    for (char[] separator : separators) {
+      for (int i = Math.min(lineEnd, end - separator.length); i > start && i > truncated; i--) {
+        if (regionMatches(value, i, separator)) {
+          truncated = i;
+          break;
+        }
+      }
+    }
+    return truncated < 0 ? end : truncated;
+  }
+
+  private boolean isNullValue(CharSequence value, int start, int end) {
+    for (char[] nullValue : nullValues) {
+      if (nullValue.length == end - start && regionMatches(value, start, nullValue)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Compares ignoring the case of ASCII letters, the way a case insensitive regex does.
+   *
+   * @param upperCase the upper cased ASCII text to look for
+   */
+  private static boolean regionMatches(CharSequence value, int offset, char[] upperCase) {
+    if (offset + upperCase.length > value.length()) {
+      return false;
+    }
+    for (int i = 0; i < upperCase.length; i++) {
+      if (asciiUpperCase(value.charAt(offset + i)) != upperCase[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the index of the upper cased ASCII text in the region ignoring case, or -1
+   */
+  private static int indexOf(CharSequence value, int start, int end, char[] upperCase) {
+    for (int i = start; i <= end - upperCase.length; i++) {
+      if (regionMatches(value, i, upperCase)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int asciiUpperCase(int c) {
+    return c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c;
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  private static int[] failure(char[] pattern) {
+    int[] failure = new int[pattern.length];
+    for (int i = 1, k = 0; i < pattern.length; i++) {
+      while (k > 0 && pattern[i] != pattern[k]) {
+        k = failure[k - 1];
+      }
+      if (pattern[i] == pattern[k]) {
+        k++;
+      }
+      failure[i] = k;
+    }
+    return failure;
+  }
+
+  /**
+   * Same as the regex class \\p{N}.
+   */
+  private static boolean isNumber(int cp) {
+    final int type = Character.getType(cp);
+    return type == Character.DECIMAL_DIGIT_NUMBER || type == Character.LETTER_NUMBER || type == Character.OTHER_NUMBER;
+  }
+
+  private static char[] asciiUpperCase(String value) {
+    char[] chars = value.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      if (chars[i] >= 0x80) {
+        throw new IllegalArgumentException("Only ASCII is supported: " + value);
+      }
+      chars[i] = (char) asciiUpperCase(chars[i]);
+    }
+    return chars;
+  }
+
+  /**
+   * Scratch space of a single normalisation, reused by each thread.
+   */
+  private static final class Buffer {
+    // larger buffers are not kept around
+    private static final int MAX_CACHED_CAPACITY = 1024;
+
+    private char[] chars;
+    private int length;
+    // the result if it had to be created as a String
+    private String string;
+    // a copy of the value last normalised into the buffer, the configuration of its normaliser and whether the
+    // result was null
+    private char[] value = new char[0];
+    private int valueLength;
+    private String configuration;
+    private boolean empty;
+    private int[] marks = new int[0];
+
+    private Buffer(int capacity) {
+      chars = new char[capacity];
+    }
+
+    /**
+     * @return true if the buffer holds the result of the same chars normalised with the same configuration
+     */
+    private boolean remembers(CharSequence value, String configuration) {
+      if (this.configuration == null || value.length() != valueLength
+          || this.configuration != configuration && !this.configuration.equals(configuration)) {
+        return false;
+      }
+      for (int i = 0; i < valueLength; i++) {
+        if (this.value[i] != value.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void remember(CharSequence value, String configuration, boolean empty) {
+      valueLength = value.length();
+      if (this.value.length < valueLength) {
+        this.value = new char[Math.max(valueLength, this.value.length * 2)];
+      }
+      if (value instanceof String) {
+        ((String) value).getChars(0, valueLength, this.value, 0);
+      } else {
+        for (int i = 0; i < valueLength; i++) {
+          this.value[i] = value.charAt(i);
+        }
+      }
+      this.configuration = configuration;
+      this.empty = empty;
+    }
+
+    private int[] marks(int size) {
+      if (marks.length < size) {
+        marks = new int[size];
+      }
+      return marks;
+    }
+  }
+
+  /**
+   * Declares the steps of a {@link StringNormalizer}. Keep filters declared before {@link #foldToAscii()} test the
+   * original characters, those declared after it the folded ones. Consecutive keep filters are combined, a character
+   * is kept if any of them accepts it. Without keep filters all characters are kept.
+   */
+  public static final class Builder {
+
+    private final List<char[]> prefixes = new ArrayList<>();
+    private final List<char[]> nullValues = new ArrayList<>();
+    private final List<Pattern> patterns = new ArrayList<>();
+    private final List<char[]> triggers = new ArrayList<>();
+    private final List<char[]> separators = new ArrayList<>();
+    private final List<String> steps = new ArrayList<>();
+    private IntPredicate keepBeforeFolding;
+    private char[] removeFirst;
+    private boolean fold;
+    private IntPredicate keep;
+    private boolean collapseWhitespace;
+    private boolean upperCase;
+    private char dropTrailing;
+
+    private Builder() {
+    }
+
+    /**
+     * Removes the first of the given ASCII prefixes the value starts with, ignoring case.
+     */
+    public Builder stripPrefix(String... prefixes) {
+      steps.add("stripPrefix" + Arrays.toString(prefixes));
+      for (String p : prefixes) {
+        this.prefixes.add(asciiUpperCase(p));
+      }
+      return this;
+    }
+
+    /**
+     * Values which are one of the given ASCII placeholders, ignoring case, become null.
+     */
+    public Builder nullIf(Collection<String> values) {
+      steps.add("nullIf" + values);
+      for (String v : values) {
+        nullValues.add(asciiUpperCase(v));
+      }
+      return this;
+    }
+
+    /**
+     * Removes all matches of the pattern before the characters are looked at.
+     */
+    public Builder removeAll(Pattern pattern) {
+      steps.add("removeAll[" + pattern.pattern() + ", " + pattern.flags() + "]");
+      patterns.add(pattern);
+      triggers.add(null);
+      return this;
+    }
+
+    /**
+     * Removes all matches of the pattern before the characters are looked at. The regex only runs for values that
+     * contain the given ASCII text, ignoring case, which every match of the pattern must contain.
+     */
+    public Builder removeAll(Pattern pattern, String requiredText) {
+      steps.add("removeAll[" + pattern.pattern() + ", " + pattern.flags() + ", " + requiredText + "]");
+      patterns.add(pattern);
+      triggers.add(asciiUpperCase(requiredText));
+      return this;
+    }
+
+    /**
+     * Keeps only the text before the last of the given ASCII separators, ignoring case, if there is some text before it
+     * on the first line. E.g. "Holotype of Abies alba" becomes "Holotype" with the separator " of ".
+     */
+    public Builder truncateAtLast(String... separators) {
+      steps.add("truncateAtLast" + Arrays.toString(separators));
+      for (String s : separators) {
+        this.separators.add(asciiUpperCase(s));
+      }
+      return this;
+    }
+
+    /**
+     * Removes the first occurrence of the ASCII text, ignoring case, from the characters kept so far.
+     */
+    public Builder removeFirst(String text) {
+      steps.add("removeFirst[" + text + "]");
+      removeFirst = asciiUpperCase(text);
+      return this;
+    }
+
+    /**
+     * Folds characters to their ASCII equivalent like the {@link ASCIIParser} does.
+     */
+    public Builder foldToAscii() {
+      steps.add("foldToAscii");
+      fold = true;
+      return this;
+    }
+
+    /**
+     * Keeps {@link Character#isLetter(int) letters}.
+     */
+    public Builder keepLetters() {
+      return keep("keepLetters", Character::isLetter);
+    }
+
+    /**
+     * Keeps {@link Character#isAlphabetic(int) alphabetic} characters, i.e. letters and letter-like numbers or marks.
+     */
+    public Builder keepAlphabetic() {
+      return keep("keepAlphabetic", Character::isAlphabetic);
+    }
+
+    /**
+     * Keeps all numbers, the same as the regex class \\p{N}.
+     */
+    public Builder keepNumbers() {
+      return keep("keepNumbers", StringNormalizer::isNumber);
+    }
+
+    /**
+     * Keeps ASCII letters and digits only.
+     */
+    public Builder keepAsciiLettersAndDigits() {
+      return keep("keepAsciiLettersAndDigits",
+        c -> (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'));
+    }
+
+    /**
+     * Keeps {@link Character#isWhitespace(int) whitespace}.
+     */
+    public Builder keepWhitespace() {
+      return keep("keepWhitespace", Character::isWhitespace);
+    }
+
+    /**
+     * Keeps the given characters.
+     */
+    public Builder keepChars(String chars) {
+      return keep("keepChars[" + chars + "]", c -> chars.indexOf(c) >= 0);
+    }
+
+    private Builder keep(String step, IntPredicate predicate) {
+      steps.add(step);
+      if (fold) {
+        keep = keep == null ? predicate : keep.or(predicate);
+      } else {
+        keepBeforeFolding = keepBeforeFolding == null ? predicate : keepBeforeFolding.or(predicate);
+      }
+      return this;
+    }
+
+    /**
+     * Trims whitespace and replaces each run of whitespace with a single space.
+     */
+    public Builder collapseWhitespace() {
+      steps.add("collapseWhitespace");
+      collapseWhitespace = true;
+      return this;
+    }
+
+    /**
+     * Upper cases the result.
+     */
+    public Builder upperCase() {
+      steps.add("upperCase");
+      upperCase = true;
+      return this;
+    }
+
+    /**
+     * Removes the character if it is the last one of a result longer than one character, e.g. the S of a plural.
+     */
+    public Builder dropTrailing(char c) {
+      steps.add("dropTrailing[" + c + "]");
+      dropTrailing = c;
+      return this;
+    }
+
+    public StringNormalizer build() {
+      return new StringNormalizer(this);
+    }
+  }
+}
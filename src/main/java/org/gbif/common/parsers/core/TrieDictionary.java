@@ -0,0 +1,224 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link FrozenDictionary} stored as a radix trie, i.e. a trie in which chains of single children are merged into one
+ * node labelled with several chars.
+ * <p>
+ * Nodes are laid out breadth first in a few arrays, so the children of a node are consecutive and sorted by their first
+ * char. Shared prefixes of the sorted keys are stored only once. A single walk along the input answers both exact and
+ * longest prefix lookups in time linear to the input length.
+ */
+final class TrieDictionary<V> extends FrozenDictionary<V> {
+
+  // all node labels concatenated, node n is labelled [labelStarts[n], labelStarts[n+1])
+  private final char[] labels;
+  private final int[] labelStarts;
+  // the children of node n are the nodes [firstChildren[n], firstChildren[n+1])
+  private final int[] firstChildren;
+  // index into values per node, -1 if no key ends at the node
+  private final int[] valueIndexes;
+  private final int size;
+
+  TrieDictionary(Map<String, V> entries) {
+    this(entries, new Values<>(entries));
+  }
+
+  private TrieDictionary(Map<String, V> entries, Values<V> values) {
+    super(values);
+    String[] keys = entries.entrySet().stream()
+      .filter(e -> e.getValue() != null)
+      .map(Map.Entry::getKey)
+      .sorted()
+      .toArray(String[]::new);
+    int[] keyValues = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      keyValues[i] = values.indexOf(entries.get(keys[i]));
+    }
+    size = keys.length;
+
+    // build the tree of nodes, then lay it out breadth first
+    // an empty key can only be the first one
+    boolean emptyKey = keys.length > 0 && keys[0].isEmpty();
+    Node root = new Node("", emptyKey ? keyValues[0] : -1);
+    addChildren(root, keys, keyValues, emptyKey ? 1 : 0, keys.length, 0);
+    List<Node> nodes = new ArrayList<>();
+    nodes.add(root);
+    int labelLength = 0;
+    for (int n = 0; n < nodes.size(); n++) {
+      Node node = nodes.get(n);
+      labelLength += node.label.length();
+      nodes.addAll(node.children);
+    }
+
+    labels = new char[labelLength];
+    labelStarts = new int[nodes.size() + 1];
+    firstChildren = new int[nodes.size() + 1];
+    valueIndexes = new int[nodes.size()];
+    int offset = 0;
+    int child = 1;
+    for (int n = 0; n < nodes.size(); n++) {
+      Node node = nodes.get(n);
+      labelStarts[n] = offset;
+      node.label.getChars(0, node.label.length(), labels, offset);
+      offset += node.label.length();
+      firstChildren[n] = child;
+      child += node.children.size();
+      valueIndexes[n] = node.valueIndex;
+    }
+    labelStarts[nodes.size()] = offset;
+    firstChildren[nodes.size()] = child;
+  }
+
+  /**
+   * Adds the nodes for the sorted keys [from, to), which share their first depth chars, as children of the parent.
+   */
+  private static void addChildren(Node parent, String[] keys, int[] keyValues, int from, int to, int depth) {
+    int i = from;
+    while (i < to) {
+      // the group of keys continuing with the same char
+      final char c = keys[i].charAt(depth);
+      int j = i + 1;
+      while (j < to && keys[j].charAt(depth) == c) {
+        j++;
+      }
+      // keys are sorted, so the common prefix of the group is the one of its first and last key
+      int end = commonPrefixLength(keys[i], keys[j - 1]);
+      Node node = new Node(keys[i].substring(depth, end), -1);
+      int next = i;
+      if (keys[next].length() == end) {
+        node.valueIndex = keyValues[next++];
+      }
+      addChildren(node, keys, keyValues, next, j, end);
+      parent.children.add(node);
+      i = j;
+    }
+  }
+
+  private static int commonPrefixLength(String a, String b) {
+    int max = Math.min(a.length(), b.length());
+    int i = 0;
+    while (i < max && a.charAt(i) == b.charAt(i)) {
+      i++;
+    }
+    return i;
+  }
+
+  @Override
+  ParseResult<V> lookup(String key) {
+    return key == null ? null : resultAt(walk(key, null, key.length(), false));
+  }
+
+  @Override
+  ParseResult<V> lookup(char[] key, int length) {
+    return resultAt(walk(null, key, length, false));
+  }
+
+  @Override
+  ParseResult<V> lookupLongestPrefix(String text) {
+    return text == null ? null : resultAt(walk(text, null, text.length(), true));
+  }
+
+  /**
+   * Follows the key, given either as a String or as chars, from the root.
+   *
+   * @param prefix whether the longest key the key starts with is wanted, or the key itself
+   *
+   * @return the value index found or -1
+   */
+  private int walk(String string, char[] chars, int length, boolean prefix) {
+    int node = 0;
+    int found = -1;
+    int pos = 0;
+    while (true) {
+      if (prefix && valueIndexes[node] >= 0) {
+        found = valueIndexes[node];
+      }
+      if (pos == length) {
+        return prefix ? found : valueIndexes[node];
+      }
+      final char c = string != null ? string.charAt(pos) : chars[pos];
+      // binary search of the child starting with c
+      int lo = firstChildren[node];
+      int hi = firstChildren[node + 1] - 1;
+      int child = -1;
+      while (lo <= hi) {
+        int mid = (lo + hi) >>> 1;
+        char first = labels[labelStarts[mid]];
+        if (first < c) {
+          lo = mid + 1;
+        } else if (first > c) {
+          hi = mid - 1;
+        } else {
+          child = mid;
+          break;
+        }
+      }
+      if (child < 0) {
+        return found;
+      }
+      // the rest of the label must follow in the key
+      final int end = labelStarts[child + 1];
+      pos++;
+      for (int l = labelStarts[child] + 1; l < end; l++, pos++) {
+        if (pos == length || (string != null ? string.charAt(pos) : chars[pos]) != labels[l]) {
+          return found;
+        }
+      }
+      node = child;
+    }
+  }
+
+  @Override
+  int size() {
+    return size;
+  }
+
+  @Override
+  void forEach(BiConsumer<String, ? super V> action) {
+    forEach(0, new StringBuilder(), action);
+  }
+
+  private void forEach(int node, StringBuilder key, BiConsumer<String, ? super V> action) {
+    final int length = key.length();
+    key.append(labels, labelStarts[node], labelStarts[node + 1] - labelStarts[node]);
+    if (valueIndexes[node] >= 0) {
+      action.accept(key.toString(), valueAt(valueIndexes[node]));
+    }
+    for (int child = firstChildren[node]; child < firstChildren[node + 1]; child++) {
+      forEach(child, key, action);
+    }
+    key.setLength(length);
+  }
+
+  /**
+   * A node of the trie while it is built.
+   */
+  private static final class Node {
+    private final String label;
+    private int valueIndex;
+    private final List<Node> children = new ArrayList<>();
+
+    private Node(String label, int valueIndex) {
+      this.label = label;
+      this.valueIndex = valueIndex;
+    }
+  }
+}
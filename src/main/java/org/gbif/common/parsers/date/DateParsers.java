@@ -14,11 +14,18 @@
 package org.gbif.common.parsers.date;
 
 
+import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.Parsers;
+
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.time.format.SignStyle;
 import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
 
 /**
  * Factories for date parsing related instances.
@@ -70,6 +77,31 @@ public class DateParsers {
     return new TextDateParser();
   }
 
+  /**
+   * Builds the formatters and tokenizers shared by all instances of {@link #defaultTemporalParser()}, which otherwise
+   * happens when the first of them is created.
+   */
+  public static void preloadFormatters() {
+    TextDateParser.init();
+  }
+
+  /**
+   * Parses dates in parallel in chunks like {@link Parsers#parallelParse(Stream, org.gbif.common.parsers.core.Parsable,
+   * boolean)}, restricted to the orderings like {@link TemporalParser#parse(String, DateComponentOrdering[])}.
+   *
+   * @param ordered whether the results need to be in the order of the inputs
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Stream<ParseResult<TemporalAccessor>> parallelParse(Stream<String> inputs, TemporalParser parser,
+                                                                    @Nullable DateComponentOrdering[] orderings,
+                                                                    boolean ordered) {
+    return Parsers.parallelParseChunks(inputs, chunk -> {
+      ParseResult<TemporalAccessor>[] results = new ParseResult[chunk.length];
+      parser.parseInto(chunk, orderings, results);
+      return results;
+    }, ordered);
+  }
+
   /**
    * Get a new instance of the default implementation of TemporalParser that handles
    * numerical dates.
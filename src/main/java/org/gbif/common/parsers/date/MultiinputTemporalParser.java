@@ -7,40 +7,64 @@ import org.apache.commons.lang3.StringUtils;
 import org.gbif.api.vocabulary.OccurrenceIssue;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.ParserMetrics;
+import org.gbif.common.parsers.core.ParserMetricsRegistry;
 
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.gbif.common.parsers.core.OccurrenceParseResult.issueBit;
 import static org.gbif.common.parsers.core.ParseResult.CONFIDENCE.PROBABLE;
 
 /**
  * A date parser accepting multiple dates, and returning a common interpretation of them.
+ * <p>
+ * It is serialised as its date component orderings only and deserialised as an instance shared by all parsers with
+ * the same orderings in the receiving JVM.
  */
 @Slf4j
 public class MultiinputTemporalParser implements Serializable {
 
-  private static final long serialVersionUID = -8845127337324812802L;
+  // the serialised form changed to the orderings only
+  private static final long serialVersionUID = 5360813628153722707L;
 
   private static final LocalDate MIN_LOCAL_DATE = LocalDate.of(1500, 1, 1);
 
-  private final TemporalParser temporalParser;
+  private static final ParserMetrics.Recorder RECORDED_DATE_METRICS =
+      ParserMetricsRegistry.recorder("MultiinputTemporalParser.parseRecordedDate");
+  private static final ParserMetrics.Recorder LOCAL_DATE_METRICS =
+      ParserMetricsRegistry.recorder("MultiinputTemporalParser.parseLocalDate");
+
+  // the instances deserialised per orderings
+  private static final Map<List<DateComponentOrdering>, MultiinputTemporalParser> SHARED = new ConcurrentHashMap<>();
+
+  private final DateComponentOrdering[] orderings;
+  private final transient TemporalParser temporalParser;
 
   private MultiinputTemporalParser(List<DateComponentOrdering> orderings) {
     if (orderings != null && !orderings.isEmpty()) {
-      DateComponentOrdering[] array = orderings.toArray(new DateComponentOrdering[0]);
-      temporalParser = CustomizedTextDateParser.getInstance(array);
+      this.orderings = orderings.toArray(new DateComponentOrdering[0]);
+      temporalParser = CustomizedTextDateParser.getInstance(this.orderings);
     } else {
+      this.orderings = new DateComponentOrdering[0];
       temporalParser = DateParsers.defaultTemporalParser();
     }
   }
 
+  private Object readResolve() {
+    List<DateComponentOrdering> key =
+        orderings == null ? Collections.emptyList() : Arrays.asList(orderings.clone());
+    return SHARED.computeIfAbsent(key, MultiinputTemporalParser::new);
+  }
+
   public static MultiinputTemporalParser create(List<DateComponentOrdering> orderings) {
     return new MultiinputTemporalParser(orderings);
   }
@@ -71,6 +95,18 @@ public class MultiinputTemporalParser implements Serializable {
    */
   public OccurrenceParseResult<TemporalAccessor> parseRecordedDate(
       String year, String month, String day, String dateString, String dayOfYear) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      OccurrenceParseResult<TemporalAccessor> result =
+          parseRecordedDateUntimed(year, month, day, dateString, dayOfYear);
+      RECORDED_DATE_METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return parseRecordedDateUntimed(year, month, day, dateString, dayOfYear);
+  }
+
+  private OccurrenceParseResult<TemporalAccessor> parseRecordedDateUntimed(
+      String year, String month, String day, String dateString, String dayOfYear) {
 
     boolean ymdProvided =
         StringUtils.isNotBlank(year)
@@ -91,7 +127,7 @@ public class MultiinputTemporalParser implements Serializable {
       return OccurrenceParseResult.fail();
     }
 
-    Set<OccurrenceIssue> issues = EnumSet.noneOf(OccurrenceIssue.class);
+    long issues = 0;
 
     TemporalAccessor parsedTemporalAccessor;
     ParseResult.CONFIDENCE confidence;
@@ -117,13 +153,13 @@ public class MultiinputTemporalParser implements Serializable {
 
     // Add issues if we failed to parse any dates that were present
     if (ymdProvided && !parsedYMDResult.isSuccessful()) {
-      issues.add(OccurrenceIssue.RECORDED_DATE_INVALID);
+      issues |= issueBit(OccurrenceIssue.RECORDED_DATE_INVALID);
     }
     if (dateStringProvided && !parsedDateResult.isSuccessful()) {
-      issues.add(OccurrenceIssue.RECORDED_DATE_INVALID);
+      issues |= issueBit(OccurrenceIssue.RECORDED_DATE_INVALID);
     }
     if (yDoyProvided && !parsedYearDoyResult.isSuccessful()) {
-      issues.add(OccurrenceIssue.RECORDED_DATE_INVALID);
+      issues |= issueBit(OccurrenceIssue.RECORDED_DATE_INVALID);
     }
 
     log.trace("Date {}|{}|{}|{}|{} parsed to {}—{}—{}", year, month, day, dateString, dayOfYear, parsedYMDResult, parsedDateResult, parsedYearDoyResult);
@@ -148,10 +184,10 @@ public class MultiinputTemporalParser implements Serializable {
       if (!ambiguityResolved) {
         if (parsedYmdTa == null || parsedDateTa == null) {
           log.debug("Date {}|{}|{}|{}|{} ambiguous₁ invalid", year, month, day, dateString, dayOfYear);
-          issues.add(OccurrenceIssue.RECORDED_DATE_INVALID);
+          issues |= issueBit(OccurrenceIssue.RECORDED_DATE_INVALID);
         } else {
           log.debug("Date {}|{}|{}|{}|{} ambiguous₁ mismatch", year, month, day, dateString, dayOfYear);
-          issues.add(OccurrenceIssue.RECORDED_DATE_MISMATCH);
+          issues |= issueBit(OccurrenceIssue.RECORDED_DATE_MISMATCH);
         }
       }
     } else if (ymdProvided
@@ -172,10 +208,10 @@ public class MultiinputTemporalParser implements Serializable {
       if (!ambiguityResolved) {
         if (parsedYmdTa == null || parsedYearDoyTa == null) {
           log.debug("Date {}|{}|{}|{}|{} ambiguous₂ invalid", year, month, day, dateString, dayOfYear);
-          issues.add(OccurrenceIssue.RECORDED_DATE_INVALID);
+          issues |= issueBit(OccurrenceIssue.RECORDED_DATE_INVALID);
         } else {
           log.debug("Date {}|{}|{}|{}|{} ambiguous₂ mismatch", year, month, day, dateString, dayOfYear);
-          issues.add(OccurrenceIssue.RECORDED_DATE_MISMATCH);
+          issues |= issueBit(OccurrenceIssue.RECORDED_DATE_MISMATCH);
         }
       }
     }
@@ -192,7 +228,7 @@ public class MultiinputTemporalParser implements Serializable {
                   : parsedYearDoyResult.getConfidence());
     } else {
       log.debug("Date {}|{}|{}|{}|{} mismatch (conflict)", year, month, day, dateString, dayOfYear);
-      issues.add(OccurrenceIssue.RECORDED_DATE_MISMATCH);
+      issues |= issueBit(OccurrenceIssue.RECORDED_DATE_MISMATCH);
       confidence = PROBABLE;
     }
 
@@ -200,7 +236,7 @@ public class MultiinputTemporalParser implements Serializable {
     if (ymdResolution > 0 && dateStringResolution > 0) {
       if (ymdResolution != dateStringResolution) {
         log.debug("Date {}|{}|{}|{}|{} mismatch (resolution)", year, month, day, dateString, dayOfYear);
-        issues.add(OccurrenceIssue.RECORDED_DATE_MISMATCH);
+        issues |= issueBit(OccurrenceIssue.RECORDED_DATE_MISMATCH);
       }
     }
 
@@ -221,7 +257,7 @@ public class MultiinputTemporalParser implements Serializable {
     } else {
       log.debug("Date {}|{}|{}|{}|{} mismatch (conflicting)", year, month, day, dateString, dayOfYear);
       if (twoOrMoreProvided) {
-        issues.add(OccurrenceIssue.RECORDED_DATE_MISMATCH);
+        issues |= issueBit(OccurrenceIssue.RECORDED_DATE_MISMATCH);
       }
       return OccurrenceParseResult.fail(issues);
     }
@@ -229,10 +265,10 @@ public class MultiinputTemporalParser implements Serializable {
     if (!isValidDate(parsedTemporalAccessor)) {
       if (parsedTemporalAccessor == null) {
         log.debug("Date {}|{}|{}|{}|{} mismatch (invalid)", year, month, day, dateString, dayOfYear);
-        issues.add(OccurrenceIssue.RECORDED_DATE_INVALID);
+        issues |= issueBit(OccurrenceIssue.RECORDED_DATE_INVALID);
       } else {
         log.debug("Date {}|{}|{}|{}|{} mismatch (unlikely)", year, month, day, dateString, dayOfYear);
-        issues.add(OccurrenceIssue.RECORDED_DATE_UNLIKELY);
+        issues |= issueBit(OccurrenceIssue.RECORDED_DATE_UNLIKELY);
       }
 
       return OccurrenceParseResult.fail(issues);
@@ -254,6 +290,18 @@ public class MultiinputTemporalParser implements Serializable {
   /** @return TemporalAccessor that represents a LocalDate or LocalDateTime */
   public OccurrenceParseResult<TemporalAccessor> parseLocalDate(
       String dateString, Range<LocalDate> likelyRange, OccurrenceIssue unlikelyIssue, OccurrenceIssue failIssue) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      OccurrenceParseResult<TemporalAccessor> result =
+          parseLocalDateUntimed(dateString, likelyRange, unlikelyIssue, failIssue);
+      LOCAL_DATE_METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return parseLocalDateUntimed(dateString, likelyRange, unlikelyIssue, failIssue);
+  }
+
+  private OccurrenceParseResult<TemporalAccessor> parseLocalDateUntimed(
+      String dateString, Range<LocalDate> likelyRange, OccurrenceIssue unlikelyIssue, OccurrenceIssue failIssue) {
     if (!Strings.isNullOrEmpty(dateString)) {
       OccurrenceParseResult<TemporalAccessor> result =
           new OccurrenceParseResult<>(temporalParser.parse(dateString));
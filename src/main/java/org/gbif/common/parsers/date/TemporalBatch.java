@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.date;
+
+import org.gbif.common.parsers.core.ParseResult;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Batch parsing of dates for the {@link TemporalParser} default methods.
+ */
+final class TemporalBatch {
+
+  private TemporalBatch() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Parses each distinct input once. Blank inputs fail without being parsed, as they do in all date parsers.
+   */
+  static void parseInto(String[] inputs, ParseResult<TemporalAccessor>[] results,
+                        Function<String, ParseResult<TemporalAccessor>> parser) {
+    if (results.length < inputs.length) {
+      throw new IllegalArgumentException("Results array is shorter than the inputs");
+    }
+    Map<String, ParseResult<TemporalAccessor>> parsed = new HashMap<>();
+    for (int i = 0; i < inputs.length; i++) {
+      final String input = inputs[i];
+      if (StringUtils.isBlank(input)) {
+        results[i] = ParseResult.fail();
+      } else if (i > 0 && input.equals(inputs[i - 1])) {
+        results[i] = results[i - 1];
+      } else {
+        results[i] = parsed.computeIfAbsent(input, parser);
+      }
+    }
+  }
+}
@@ -99,4 +99,25 @@ public interface TemporalParser extends Parsable<TemporalAccessor> {
    * @return result, never null
    */
   ParseResult<TemporalAccessor> parse(@Nullable Integer year, @Nullable Integer dayOfYear);
+
+  /**
+   * Parse a batch of dates, each distinct date only once. Blank inputs fail without being parsed.
+   *
+   * @param results receives the result of inputs[i] at index i
+   */
+  @Override
+  default void parseInto(String[] inputs, ParseResult<TemporalAccessor>[] results) {
+    TemporalBatch.parseInto(inputs, results, this::parse);
+  }
+
+  /**
+   * Parse a batch of dates like {@link #parse(String, DateComponentOrdering[])}, each distinct date only once.
+   *
+   * @param orderings required general date orderings
+   * @param results receives the result of inputs[i] at index i
+   */
+  default void parseInto(String[] inputs, @Nullable DateComponentOrdering[] orderings,
+                         ParseResult<TemporalAccessor>[] results) {
+    TemporalBatch.parseInto(inputs, results, input -> parse(input, orderings));
+  }
 }
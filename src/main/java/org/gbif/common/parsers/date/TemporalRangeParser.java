@@ -22,12 +22,17 @@ import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalUnit;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class TemporalRangeParser implements Serializable {
 
+  // the instances deserialised per date parser, which is itself shared per configuration once deserialised
+  private static final Map<MultiinputTemporalParser, TemporalRangeParser> SHARED = new ConcurrentHashMap<>();
+
   private final MultiinputTemporalParser temporalParser;
 
   @Builder(buildMethodName = "create")
@@ -39,6 +44,10 @@ public class TemporalRangeParser implements Serializable {
     }
   }
 
+  private Object readResolve() {
+    return SHARED.computeIfAbsent(temporalParser, p -> this);
+  }
+
   public OccurrenceParseResult<IsoDateInterval> parse(String dateRange) {
     return parse(null, null, null, dateRange, null, null);
   }
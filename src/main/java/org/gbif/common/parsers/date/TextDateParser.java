@@ -49,6 +49,12 @@ class TextDateParser implements TemporalParser, Serializable {
   private static final TemporalParser NUMERICAL_DATE_PARSER = ThreeTenNumericalDateParser.newInstance();
   private static final DatePartsNormalizer DATE_PARTS_NORMALIZER = DatePartsNormalizer.newInstance();
 
+  /**
+   * Does nothing but initialise the class, which builds the shared formatters above.
+   */
+  static void init() {
+  }
+
   /**
    * Parse a date using the default (ISO) formats, or other unambiguous parsing.
    */
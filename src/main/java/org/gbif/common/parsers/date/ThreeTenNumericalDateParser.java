@@ -14,6 +14,8 @@
 package org.gbif.common.parsers.date;
 
 import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.ParserMetrics;
+import org.gbif.common.parsers.core.ParserMetricsRegistry;
 import org.gbif.utils.PreconditionUtils;
 
 import java.time.LocalDate;
@@ -78,6 +80,7 @@ import static org.gbif.common.parsers.date.DateComponentOrdering.YW;
 class ThreeTenNumericalDateParser implements TemporalParser {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ThreeTenNumericalDateParser.class);
+  private static final ParserMetrics.Recorder METRICS = ParserMetricsRegistry.recorder(ThreeTenNumericalDateParser.class);
 
   static final Pattern OPTIONAL_PATTERN_PART = Pattern.compile("\\[.*\\]");
 
@@ -274,6 +277,16 @@ class ThreeTenNumericalDateParser implements TemporalParser {
 
   @Override
   public ParseResult<TemporalAccessor> parse(String input, @Nullable DateComponentOrdering ordering) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      ParseResult<TemporalAccessor> result = parseUntimed(input, ordering);
+      METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return parseUntimed(input, ordering);
+  }
+
+  private ParseResult<TemporalAccessor> parseUntimed(String input, @Nullable DateComponentOrdering ordering) {
 
     if (StringUtils.isBlank(input)) {
       return ParseResult.fail();
@@ -378,12 +391,22 @@ class ThreeTenNumericalDateParser implements TemporalParser {
    */
   @Override
   public ParseResult<TemporalAccessor> parse(String input, DateComponentOrdering[] orderings) {
-    ParseResult<TemporalAccessor> result = parse(input);
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      ParseResult<TemporalAccessor> result = parseUntimed(input, orderings);
+      METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return parseUntimed(input, orderings);
+  }
+
+  private ParseResult<TemporalAccessor> parseUntimed(String input, DateComponentOrdering[] orderings) {
+    ParseResult<TemporalAccessor> result = parseUntimed(input, ISO_ETC);
     if (result.getStatus() == ParseResult.STATUS.FAIL
       && result.getConfidence() == ParseResult.CONFIDENCE.POSSIBLE
       && result.getAlternativePayloads().size() > 1) {
       for (DateComponentOrdering ordering : orderings) {
-        result = parse(input, ordering);
+        result = parseUntimed(input, ordering);
         if (result.isSuccessful()) {
           return result;
         }
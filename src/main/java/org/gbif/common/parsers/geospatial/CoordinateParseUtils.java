@@ -17,16 +17,26 @@ import org.gbif.api.vocabulary.OccurrenceIssue;
 import org.gbif.common.parsers.NumberParser;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.ParserMetrics;
+import org.gbif.common.parsers.core.ParserMetricsRegistry;
+import org.gbif.common.parsers.core.Parsers;
 
-import java.util.EnumSet;
-import java.util.Set;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.gbif.common.parsers.core.OccurrenceParseResult.issueBit;
+
 /**
  * Utilities for assisting in the parsing of latitude and longitude strings into Decimals.
  */
@@ -55,6 +65,10 @@ public class CoordinateParseUtils {
   }
 
   private static final Logger LOG = LoggerFactory.getLogger(CoordinateParseUtils.class);
+  private static final ParserMetrics.Recorder LAT_LNG_METRICS =
+    ParserMetricsRegistry.recorder("CoordinateParseUtils.parseLatLng");
+  private static final ParserMetrics.Recorder VERBATIM_METRICS =
+    ParserMetricsRegistry.recorder("CoordinateParseUtils.parseVerbatimCoordinates");
 
   /**
    * This parses string representations of latitude and longitude values. It tries its best to interpret the values and
@@ -82,18 +96,42 @@ public class CoordinateParseUtils {
    * @return The parse result
    */
   public static OccurrenceParseResult<LatLng> parseLatLng(final String latitude, final String longitude) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      OccurrenceParseResult<LatLng> result = parseLatLngUntimed(latitude, longitude).toOccurrenceParseResult();
+      LAT_LNG_METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return parseLatLngUntimed(latitude, longitude).toOccurrenceParseResult();
+  }
+
+  /**
+   * Like {@link #parseLatLng(String, String)}, but without boxing the coordinate.
+   */
+  public static LatLngParseResult parseLatLngValue(final String latitude, final String longitude) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      LatLngParseResult result = parseLatLngUntimed(latitude, longitude);
+      LAT_LNG_METRICS.record(result.getStatus(), result.getConfidence(), System.nanoTime() - start);
+      return result;
+    }
+    return parseLatLngUntimed(latitude, longitude);
+  }
+
+  private static LatLngParseResult parseLatLngUntimed(final String latitude, final String longitude) {
     if (StringUtils.isEmpty(latitude) || StringUtils.isEmpty(longitude)) {
-      return OccurrenceParseResult.fail();
+      return LatLngParseResult.fail();
     }
-    Double lat = NumberParser.parseDouble(latitude);
-    Double lng = NumberParser.parseDouble(longitude);
-    if (lat == null || lng == null) {
+    double lat = NumberParser.parseDouble(latitude, Double.NaN);
+    double lng = NumberParser.parseDouble(longitude, Double.NaN);
+    // a literal NaN is a parsed value like before, which is left to the validation
+    if (Double.isNaN(lat) && !NumberParser.isNaN(latitude) || Double.isNaN(lng) && !NumberParser.isNaN(longitude)) {
       // try degree minute seconds
       try {
         lat = parseDMS(latitude, true);
         lng = parseDMS(longitude, false);
       } catch (IllegalArgumentException e) {
-        return OccurrenceParseResult.fail(OccurrenceIssue.COORDINATE_INVALID);
+        return LatLngParseResult.fail(issueBit(OccurrenceIssue.COORDINATE_INVALID));
       }
     }
 
@@ -120,8 +158,31 @@ public class CoordinateParseUtils {
 
   // 02° 49' 52" N	131° 47' 03" E
   public static OccurrenceParseResult<LatLng> parseVerbatimCoordinates(final String coordinates) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      OccurrenceParseResult<LatLng> result = parseVerbatimCoordinatesUntimed(coordinates).toOccurrenceParseResult();
+      VERBATIM_METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return parseVerbatimCoordinatesUntimed(coordinates).toOccurrenceParseResult();
+  }
+
+  /**
+   * Like {@link #parseVerbatimCoordinates(String)}, but without boxing the coordinate.
+   */
+  public static LatLngParseResult parseVerbatimCoordinatesValue(final String coordinates) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      LatLngParseResult result = parseVerbatimCoordinatesUntimed(coordinates);
+      VERBATIM_METRICS.record(result.getStatus(), result.getConfidence(), System.nanoTime() - start);
+      return result;
+    }
+    return parseVerbatimCoordinatesUntimed(coordinates);
+  }
+
+  private static LatLngParseResult parseVerbatimCoordinatesUntimed(final String coordinates) {
     if (StringUtils.isEmpty(coordinates)) {
-      return OccurrenceParseResult.fail();
+      return LatLngParseResult.fail();
     }
     Matcher m = DMS_COORD.matcher(coordinates);
     if (m.find()) {
@@ -138,7 +199,7 @@ public class CoordinateParseUtils {
         return validateAndRound(c2, c1);
 
       } else {
-        return OccurrenceParseResult.fail(OccurrenceIssue.COORDINATE_INVALID);
+        return LatLngParseResult.fail(issueBit(OccurrenceIssue.COORDINATE_INVALID));
       }
 
     } else if(coordinates.length() > 4) {
@@ -148,17 +209,17 @@ public class CoordinateParseUtils {
         if (cnt == 1) {
           String[] latlon = StringUtils.split(coordinates, delim);
           if (latlon.length == 2) {
-            return parseLatLng(latlon[0], latlon[1]);
+            return parseLatLngUntimed(latlon[0], latlon[1]);
           }
         }
       }
     }
-    return OccurrenceParseResult.fail(OccurrenceIssue.COORDINATE_INVALID);
+    return LatLngParseResult.fail(issueBit(OccurrenceIssue.COORDINATE_INVALID));
   }
 
-  private static OccurrenceParseResult<LatLng> validateAndRound(double lat, double lon) {
+  private static LatLngParseResult validateAndRound(double lat, double lon) {
     // collecting issues for result
-    Set<OccurrenceIssue> issues = EnumSet.noneOf(OccurrenceIssue.class);
+    long issues = 0;
 
     // round to 6 decimals
     final double latOrig = lat;
@@ -166,18 +227,18 @@ public class CoordinateParseUtils {
     lat = roundTo6decimals(lat);
     lon = roundTo6decimals(lon);
     if (Double.compare(lat, latOrig) != 0 || Double.compare(lon, lngOrig) != 0) {
-      issues.add(OccurrenceIssue.COORDINATE_ROUNDED);
+      issues |= issueBit(OccurrenceIssue.COORDINATE_ROUNDED);
     }
 
     // 0,0 is too suspicious
     if (Double.compare(lat, 0) == 0 && Double.compare(lon, 0) == 0) {
-      issues.add(OccurrenceIssue.ZERO_COORDINATE);
-      return OccurrenceParseResult.success(ParseResult.CONFIDENCE.POSSIBLE, new LatLng(0, 0), issues);
+      issues |= issueBit(OccurrenceIssue.ZERO_COORDINATE);
+      return LatLngParseResult.success(ParseResult.CONFIDENCE.POSSIBLE, 0, 0, issues);
     }
 
     // if everything falls in range
     if (inRange(lat, lon)) {
-      return OccurrenceParseResult.success(ParseResult.CONFIDENCE.DEFINITE, new LatLng(lat, lon), issues);
+      return LatLngParseResult.success(ParseResult.CONFIDENCE.DEFINITE, lat, lon, issues);
     }
 
     // if lat is out of range, but in range of the lng, assume swapped coordinates.
@@ -186,15 +247,98 @@ public class CoordinateParseUtils {
     if (Double.compare(lat, 90) > 0 || Double.compare(lat, -90) < 0) {
       // try and swap
       if (inRange(lon, lat)) {
-        issues.add(OccurrenceIssue.PRESUMED_SWAPPED_COORDINATE);
-        return OccurrenceParseResult.success(ParseResult.CONFIDENCE.PROBABLE, new LatLng(lon, lat), issues);
+        issues |= issueBit(OccurrenceIssue.PRESUMED_SWAPPED_COORDINATE);
+        return LatLngParseResult.success(ParseResult.CONFIDENCE.PROBABLE, lon, lat, issues);
       }
     }
 
     // then something is out of range
-    issues.add(OccurrenceIssue.COORDINATE_OUT_OF_RANGE);
-    return OccurrenceParseResult.fail(issues);
+    issues |= issueBit(OccurrenceIssue.COORDINATE_OUT_OF_RANGE);
+    return LatLngParseResult.fail(issues);
+
+  }
+
+  /**
+   * Parses batches of latitudes and longitudes like {@link #parseLatLng(String, String)}, parsing each distinct pair
+   * only once. Results are mutable, so repeated pairs get copies of the first result.
+   *
+   * @param latitudes  The decimal latitudes
+   * @param longitudes The decimal longitudes, same size as the latitudes
+   *
+   * @return The parse results in the order of the inputs
+   */
+  public static List<OccurrenceParseResult<LatLng>> parseLatLngAll(List<String> latitudes, List<String> longitudes) {
+    if (latitudes.size() != longitudes.size()) {
+      throw new IllegalArgumentException("Latitudes and longitudes differ in size");
+    }
+    Map<Map.Entry<String, String>, OccurrenceParseResult<LatLng>> parsed = new HashMap<>();
+    List<OccurrenceParseResult<LatLng>> results = new ArrayList<>(latitudes.size());
+    for (int i = 0; i < latitudes.size(); i++) {
+      Map.Entry<String, String> pair = new AbstractMap.SimpleImmutableEntry<>(latitudes.get(i), longitudes.get(i));
+      OccurrenceParseResult<LatLng> result = parsed.get(pair);
+      if (result == null) {
+        result = parseLatLng(pair.getKey(), pair.getValue());
+        parsed.put(pair, result);
+        results.add(result);
+      } else {
+        results.add(copy(result));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Parses a batch of verbatim coordinates like {@link #parseVerbatimCoordinates(String)}, parsing each distinct value
+   * only once. Results are mutable, so repeated values get copies of the first result.
+   *
+   * @return The parse results in the order of the inputs
+   */
+  public static List<OccurrenceParseResult<LatLng>> parseVerbatimCoordinatesAll(List<String> coordinates) {
+    Map<String, OccurrenceParseResult<LatLng>> parsed = new HashMap<>();
+    List<OccurrenceParseResult<LatLng>> results = new ArrayList<>(coordinates.size());
+    for (String c : coordinates) {
+      OccurrenceParseResult<LatLng> result = parsed.get(c);
+      if (result == null) {
+        result = parseVerbatimCoordinates(c);
+        parsed.put(c, result);
+        results.add(result);
+      } else {
+        results.add(copy(result));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Parses coordinates in parallel in chunks of {@value Parsers#CHUNK_SIZE} pairs like
+   * {@link #parseLatLngAll(List, List)}.
+   *
+   * @param latitudes  the decimal latitudes
+   * @param longitudes the decimal longitudes, same size as the latitudes
+   * @param ordered    whether the results need to be in the order of the inputs
+   */
+  public static Stream<OccurrenceParseResult<LatLng>> parallelParseLatLng(List<String> latitudes,
+                                                                          List<String> longitudes, boolean ordered) {
+    if (latitudes.size() != longitudes.size()) {
+      throw new IllegalArgumentException("Latitudes and longitudes differ in size");
+    }
+    final int size = latitudes.size();
+    final int chunks = (size + Parsers.CHUNK_SIZE - 1) / Parsers.CHUNK_SIZE;
+    Stream<OccurrenceParseResult<LatLng>> results = IntStream.range(0, chunks).parallel()
+      .mapToObj(c -> {
+        int from = c * Parsers.CHUNK_SIZE;
+        int to = Math.min(from + Parsers.CHUNK_SIZE, size);
+        return parseLatLngAll(latitudes.subList(from, to), longitudes.subList(from, to));
+      })
+      .flatMap(List::stream);
+    return ordered ? results : results.unordered();
+  }
 
+  private static <T> OccurrenceParseResult<T> copy(OccurrenceParseResult<T> result) {
+    OccurrenceParseResult<T> copy = new OccurrenceParseResult<>(result.getStatus(), result.getConfidence(),
+      result.getPayload(), result.getAlternativePayloads(), result.getError());
+    copy.addIssues(result);
+    return copy;
   }
 
   /**
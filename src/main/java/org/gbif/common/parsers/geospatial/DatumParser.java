@@ -13,9 +13,9 @@
  */
 package org.gbif.common.parsers.geospatial;
 
-import org.gbif.common.parsers.core.ASCIIParser;
 import org.gbif.common.parsers.core.FileBasedDictionaryParser;
 import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.StringNormalizer;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -37,10 +37,16 @@ import org.apache.commons.lang3.StringUtils;
  *
  */
 public class DatumParser extends FileBasedDictionaryParser<Integer> {
-  private static DatumParser singletonObject;
+  private static class Holder {
+    private static final DatumParser INSTANCE = new DatumParser();
+  }
+  // keeps only the uppercased ASCII letters and digits
+  private static final StringNormalizer NORMALIZER = StringNormalizer.builder()
+      .foldToAscii()
+      .keepAsciiLettersAndDigits()
+      .upperCase()
+      .build();
   private final Pattern EPSG = Pattern.compile("\\s*(EPSG|ESPG)\\s*:+\\s*(\\d+)\\s*$", Pattern.CASE_INSENSITIVE);
-  private final Pattern NORMALIZER = Pattern.compile("[^a-zA-Z0-9]+");
-  private final ASCIIParser ascii = ASCIIParser.getInstance();
 
   private DatumParser() {
     super(false);
@@ -48,12 +54,12 @@ public class DatumParser extends FileBasedDictionaryParser<Integer> {
   }
 
   public static DatumParser getInstance() {
-    synchronized (DatumParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new DatumParser();
-      }
-    }
-    return singletonObject;
+    return Holder.INSTANCE;
+  }
+
+  @Override
+  protected boolean overridesParse() {
+    return true;
   }
 
   @Override
@@ -72,11 +78,8 @@ public class DatumParser extends FileBasedDictionaryParser<Integer> {
   }
 
   @Override
-  protected String normalize(String value) {
-    if (StringUtils.isEmpty(value)) return null;
-    // convert to ascii
-    ParseResult<String> asci = ascii.parse(value);
-    return NORMALIZER.matcher(asci.getPayload()).replaceAll("").toUpperCase();
+  protected StringNormalizer normalizer() {
+    return NORMALIZER;
   }
 
   @Override
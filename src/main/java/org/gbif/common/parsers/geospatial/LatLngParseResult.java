@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.geospatial;
+
+import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.gbif.common.parsers.core.OccurrenceParseResult;
+import org.gbif.common.parsers.core.ParseResult;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * The result of parsing a coordinate, keeping latitude and longitude as primitive doubles.
+ * <p>
+ * Both are {@link Double#NaN} if parsing failed. Issues are bits of
+ * {@link OccurrenceParseResult#issueBit(OccurrenceIssue)}.
+ */
+public final class LatLngParseResult {
+
+  private static final LatLngParseResult FAIL =
+    new LatLngParseResult(ParseResult.STATUS.FAIL, null, Double.NaN, Double.NaN, 0);
+
+  private final ParseResult.STATUS status;
+  private final ParseResult.CONFIDENCE confidence;
+  private final double lat;
+  private final double lng;
+  private final long issueMask;
+
+  private LatLngParseResult(ParseResult.STATUS status, ParseResult.CONFIDENCE confidence, double lat, double lng,
+                            long issueMask) {
+    this.status = status;
+    this.confidence = confidence;
+    this.lat = lat;
+    this.lng = lng;
+    this.issueMask = issueMask;
+  }
+
+  public static LatLngParseResult success(ParseResult.CONFIDENCE confidence, double lat, double lng, long issueMask) {
+    return new LatLngParseResult(ParseResult.STATUS.SUCCESS, confidence, lat, lng, issueMask);
+  }
+
+  /**
+   * @return the shared failure without issues
+   */
+  public static LatLngParseResult fail() {
+    return FAIL;
+  }
+
+  public static LatLngParseResult fail(long issueMask) {
+    return issueMask == 0 ? FAIL : new LatLngParseResult(ParseResult.STATUS.FAIL, null, Double.NaN, Double.NaN, issueMask);
+  }
+
+  public ParseResult.STATUS getStatus() {
+    return status;
+  }
+
+  public ParseResult.CONFIDENCE getConfidence() {
+    return confidence;
+  }
+
+  public boolean isSuccessful() {
+    return status == ParseResult.STATUS.SUCCESS;
+  }
+
+  /**
+   * @return the latitude, NaN if parsing failed
+   */
+  public double getLat() {
+    return lat;
+  }
+
+  /**
+   * @return the longitude, NaN if parsing failed
+   */
+  public double getLng() {
+    return lng;
+  }
+
+  public long getIssueMask() {
+    return issueMask;
+  }
+
+  public boolean hasIssue(OccurrenceIssue issue) {
+    final int ordinal = issue.ordinal();
+    return ordinal < OccurrenceParseResult.MASK_BITS && (issueMask & (1L << ordinal)) != 0;
+  }
+
+  /**
+   * @return the boxed result as returned by {@link CoordinateParseUtils#parseLatLng(String, String)}
+   */
+  public OccurrenceParseResult<LatLng> toOccurrenceParseResult() {
+    return isSuccessful()
+      ? OccurrenceParseResult.success(confidence, new LatLng(lat, lng), issueMask)
+      : OccurrenceParseResult.fail(issueMask);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+      .append("status", status)
+      .append("confidence", confidence)
+      .append("lat", lat)
+      .append("lng", lng)
+      .append("issueMask", Long.toBinaryString(issueMask)).toString();
+  }
+}
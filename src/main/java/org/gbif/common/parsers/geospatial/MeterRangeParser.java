@@ -15,11 +15,12 @@ package org.gbif.common.parsers.geospatial;
 
 import org.gbif.api.vocabulary.OccurrenceIssue;
 import org.gbif.common.parsers.NumberParser;
+import org.gbif.common.parsers.core.DoubleParseResult;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.ParserMetrics;
+import org.gbif.common.parsers.core.ParserMetricsRegistry;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
@@ -28,6 +29,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.gbif.common.parsers.core.OccurrenceParseResult.issueBit;
+
 /**
  * Utilities for parsing min/max meter measurements in general plus specific additions and
  * validations for elevation, depth and distance above surface.
@@ -41,6 +44,10 @@ import org.slf4j.LoggerFactory;
  */
 public class MeterRangeParser {
   private static final Logger LOG = LoggerFactory.getLogger(MeterRangeParser.class);
+  private static final ParserMetrics.Recorder ELEVATION_METRICS =
+    ParserMetricsRegistry.recorder("MeterRangeParser.parseElevation");
+  private static final ParserMetrics.Recorder DEPTH_METRICS = ParserMetricsRegistry.recorder("MeterRangeParser.parseDepth");
+  private static final ParserMetrics.Recorder METERS_METRICS = ParserMetricsRegistry.recorder("MeterRangeParser.parseMeters");
 
   /**
    * Pattern for removing measurement denominations
@@ -153,6 +160,9 @@ public class MeterRangeParser {
 
   static class MeasurementWrapper<T> {
     private T measurement;
+    // the primitive measurement and its accuracy, NaN if missing
+    private double value = Double.NaN;
+    private double accuracy = Double.NaN;
     private boolean isInNauticalMiles;
     private boolean isInFathoms;
     private boolean isInFeet;
@@ -224,125 +234,175 @@ public class MeterRangeParser {
   public static MeasurementWrapper<DoubleAccuracy> parseMeterRange(
       String minRaw, @Nullable String maxRaw, @Nullable String precisionRaw) {
     MeasurementWrapper<DoubleAccuracy> result = new MeasurementWrapper<DoubleAccuracy>();
+    parseMeterRange(minRaw, maxRaw, precisionRaw, result);
+    if (!Double.isNaN(result.value)) {
+      result.measurement = new DoubleAccuracy(result.value, Double.isNaN(result.accuracy) ? null : result.accuracy);
+    }
+    return result;
+  }
 
-    MeasurementWrapper<Double> min = parseInMeter(minRaw);
-    MeasurementWrapper<Double> max = parseInMeter(maxRaw);
-    MeasurementWrapper<Double> prec = parseInMeter(precisionRaw);
-
-    result.addIssues(min);
-    result.addIssues(max);
-    result.addIssues(prec);
+  /**
+   * Sets the primitive value and accuracy and the flags of the result.
+   */
+  private static void parseMeterRange(String minRaw, String maxRaw, String precisionRaw, MeasurementWrapper<?> result) {
+    double min = parseInMeter(minRaw, result);
+    double max = parseInMeter(maxRaw, result);
+    final double prec = parseInMeter(precisionRaw, result);
 
-    if (min.measurement == null && max.measurement == null) {
-      // both are null, return issues only
-      return result;
+    if (Double.isNaN(min) && Double.isNaN(max)) {
+      // both are missing, return issues only
+      return;
     }
 
-    // final result vars
-    Double value;
-    Double accuracy;
-
     // check for swapped values and apply precision if min & max exist
-    if (min.measurement != null && max.measurement != null) {
+    if (!Double.isNaN(min) && !Double.isNaN(max)) {
       // flag swapped min/max
-      if (min.measurement > max.measurement) {
+      if (min > max) {
         result.minMaxSwapped = true;
-        Double oldMin = min.measurement;
-        min.measurement = max.measurement;
-        max.measurement = oldMin;
+        final double oldMin = min;
+        min = max;
+        max = oldMin;
       }
       // apply precision to min max if we have it
-      if (prec.measurement != null) {
-        min.measurement -= prec.measurement;
-        max.measurement += prec.measurement;
+      if (!Double.isNaN(prec)) {
+        min -= prec;
+        max += prec;
       }
       // build the arithmetic mean and set accuracy
-      value = (min.measurement + max.measurement) / 2d;
-      accuracy = (max.measurement - min.measurement) / 2d;
+      result.value = (min + max) / 2d;
+      result.accuracy = (max - min) / 2d;
 
     } else {
       // use the only value and precision for accuracy
-      value = min.measurement == null ? max.measurement : min.measurement;
-      accuracy = prec.measurement;
+      result.value = Double.isNaN(min) ? max : min;
+      result.accuracy = prec;
     }
+  }
 
-    if (value != null) {
-      result.measurement = new DoubleAccuracy(value, accuracy);
+  public static OccurrenceParseResult<DoubleAccuracy> parseElevation(@Nullable String min, @Nullable String max, @Nullable String precision) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      OccurrenceParseResult<DoubleAccuracy> result = toOccurrenceParseResult(parseElevationUntimed(min, max, precision));
+      ELEVATION_METRICS.record(result, System.nanoTime() - start);
+      return result;
     }
+    return toOccurrenceParseResult(parseElevationUntimed(min, max, precision));
+  }
 
-    // finally a result, bye bye!
-    return result;
+  /**
+   * Like {@link #parseElevation(String, String, String)}, but without boxing the elevation and its accuracy.
+   */
+  public static DoubleParseResult parseElevationValue(@Nullable String min, @Nullable String max, @Nullable String precision) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      DoubleParseResult result = parseElevationUntimed(min, max, precision);
+      ELEVATION_METRICS.record(result.getStatus(), result.getConfidence(), System.nanoTime() - start);
+      return result;
+    }
+    return parseElevationUntimed(min, max, precision);
   }
 
-  public static OccurrenceParseResult<DoubleAccuracy> parseElevation(@Nullable String min, @Nullable String max, @Nullable String precision) {
+  private static DoubleParseResult parseElevationUntimed(@Nullable String min, @Nullable String max, @Nullable String precision) {
 
-    MeasurementWrapper<DoubleAccuracy> elevation = parseMeterRange(min, max, precision);
+    MeasurementWrapper<DoubleAccuracy> elevation = new MeasurementWrapper<>();
+    parseMeterRange(min, max, precision, elevation);
 
-    Set<OccurrenceIssue> issues = new HashSet<>();
+    long issues = 0;
     if (elevation.containsNonNumeric) {
-      issues.add(OccurrenceIssue.ELEVATION_NON_NUMERIC);
+      issues |= issueBit(OccurrenceIssue.ELEVATION_NON_NUMERIC);
     }
     if (elevation.isInNauticalMiles || elevation.isInFathoms
       || elevation.isInFeet || elevation.isInInches) {
-      issues.add(OccurrenceIssue.ELEVATION_NOT_METRIC);
+      issues |= issueBit(OccurrenceIssue.ELEVATION_NOT_METRIC);
     }
     if (elevation.minMaxSwapped) {
-      issues.add(OccurrenceIssue.ELEVATION_MIN_MAX_SWAPPED);
+      issues |= issueBit(OccurrenceIssue.ELEVATION_MIN_MAX_SWAPPED);
     }
     if (elevation.tooLarge) {
-      issues.add(OccurrenceIssue.ELEVATION_UNLIKELY);
+      issues |= issueBit(OccurrenceIssue.ELEVATION_UNLIKELY);
     }
 
-    if (elevation.measurement == null || elevation.measurement.getValue() == null) {
-      return OccurrenceParseResult.fail(issues);
+    if (Double.isNaN(elevation.value)) {
+      return DoubleParseResult.fail(issues);
     }
 
-    DoubleAccuracy result = elevation.measurement;
     // record the number of records with altitude out of range
-    if (result.getValue() > MAX_ELEVATION || result.getValue() < MIN_ELEVATION) {
-      issues.add(OccurrenceIssue.ELEVATION_UNLIKELY);
-      return OccurrenceParseResult.fail(issues);
+    if (elevation.value > MAX_ELEVATION || elevation.value < MIN_ELEVATION) {
+      issues |= issueBit(OccurrenceIssue.ELEVATION_UNLIKELY);
+      return DoubleParseResult.fail(issues);
     }
 
-    return OccurrenceParseResult.success(ParseResult.CONFIDENCE.DEFINITE, result, issues);
+    return DoubleParseResult.success(ParseResult.CONFIDENCE.DEFINITE, elevation.value, elevation.accuracy, issues);
   }
 
   public static OccurrenceParseResult<DoubleAccuracy> parseDepth(@Nullable String min, @Nullable String max, @Nullable String precision) {
-    MeasurementWrapper<DoubleAccuracy> depth = parseMeterRange(min, max, precision);
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      OccurrenceParseResult<DoubleAccuracy> result = toOccurrenceParseResult(parseDepthUntimed(min, max, precision));
+      DEPTH_METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return toOccurrenceParseResult(parseDepthUntimed(min, max, precision));
+  }
 
-    Set<OccurrenceIssue> issues = new HashSet<>();
+  /**
+   * Like {@link #parseDepth(String, String, String)}, but without boxing the depth and its accuracy.
+   */
+  public static DoubleParseResult parseDepthValue(@Nullable String min, @Nullable String max, @Nullable String precision) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      DoubleParseResult result = parseDepthUntimed(min, max, precision);
+      DEPTH_METRICS.record(result.getStatus(), result.getConfidence(), System.nanoTime() - start);
+      return result;
+    }
+    return parseDepthUntimed(min, max, precision);
+  }
+
+  private static DoubleParseResult parseDepthUntimed(@Nullable String min, @Nullable String max, @Nullable String precision) {
+    MeasurementWrapper<DoubleAccuracy> depth = new MeasurementWrapper<>();
+    parseMeterRange(min, max, precision, depth);
+
+    long issues = 0;
     if(depth.containsNonNumeric) {
-      issues.add(OccurrenceIssue.DEPTH_NON_NUMERIC);
+      issues |= issueBit(OccurrenceIssue.DEPTH_NON_NUMERIC);
     }
     if(depth.isInNauticalMiles || depth.isInFathoms || depth.isInFeet || depth.isInInches) {
-      issues.add(OccurrenceIssue.DEPTH_NOT_METRIC);
+      issues |= issueBit(OccurrenceIssue.DEPTH_NOT_METRIC);
     }
     if(depth.minMaxSwapped) {
-      issues.add(OccurrenceIssue.DEPTH_MIN_MAX_SWAPPED);
+      issues |= issueBit(OccurrenceIssue.DEPTH_MIN_MAX_SWAPPED);
     }
     if(depth.tooLarge) {
-      issues.add(OccurrenceIssue.DEPTH_UNLIKELY);
+      issues |= issueBit(OccurrenceIssue.DEPTH_UNLIKELY);
     }
 
-    if (depth.measurement == null || depth.measurement.getValue() == null) {
-      return OccurrenceParseResult.fail(issues);
+    if (Double.isNaN(depth.value)) {
+      return DoubleParseResult.fail(issues);
     }
 
-    DoubleAccuracy result = depth.measurement;
+    double value = depth.value;
 
     // negate depth if its negative
-    if (result.getValue() < 0) {
-      result = new DoubleAccuracy(-1 * result.getValue(), result.getAccuracy());
-      issues.add(OccurrenceIssue.DEPTH_UNLIKELY);
+    if (value < 0) {
+      value = -1 * value;
+      issues |= issueBit(OccurrenceIssue.DEPTH_UNLIKELY);
     }
 
     // record the number of records with depth out of range
-    if (result.getValue() > MAX_DEPTH) {
-      issues.add(OccurrenceIssue.DEPTH_UNLIKELY);
-      return OccurrenceParseResult.fail(issues);
+    if (value > MAX_DEPTH) {
+      issues |= issueBit(OccurrenceIssue.DEPTH_UNLIKELY);
+      return DoubleParseResult.fail(issues);
     }
 
-    return OccurrenceParseResult.success(ParseResult.CONFIDENCE.DEFINITE, result, issues);
+    return DoubleParseResult.success(ParseResult.CONFIDENCE.DEFINITE, value, depth.accuracy, issues);
+  }
+
+  private static OccurrenceParseResult<DoubleAccuracy> toOccurrenceParseResult(DoubleParseResult result) {
+    if (!result.isSuccessful()) {
+      return OccurrenceParseResult.fail(result.getIssueMask());
+    }
+    DoubleAccuracy payload = new DoubleAccuracy(result.getValue(), result.hasAccuracy() ? result.getAccuracy() : null);
+    return OccurrenceParseResult.success(result.getConfidence(), payload, result.getIssueMask());
   }
 
   /**
@@ -350,33 +410,74 @@ public class MeterRangeParser {
    * Accepts nautical miles, fathoms, feet, inches if marked with a unit and converts them
    */
   public static ParseResult<Double> parseMeters(String meter) {
-    MeasurementWrapper<Double> result = parseInMeter(meter);
-    if (result.getMeasurement() == null) {
-      return ParseResult.fail();
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      ParseResult<Double> result = toParseResult(parseMetersUntimed(meter));
+      METERS_METRICS.record(result, System.nanoTime() - start);
+      return result;
+    }
+    return toParseResult(parseMetersUntimed(meter));
+  }
+
+  /**
+   * Like {@link #parseMeters(String)}, but without boxing the metres.
+   */
+  public static DoubleParseResult parseMetersValue(String meter) {
+    if (ParserMetricsRegistry.ENABLED) {
+      final long start = System.nanoTime();
+      DoubleParseResult result = parseMetersUntimed(meter);
+      METERS_METRICS.record(result.getStatus(), result.getConfidence(), System.nanoTime() - start);
+      return result;
+    }
+    return parseMetersUntimed(meter);
+  }
+
+  private static DoubleParseResult parseMetersUntimed(String meter) {
+    final double value = parseInMeter(meter, new MeasurementWrapper<Double>());
+    if (Double.isNaN(value)) {
+      return DoubleParseResult.fail();
     }
-    return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, result.getMeasurement());
+    return DoubleParseResult.success(ParseResult.CONFIDENCE.DEFINITE, value);
   }
 
-  private static MeasurementWrapper<Double> parseInMeter(String meter) {
-    MeasurementWrapper<Double> iMeter = new MeasurementWrapper<>();
+  private static ParseResult<Double> toParseResult(DoubleParseResult result) {
+    if (!result.isSuccessful()) {
+      return ParseResult.fail();
+    }
+    return ParseResult.success(result.getConfidence(), result.getValue());
+  }
 
+  /**
+   * Parses a value in metres and adds its flags to the given ones.
+   *
+   * @return the value or NaN if it cannot be parsed
+   */
+  private static double parseInMeter(String meter, MeasurementWrapper<?> flags) {
     if (StringUtils.isEmpty(meter)) {
-      return iMeter;
+      return Double.NaN;
     }
 
+    double measurement = Double.NaN;
     try {
-      iMeter.containsNonNumeric = MEASURE_MARKER_PATTERN.matcher(meter).find();
+      final boolean containsNonNumeric = MEASURE_MARKER_PATTERN.matcher(meter).find();
+      flags.containsNonNumeric |= containsNonNumeric;
 
-      if (!iMeter.containsNonNumeric()) {
-        iMeter.measurement = NumberParser.parseDouble(meter);
+      if (!containsNonNumeric) {
+        measurement = NumberParser.parseDouble(meter, Double.NaN);
 
       } else {
-        iMeter.isInNauticalMiles = NAUTICAL_MILES_MARKER_PATTERN.matcher(meter).find();
-        iMeter.isInFathoms = FATHOMS_MARKER_PATTERN.matcher(meter).find();
-        iMeter.isInFeet = FEET_MARKER_PATTERN.matcher(meter).find();
-        iMeter.isInInches = INCHES_MARKER_PATTERN.matcher(meter).find();
-        iMeter.isInKm = KM_MARKER_PATTERN.matcher(meter).find();
-        iMeter.isInCm = CM_MARKER_PATTERN.matcher(meter).find();
+        final boolean isInNauticalMiles = NAUTICAL_MILES_MARKER_PATTERN.matcher(meter).find();
+        final boolean isInFathoms = FATHOMS_MARKER_PATTERN.matcher(meter).find();
+        final boolean isInFeet = FEET_MARKER_PATTERN.matcher(meter).find();
+        final boolean isInInches = INCHES_MARKER_PATTERN.matcher(meter).find();
+        final boolean isInKm = KM_MARKER_PATTERN.matcher(meter).find();
+        final boolean isInCm = CM_MARKER_PATTERN.matcher(meter).find();
+        flags.isInNauticalMiles |= isInNauticalMiles;
+        flags.isInFathoms |= isInFathoms;
+        flags.isInFeet |= isInFeet;
+        flags.isInInches |= isInInches;
+        flags.isInKm |= isInKm;
+        flags.isInCm |= isInCm;
 
         // handle 6-7m values
         if (SEP_MARKER_PATTERN.matcher(meter).find()) {
@@ -387,38 +488,38 @@ public class MeterRangeParser {
             String max = meter.substring(meter.indexOf('-') + 1).trim();
             max = removeMeasurementMarkers(max);
 
-            Double minDouble = NumberParser.parseDouble(min);
-            Double maxDouble = NumberParser.parseDouble(max);
+            final double minDouble = NumberParser.parseDouble(min, Double.NaN);
+            final double maxDouble = NumberParser.parseDouble(max, Double.NaN);
 
-            if (minDouble == null && maxDouble != null){
-              iMeter.measurement = maxDouble;
-            } else if(maxDouble == null && minDouble != null){
-              iMeter.measurement = maxDouble;
-            } else if (minDouble != null && maxDouble != null && minDouble != 0 && maxDouble != 0
+            if (Double.isNaN(minDouble) && !Double.isNaN(maxDouble)) {
+              measurement = maxDouble;
+            } else if (Double.isNaN(maxDouble) && !Double.isNaN(minDouble)) {
+              measurement = maxDouble;
+            } else if (!Double.isNaN(minDouble) && !Double.isNaN(maxDouble) && minDouble != 0 && maxDouble != 0
               && maxDouble - minDouble != 0) {
-              iMeter.measurement = (maxDouble + minDouble) / 2;
+              measurement = (maxDouble + minDouble) / 2;
             }
           } catch (NumberFormatException ignored) {
           }
 
         } else {
-          iMeter.measurement = NumberParser.parseDouble(removeMeasurementMarkers(meter));
+          measurement = NumberParser.parseDouble(removeMeasurementMarkers(meter), Double.NaN);
         }
 
-        if (iMeter.measurement != null) {
+        if (!Double.isNaN(measurement)) {
           // convert to metric
-          if (iMeter.isInNauticalMiles) {
-            iMeter.measurement = convertNauticalMilesToMetres(iMeter.measurement);
-          } else if (iMeter.isInFathoms) {
-            iMeter.measurement = convertFathomsToMetres(iMeter.measurement);
-          } else if (iMeter.isInFeet) {
-            iMeter.measurement = convertFeetToMetres(iMeter.measurement);
-          } else if (iMeter.isInInches) {
-            iMeter.measurement = convertInchesToMetres(iMeter.measurement);
-          } else if (iMeter.isInKm){
-            iMeter.measurement = convertKmToMetres(iMeter.measurement);
-          } else if (iMeter.isInCm){
-            iMeter.measurement = convertCmToMetres(iMeter.measurement);
+          if (isInNauticalMiles) {
+            measurement = convertNauticalMilesToMetres(measurement);
+          } else if (isInFathoms) {
+            measurement = convertFathomsToMetres(measurement);
+          } else if (isInFeet) {
+            measurement = convertFeetToMetres(measurement);
+          } else if (isInInches) {
+            measurement = convertInchesToMetres(measurement);
+          } else if (isInKm){
+            measurement = convertKmToMetres(measurement);
+          } else if (isInCm){
+            measurement = convertCmToMetres(measurement);
           }
         }
       }
@@ -427,10 +528,10 @@ public class MeterRangeParser {
     }
 
     // round to centimetres
-    if (iMeter.measurement != null) {
-      iMeter.measurement = Math.round(iMeter.measurement * 100.0) / 100.0;
+    if (!Double.isNaN(measurement)) {
+      measurement = Math.round(measurement * 100.0) / 100.0;
     }
-    return iMeter;
+    return measurement;
   }
 
   /**
@@ -14,6 +14,7 @@
 package org.gbif.common.parsers;
 
 import org.gbif.api.vocabulary.BasisOfRecord;
+import org.gbif.common.parsers.core.FuzzyParseResult;
 import org.gbif.common.parsers.core.ParseResult;
 
 import java.io.BufferedReader;
@@ -25,6 +26,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BasisOfRecordParserTest extends ParserTestBase<BasisOfRecord> {
@@ -94,6 +96,20 @@ public class BasisOfRecordParserTest extends ParserTestBase<BasisOfRecord> {
     assertParseSuccess(BasisOfRecord.OCCURRENCE, "Unknown");
   }
 
+  @Test
+  public void testParseFuzzy() {
+    BasisOfRecordParser bor = BasisOfRecordParser.getInstance();
+    assertEquals(BasisOfRecord.PRESERVED_SPECIMEN, bor.parseFuzzy("specimem").getPayload());
+    // deprecated bases are replaced like exact hits
+    assertEquals(BasisOfRecord.MATERIAL_CITATION, bor.parseFuzzy("Literature").getPayload());
+    ParseResult<BasisOfRecord> literature = bor.parseFuzzy("Litterature");
+    assertTrue(literature instanceof FuzzyParseResult);
+    assertEquals(BasisOfRecord.MATERIAL_CITATION, literature.getPayload());
+    ParseResult<BasisOfRecord> unknown = bor.parseFuzzy("Unknwon");
+    assertTrue(unknown instanceof FuzzyParseResult);
+    assertEquals(BasisOfRecord.OCCURRENCE, unknown.getPayload());
+  }
+
   /**
    * Parse all unique basis of record values found in our index and make sure parsing doesn't get worse.
    * If the test file is updated, values here need to be adjusted!
@@ -17,8 +17,6 @@ import org.gbif.api.vocabulary.Habitat;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-
 public class HabitatParserTest extends ParserTestBase<Habitat> {
 
   public HabitatParserTest() {
@@ -38,10 +36,10 @@ public class HabitatParserTest extends ParserTestBase<Habitat> {
 
   @Test
   public void testStemming() {
-    assertEquals("FOREST", HabitatParser.getInstance().normalize("forests"));
-    assertEquals("ESTUARIE", HabitatParser.getInstance().normalize("estuaries "));
-    assertEquals("MISSES", HabitatParser.getInstance().normalize("missess"));
-    assertEquals("ABBA", HabitatParser.getInstance().normalize("ABBA"));
+    assertParseSuccess(Habitat.TERRESTRIAL, "forests");
+    assertParseSuccess(Habitat.MARINE, "estuaries ");
+    assertParseFailure("missess");
+    assertParseFailure("ABBA");
   }
 
   @Test
@@ -17,7 +17,9 @@ package org.gbif.common.parsers;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class NumberParserTest {
 
@@ -46,6 +48,26 @@ public class NumberParserTest {
     assertNull(NumberParser.parseDouble("312,dsfds"));
     assertNull(NumberParser.parseDouble("43-1"));
     assertNull(NumberParser.parseDouble("43,112,321"));
+    assertTrue(NumberParser.parseDouble("NaN").isNaN());
 
   }
+
+  @Test
+  public void testPrimitives() {
+    assertEquals(22788130.9993d, NumberParser.parseDouble("22.788.130,9993", Double.NaN), 0.0);
+    assertEquals(-2.123d, NumberParser.parseDouble("-2,123", Double.NaN), 0.0);
+    assertTrue(Double.isNaN(NumberParser.parseDouble("43-1", Double.NaN)));
+    assertTrue(Double.isNaN(NumberParser.parseDouble(" ", Double.NaN)));
+    assertEquals(-1d, NumberParser.parseDouble(null, -1d), 0.0);
+    assertEquals(-1d, NumberParser.parseDouble("NaN", -1d), 0.0);
+    assertTrue(NumberParser.isNaN(" NaN"));
+    assertFalse(NumberParser.isNaN("43-1"));
+
+    assertEquals(12, NumberParser.parseInt("12", -1));
+    assertEquals(1234, NumberParser.parseInt("1.234", -1));
+    assertEquals(Integer.MIN_VALUE, NumberParser.parseInt("-2147483648", 0));
+    assertEquals(-1, NumberParser.parseInt("twelve", -1));
+    assertEquals(Integer.valueOf(12), NumberParser.parseInteger(" 12"));
+    assertNull(NumberParser.parseInteger("twelve"));
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers;
+
+import org.gbif.api.vocabulary.BasisOfRecord;
+import org.gbif.api.vocabulary.Country;
+import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.gbif.api.vocabulary.Sex;
+import org.gbif.api.vocabulary.TypeStatus;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecordInterpreterTest {
+
+  private final RecordInterpreter interpreter = RecordInterpreter.create();
+
+  @Test
+  public void testInterpretMap() {
+    Map<String, String> record = new HashMap<>();
+    record.put("country", "Denmark");
+    record.put("dwc:basisOfRecord", "preserved specimen");
+    record.put("http://rs.tdwg.org/dwc/terms/typeStatus", "holotype");
+    record.put("sex", "female");
+    record.put("decimalLatitude", "55.676098");
+    record.put("decimalLongitude", "12.568337");
+    record.put("geodeticDatum", "EPSG:4326");
+    record.put("minimumElevationInMeters", "10");
+    record.put("maximumElevationInMeters", "20");
+    record.put("eventDate", "2019-05-27");
+    record.put("someOtherTerm", "ignored");
+
+    RecordInterpretation result = interpreter.interpret(record);
+    assertEquals(Country.DENMARK, result.getCountry());
+    assertEquals(BasisOfRecord.PRESERVED_SPECIMEN, result.getBasisOfRecord());
+    assertEquals(TypeStatus.HOLOTYPE, result.getTypeStatus());
+    assertEquals(Sex.FEMALE, result.getSex());
+    assertTrue(result.hasCoordinate());
+    assertEquals(55.676098, result.getDecimalLatitude(), 0.0);
+    assertEquals(12.568337, result.getDecimalLongitude(), 0.0);
+    assertEquals(Integer.valueOf(4326), result.getGeodeticDatum());
+    assertEquals(15d, result.getElevation(), 0.0);
+    assertEquals(5d, result.getElevationAccuracy(), 0.0);
+    assertTrue(Double.isNaN(result.getDepth()));
+    assertEquals(LocalDate.of(2019, 5, 27), result.getEventDate().getFrom());
+    assertEquals(0, result.getIssueMask());
+    assertEquals("Denmark", result.getVerbatim(RecordInterpreter.Field.COUNTRY));
+  }
+
+  @Test
+  public void testIssues() {
+    Map<String, String> record = new HashMap<>();
+    record.put("country", "Atlantis");
+    record.put("basisOfRecord", "nonsense");
+    record.put("decimalLatitude", "0");
+    record.put("decimalLongitude", "0");
+    record.put("minimumDepthInMeters", "-800");
+    record.put("sex", "unknowable");
+
+    RecordInterpretation result = interpreter.interpret(record);
+    assertNull(result.getCountry());
+    assertNull(result.getBasisOfRecord());
+    assertNull(result.getSex());
+    assertEquals(800d, result.getDepth(), 0.0);
+    assertEquals(EnumSet.of(OccurrenceIssue.COUNTRY_INVALID, OccurrenceIssue.BASIS_OF_RECORD_INVALID,
+      OccurrenceIssue.ZERO_COORDINATE, OccurrenceIssue.DEPTH_UNLIKELY), result.getIssues());
+  }
+
+  @Test
+  public void testInterpretRows() {
+    RecordInterpreter.Columns columns = RecordInterpreter.columns("id", "dwc:country", "verbatimCoordinates",
+      "decimalLatitude", "year", "month", "day");
+    assertEquals(1, columns.indexOf(RecordInterpreter.Field.COUNTRY));
+    assertEquals(-1, columns.indexOf(RecordInterpreter.Field.COUNTRY_CODE));
+
+    RecordInterpretation result = new RecordInterpretation();
+    assertSame(result, interpreter.interpret(new String[] {"1", "Denmark", "02° 49' 52\" N 131° 47' 03\" E", "", "2001",
+      "2", "30"}, columns, result));
+    assertEquals(Country.DENMARK, result.getCountry());
+    assertEquals(2.831111d, result.getDecimalLatitude(), 0.0);
+    assertTrue(result.hasIssue(OccurrenceIssue.RECORDED_DATE_INVALID));
+
+    // reusing the result clears the previous record, short rows are fine
+    interpreter.interpret(new String[] {"2", "Atlantis"}, columns, result);
+    assertNull(result.getVerbatim(RecordInterpreter.Field.YEAR));
+    assertFalse(result.hasCoordinate());
+    assertNull(result.getEventDate());
+    assertEquals(EnumSet.of(OccurrenceIssue.COUNTRY_INVALID), result.getIssues());
+  }
+}
@@ -15,8 +15,13 @@ package org.gbif.common.parsers.core;
 
 import org.gbif.common.parsers.ParserTestBase;
 
+import java.nio.CharBuffer;
+
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public class ASCIIParserTest extends ParserTestBase<String> {
 
   public ASCIIParserTest() {
@@ -27,5 +32,33 @@ public class ASCIIParserTest extends ParserTestBase<String> {
   public void testParse() throws Exception {
     assertParseSuccess("Hello Bertocko", "Hello Bértöçkø");
     assertParseSuccess("Doring aeoe o aoaueaoiuuaUEc", "Döring æœ ø åöäüêâôîûúáÙÈç");
+    assertParseSuccess("(1)ffi\"-\"", "⑴ﬃ«–»");
+    assertParseSuccess("Ελλάδα", "Ελλάδα");
+    assertParseFailure("");
+  }
+
+  @Test
+  public void testAsciiIsNotCopied() {
+    String ascii = "Plain ASCII, no copy needed!";
+    assertSame(ascii, ASCIIParser.getInstance().parse(ascii).getPayload());
+  }
+
+  @Test
+  public void testFoldIntoBuffers() {
+    String input = "Bértöçkø ⑴";
+    String folded = "Bertocko (1)";
+
+    StringBuilder sb = new StringBuilder("x");
+    assertEquals(folded.length(), ASCIIParser.foldToASCII(input, sb));
+    assertEquals("x" + folded, sb.toString());
+
+    char[] chars = new char[2 + input.length() * ASCIIParser.MAX_FOLDED_LENGTH];
+    assertEquals(folded.length(), ASCIIParser.foldToASCII(input, chars, 2));
+    assertEquals(folded, new String(chars, 2, folded.length()));
+
+    CharBuffer buffer = CharBuffer.allocate(input.length() * ASCIIParser.MAX_FOLDED_LENGTH);
+    assertEquals(folded.length(), ASCIIParser.foldToASCII(input, buffer));
+    buffer.flip();
+    assertEquals(folded, buffer.toString());
   }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultParserMetricsTest {
+
+  @Test
+  public void testCounts() {
+    DefaultParserMetrics metrics = new DefaultParserMetrics(false);
+    assertNull(metrics.get("test"));
+    ParserMetrics.Recorder recorder = metrics.recorder("test");
+    assertSame(recorder, metrics.recorder("test"));
+
+    recorder.record(ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, "a"), 100);
+    recorder.record(ParseResult.success(ParseResult.CONFIDENCE.PROBABLE, "a"), 200);
+    recorder.record(ParseResult.fail(), 300);
+    recorder.record(ParseResult.STATUS.ERROR, null, 400);
+
+    DefaultParserMetrics.StatsMBean stats = metrics.get("test");
+    assertEquals(4, stats.getCalls());
+    assertEquals(2, stats.getSuccesses());
+    assertEquals(1, stats.getFailures());
+    assertEquals(1, stats.getErrors());
+    assertEquals(0.5, stats.getHitRate(), 0.0001);
+    assertEquals(1, stats.getDefinite());
+    assertEquals(1, stats.getProbable());
+    assertEquals(0, stats.getPossible());
+    assertEquals(250, stats.getMeanLatencyNanos(), 0.0001);
+
+    recorder.recordRejection();
+    assertEquals(1, stats.getRejections());
+    assertEquals(0.25, stats.getRejectionRate(), 0.0001);
+
+    recorder.recordReload(12);
+    assertEquals(1, stats.getReloads());
+    assertEquals(12, stats.getReloadedEntries());
+    assertTrue(stats.getLastReloadMillis() > 0);
+
+    stats.reset();
+    assertEquals(0, stats.getCalls());
+    assertEquals(0, stats.getHitRate(), 0.0001);
+    assertEquals(0, stats.getRejections());
+    assertEquals(1, stats.getReloads());
+  }
+
+  @Test
+  public void testPercentiles() {
+    DefaultParserMetrics metrics = new DefaultParserMetrics(false);
+    ParserMetrics.Recorder recorder = metrics.recorder("test");
+    for (int i = 1; i <= 1000; i++) {
+      recorder.record(ParseResult.STATUS.SUCCESS, null, i * 1000L);
+    }
+    DefaultParserMetrics.StatsMBean stats = metrics.get("test");
+    // buckets are within 12.5% of the recorded values
+    assertEquals(500_000, stats.getMedianLatencyNanos(), 500_000 / 8.0);
+    assertEquals(990_000, stats.getP99LatencyNanos(), 990_000 / 8.0);
+    assertEquals(999_000, stats.getP999LatencyNanos(), 999_000 / 8.0);
+  }
+
+  @Test
+  public void testHistogramBuckets() {
+    for (long v : new long[] {0, 1, 7, 8, 9, 15, 16, 1000, 123_456_789L, 1L << 39}) {
+      int index = LatencyHistogram.index(v);
+      assertTrue(LatencyHistogram.lowestValue(index) <= v, "lowest value of bucket " + index + " above " + v);
+      assertTrue(LatencyHistogram.lowestValue(index + 1) > v, "next bucket " + (index + 1) + " not above " + v);
+    }
+    assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testMBean() throws Exception {
+    DefaultParserMetrics metrics = new DefaultParserMetrics();
+    metrics.recorder("JmxTestParser").record(ParseResult.fail(), 10);
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(DefaultParserMetrics.DOMAIN + ":type=ParserMetrics,name=\"JmxTestParser\"");
+    assertTrue(server.isRegistered(name));
+    assertEquals(1L, server.getAttribute(name, "Calls"));
+    assertEquals(1L, server.getAttribute(name, "Failures"));
+    assertEquals(0.0, server.getAttribute(name, "HitRate"));
+  }
+}
@@ -14,12 +14,18 @@
 package org.gbif.common.parsers.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DictionaryBackedParserTest {
 
@@ -39,6 +45,8 @@ public class DictionaryBackedParserTest {
     assertParsed(dbp, "MarKUS", 38);
     assertParsed(dbp, "Jose", 28);
     assertEquals(ParseResult.STATUS.FAIL, dbp.parse("Lars").getStatus());
+    // hits share one result per value
+    assertSame(dbp.parse("Tim"), dbp.parse("TIM"));
   }
 
   @Test
@@ -53,6 +61,167 @@ public class DictionaryBackedParserTest {
     assertEquals(ParseResult.STATUS.FAIL, dbp.parse("MATT").getStatus());
   }
 
+  @Test
+  public void testParseFuzzy() {
+    List<KeyValue<String, String>> source = new ArrayList<>();
+    source.add(new KeyValue<>("Holotype", "holotype"));
+    source.add(new KeyValue<>("Germany", "DE"));
+    source.add(new KeyValue<>("Preserved specimen", "specimen"));
+    source.add(new KeyValue<>("Cat", "cat"));
+    source.add(new KeyValue<>("Mali", "ML"));
+    source.add(new KeyValue<>("Bali", "ID"));
+    DictionaryBackedParser<String> dbp = new DictionaryBackedParser<>(false);
+    dbp.init(source.iterator());
+
+    // exact hits stay DEFINITE
+    assertSame(dbp.parse("germany"), dbp.parseFuzzy("germany"));
+    assertFuzzy(dbp.parseFuzzy("Germnay"), "DE", ParseResult.CONFIDENCE.PROBABLE, 1);
+    assertFuzzy(dbp.parseFuzzy("holotpye"), "holotype", ParseResult.CONFIDENCE.PROBABLE, 1);
+    assertFuzzy(dbp.parseFuzzy("Preserved specimem"), "specimen", ParseResult.CONFIDENCE.PROBABLE, 1);
+    assertFuzzy(dbp.parseFuzzy("Preservd speciman"), "specimen", ParseResult.CONFIDENCE.POSSIBLE, 2);
+    // two edits need at least 8 chars, short values none
+    assertEquals(ParseResult.STATUS.FAIL, dbp.parseFuzzy("Gremnay").getStatus());
+    assertEquals(ParseResult.STATUS.FAIL, dbp.parseFuzzy("Cab").getStatus());
+    assertEquals(ParseResult.STATUS.FAIL, dbp.parseFuzzy("Atlantis").getStatus());
+    assertEquals(ParseResult.STATUS.FAIL, dbp.parseFuzzy(null).getStatus());
+
+    // equally close keys of different values
+    ParseResult<String> ambiguous = dbp.parseFuzzy("Dali");
+    assertEquals(ParseResult.STATUS.FAIL, ambiguous.getStatus());
+    assertEquals(ParseResult.CONFIDENCE.POSSIBLE, ambiguous.getConfidence());
+    assertEquals(2, ambiguous.getAlternativePayloads().size());
+  }
+
+  private static void assertFuzzy(ParseResult<String> result, String expected, ParseResult.CONFIDENCE confidence,
+                                  int distance) {
+    assertEquals(ParseResult.STATUS.SUCCESS, result.getStatus());
+    assertEquals(expected, result.getPayload());
+    assertEquals(confidence, result.getConfidence());
+    assertEquals(distance, ((FuzzyParseResult<String>) result).getEditDistance());
+  }
+
+  @Test
+  public void testFrozenAfterParse() {
+    List<KeyValue<String, Integer>> source = new ArrayList<KeyValue<String, Integer>>();
+    source.add(new KeyValue<String, Integer>("Tim", 32));
+    DictionaryBackedParser<Integer> dbp = new DictionaryBackedParser<Integer>(false);
+    dbp.init(source.iterator());
+
+    assertParsed(dbp, "Tim", 32);
+    source.add(new KeyValue<String, Integer>("Lars", 41));
+    assertThrows(IllegalStateException.class, () -> dbp.init(source.iterator()));
+  }
+
+  @Test
+  public void testNormalizeOverride() {
+    StringNormalizer letters = StringNormalizer.builder().keepLetters().upperCase().build();
+    class LettersParser extends DictionaryBackedParser<Integer> {
+      LettersParser() {
+        super(false);
+      }
+
+      @Override
+      protected StringNormalizer normalizer() {
+        return letters;
+      }
+    }
+    // parse must not bypass an override of normalize in a subclass
+    DictionaryBackedParser<Integer> dbp = new LettersParser() {
+      @Override
+      protected boolean overridesNormalize() {
+        return true;
+      }
+
+      @Override
+      protected String normalize(String value) {
+        return super.normalize(value == null ? null : value.replace('0', 'O'));
+      }
+    };
+    List<KeyValue<String, Integer>> source = new ArrayList<KeyValue<String, Integer>>();
+    source.add(new KeyValue<String, Integer>("Tom", 32));
+    dbp.init(source.iterator());
+
+    assertParsed(dbp, "T-o-m", 32);
+    assertParsed(dbp, "T0M", 32);
+  }
+
+  @Test
+  public void testParseInto() {
+    List<KeyValue<String, Integer>> source = new ArrayList<KeyValue<String, Integer>>();
+    source.add(new KeyValue<String, Integer>("Tim", 32));
+    source.add(new KeyValue<String, Integer>("Jose", 28));
+    DictionaryBackedParser<Integer> dbp = new DictionaryBackedParser<Integer>(false);
+    dbp.init(source.iterator());
+
+    List<ParseResult<Integer>> results = dbp.parseAll(Arrays.asList("tim", "tim", null, "Jose", "Lars", "TIM"));
+    assertEquals(6, results.size());
+    assertSame(dbp.parse("Tim"), results.get(0));
+    assertSame(results.get(0), results.get(1));
+    assertSame(results.get(0), results.get(5));
+    assertFalse(results.get(2).isSuccessful());
+    assertEquals(28, results.get(3).getPayload());
+    assertFalse(results.get(4).isSuccessful());
+
+    @SuppressWarnings("unchecked")
+    ParseResult<Integer>[] tooShort = new ParseResult[1];
+    assertThrows(IllegalArgumentException.class, () -> dbp.parseInto(new String[] {"a", "b"}, tooShort));
+  }
+
+  @Test
+  public void testParseIntoRepeats() {
+    final AtomicInteger normalised = new AtomicInteger();
+    DictionaryBackedParser<Integer> dbp = new DictionaryBackedParser<Integer>(false) {
+      @Override
+      protected String normalize(String value) {
+        normalised.incrementAndGet();
+        return super.normalize(value);
+      }
+    };
+    dbp.init(Arrays.asList(new KeyValue<String, Integer>("Tim", 32)).iterator());
+    normalised.set(0);
+
+    // repeats that are not adjacent are only looked up once as well
+    List<ParseResult<Integer>> results = dbp.parseAll(Arrays.asList("Tim", "Lars", "Tim", "Lars", "Lars"));
+    assertEquals(2, normalised.get());
+    assertEquals(32, results.get(2).getPayload());
+    assertSame(results.get(1), results.get(3));
+    assertFalse(results.get(4).isSuccessful());
+  }
+
+  @Test
+  public void testParseIntoOverride() {
+    // batches must not bypass an override of parse
+    DictionaryBackedParser<Integer> dbp = new DictionaryBackedParser<Integer>(false) {
+      @Override
+      protected boolean overridesParse() {
+        return true;
+      }
+
+      @Override
+      public ParseResult<Integer> parse(String input) {
+        return ParseResult.success(ParseResult.CONFIDENCE.PROBABLE, input == null ? 0 : input.length());
+      }
+    };
+    List<ParseResult<Integer>> results = dbp.parseAll(Arrays.asList("abc", "abc", "x"));
+    assertEquals(3, results.get(0).getPayload());
+    assertSame(results.get(0), results.get(1));
+    assertEquals(1, results.get(2).getPayload());
+  }
+
+  @Test
+  public void testOffHeapProperty() {
+    System.setProperty(DictionaryBackedParser.OFF_HEAP_PROPERTY, "CountryParser, DictionaryBackedParser");
+    try {
+      DictionaryBackedParser<Integer> dbp = new DictionaryBackedParser<Integer>(false);
+      dbp.init(Arrays.asList(new KeyValue<String, Integer>("Tim", 32)).iterator());
+      assertTrue(dbp.frozenDictionary() instanceof OffHeapDictionary);
+      assertParsed(dbp, "tim", 32);
+    } finally {
+      System.clearProperty(DictionaryBackedParser.OFF_HEAP_PROPERTY);
+    }
+    assertTrue(new DictionaryBackedParser<Integer>(false).frozenDictionary() instanceof HashDictionary);
+  }
+
   private void assertParsed(DictionaryBackedParser<Integer> dbp, String input, Integer payload) {
     assertNotNull(dbp.parse(input));
     assertEquals(ParseResult.STATUS.SUCCESS, dbp.parse(input).getStatus());
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DictionaryFileTest {
+
+  @Test
+  public void testRead() throws IOException {
+    // starting with a byte order mark
+    DictionaryFile file = read("\uFEFFtim\t32\n"
+      + " Markus \t 38 \r\n"
+      + "\n"
+      + "   \t  \n"
+      + "#carey\t31\r"
+      + "eggs\t\n"
+      + "Åland\tAX\t\t\n"
+      + "jose\t28", null);
+    assertEquals(Arrays.asList("tim", "Markus", "#carey", "Åland", "jose"), file.keys());
+    assertEquals(Arrays.asList("32", "38", "31", "AX", "28"), file.values());
+    assertEquals(0, file.errors().size());
+  }
+
+  @Test
+  public void testComments() throws IOException {
+    DictionaryFile file = read("# a comment\n#carey\t31\ntim\t32\n", "#");
+    assertEquals(Arrays.asList("tim"), file.keys());
+    assertEquals(0, file.errors().size());
+  }
+
+  @Test
+  public void testMalformedLines() throws IOException {
+    DictionaryFile file = read("tim\t32\n"
+      + "BELGIA (BE)\n"
+      + "nom. dub.   DOUBTFUL\r\n"
+      + "a\tb\tc\n"
+      + "\t40\n"
+      + "jose\t28\n", null);
+    assertEquals(Arrays.asList("tim", "jose"), file.keys());
+    assertEquals(Arrays.asList(
+      "line 2 without a tab",
+      "line 3 without a tab",
+      "line 4 with more than two columns",
+      "line 5 without a key"), file.errors());
+  }
+
+  private static DictionaryFile read(String content, String commentMarker) throws IOException {
+    return DictionaryFile.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), commentMarker,
+      "test");
+  }
+}
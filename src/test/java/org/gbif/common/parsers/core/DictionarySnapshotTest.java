@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+import org.gbif.api.vocabulary.Sex;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DictionarySnapshotTest {
+
+  private static final String STAMP = "1.0 0000cafe";
+  private static final EnumParser<Rank> PARSER = new EnumParser<>(Rank.class, false);
+  private static final String NORMALIZATION = DictionarySnapshot.normalization(PARSER);
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    EnumParser<Rank> parser = new EnumParser<>(Rank.class, false);
+    byte[] bytes = write(parser);
+
+    Map<String, Rank> entries =
+      DictionarySnapshot.read(new ByteArrayInputStream(bytes), Rank.class, STAMP, NORMALIZATION);
+    Map<String, Rank> expected = new HashMap<>();
+    parser.frozenDictionary().forEach(expected::put);
+    assertEquals(expected, entries);
+
+    EnumParser<Rank> fromSnapshot = new EnumParser<>(Rank.class, false);
+    fromSnapshot.freeze(entries);
+    assertTrue(fromSnapshot.isFromSnapshot());
+    assertFalse(parser.isFromSnapshot());
+    assertSame(Rank.SPECIES, fromSnapshot.parse("species").getPayload());
+    assertSame(fromSnapshot.parse("GENUS"), fromSnapshot.parse("genus"));
+    // later additions are part of the snapshot already
+    fromSnapshot.add("ignored", Rank.FAMILY);
+    assertFalse(fromSnapshot.parse("ignored").isSuccessful());
+  }
+
+  @Test
+  public void testOtherStamp() throws Exception {
+    byte[] bytes = write(new EnumParser<>(Rank.class, false));
+    assertNull(DictionarySnapshot.read(new ByteArrayInputStream(bytes), Rank.class, "1.1 0000cafe", NORMALIZATION));
+    assertNull(DictionarySnapshot.read(new ByteArrayInputStream(bytes), Rank.class, "1.0 0000beef", NORMALIZATION));
+  }
+
+  @Test
+  public void testOtherNormalization() throws Exception {
+    byte[] bytes = write(new EnumParser<>(Rank.class, false));
+    // e.g. written before a normalizer changed, or with another JDK
+    String other = StringNormalizer.builder().upperCase().build().configuration();
+    assertNull(DictionarySnapshot.read(new ByteArrayInputStream(bytes), Rank.class, STAMP, other));
+    assertTrue(NORMALIZATION.endsWith("; java " + System.getProperty("java.version")));
+    assertNotEquals(NORMALIZATION, DictionarySnapshot.normalization(new EnumParser<>(Rank.class, true)));
+  }
+
+  @Test
+  public void testStamp(@TempDir Path classes) throws Exception {
+    Path dictionaries = classes.resolve("dictionaries/parse");
+    Files.createDirectories(dictionaries);
+    Files.write(dictionaries.resolve("rank.tsv"), "sippe\tFAMILY\n".getBytes(StandardCharsets.UTF_8));
+    String stamp = DictionarySnapshot.stamp("1.0", classes);
+    assertTrue(stamp.startsWith("1.0 "));
+    assertNotEquals(stamp, DictionarySnapshot.stamp("1.1", classes));
+
+    // snapshots are no source of themselves
+    Files.createDirectories(classes.resolve(DictionarySnapshot.RESOURCE_DIR));
+    Files.write(classes.resolve(DictionarySnapshot.STAMP), stamp.getBytes(StandardCharsets.UTF_8));
+    assertEquals(stamp, DictionarySnapshot.stamp("1.0", classes));
+
+    Files.write(dictionaries.resolve("rank.tsv"), "sippe\tGENUS\n".getBytes(StandardCharsets.UTF_8));
+    assertNotEquals(stamp, DictionarySnapshot.stamp("1.0", classes));
+  }
+
+  @Test
+  public void testCorrupt() throws Exception {
+    byte[] bytes = write(new EnumParser<>(Rank.class, false));
+    bytes[bytes.length / 2]++;
+    assertNull(DictionarySnapshot.read(new ByteArrayInputStream(bytes), Rank.class, STAMP, NORMALIZATION));
+    assertNull(DictionarySnapshot.read(new ByteArrayInputStream(new byte[0]), Rank.class, STAMP, NORMALIZATION));
+  }
+
+  @Test
+  public void testOtherEnum() throws Exception {
+    byte[] bytes = write(new EnumParser<>(Rank.class, false));
+    assertNull(DictionarySnapshot.read(new ByteArrayInputStream(bytes), Sex.class, STAMP, NORMALIZATION));
+  }
+
+  @Test
+  public void testMissingOrDisabled() {
+    assertNull(DictionarySnapshot.read(PARSER));
+  }
+
+  private static byte[] write(EnumParser<?> parser) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DictionarySnapshot.write(parser, STAMP, out);
+    return out.toByteArray();
+  }
+}
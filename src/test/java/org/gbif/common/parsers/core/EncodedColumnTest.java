@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+import org.gbif.common.parsers.RankParser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EncodedColumnTest {
+
+  @Test
+  public void testEncode() {
+    EncodedColumn<String> column = EncodedColumn.encode(new String[] {"a", "b", "a", null, "b", "a"});
+    assertEquals(6, column.size());
+    assertEquals(3, column.getValues().length);
+    assertArrayEquals(new int[] {0, 1, 0, 2, 1, 0}, column.getIndexes());
+    assertEquals("a", column.get(5));
+    assertNull(column.get(3));
+    assertThrows(IllegalArgumentException.class, () -> column.withValues(new Integer[2]));
+  }
+
+  @Test
+  public void testParseColumn() {
+    String[] values = {"species", "Genus", "nonsense"};
+    int[] indexes = {0, 0, 1, 2, 0, 1};
+    EncodedColumn<ParseResult<Rank>> parsed = RankParser.getInstance().parseColumn(new EncodedColumn<>(values, indexes));
+
+    assertSame(indexes, parsed.getIndexes());
+    assertEquals(3, parsed.getValues().length);
+    assertEquals(Rank.SPECIES, parsed.get(0).getPayload());
+    assertEquals(Rank.GENUS, parsed.get(5).getPayload());
+    assertFalse(parsed.get(3).isSuccessful());
+  }
+}
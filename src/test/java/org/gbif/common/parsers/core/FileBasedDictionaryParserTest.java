@@ -13,12 +13,23 @@
  */
 package org.gbif.common.parsers.core;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileBasedDictionaryParserTest {
 
@@ -78,6 +89,66 @@ public class FileBasedDictionaryParserTest {
     assertParseFailure(dbp, COMMENT_MARKER + "carey");
   }
 
+  @Test
+  public void testLargeFile() {
+    // large files are normalised in parallel, the first mapping of a key still wins
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      sb.append("key ").append(i).append('\t').append(i).append('\n');
+    }
+    sb.append("KEY 17\tduplicate\n");
+    ByteArrayInputStream input = new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+    FileBasedDictionaryParser<String> dbp = new FileBasedDictionaryParser<String>(false) {
+      {
+        init(input);
+      }
+
+      @Override
+      protected String fromDictFile(String value) {
+        return value;
+      }
+    };
+    assertEquals(10_000, dbp.frozenDictionary().size());
+    assertParseSuccess(dbp, "17", "key 17");
+    assertParseSuccess(dbp, "9999", "Key 9999");
+  }
+
+  @Test
+  public void testReload(@TempDir Path dir) throws IOException {
+    TestParserWithCommentSupport dbp = new TestParserWithCommentSupport();
+    ParseResult<String> tim = dbp.parse("Tim");
+    int size = dbp.frozenDictionary().size();
+    assertEquals(0, dbp.getReloadCount());
+
+    Path fixes = dir.resolve("fixes.txt");
+    Files.write(fixes, Arrays.asList("# fixes", "Lars\t40", "tim\t33"), StandardCharsets.UTF_8);
+    assertEquals(size + 1, dbp.reload(fixes));
+    assertParseSuccess(dbp, "40", "LARS");
+    assertParseSuccess(dbp, "33", "Tim");
+    assertParseSuccess(dbp, "38", "Markus");
+    assertParseFailure(dbp, "# fixes");
+    assertEquals(1, dbp.getReloadCount());
+    assertTrue(dbp.getLastReloadMillis() > 0);
+    // results handed out before are unchanged
+    assertEquals("32", tim.getPayload());
+
+    // a directory is read in name order and replaces the earlier reload
+    Files.write(dir.resolve("a.txt"), Arrays.asList("Tim\t34"), StandardCharsets.UTF_8);
+    Files.write(dir.resolve("b.txt"), Arrays.asList("Tim\t35", "Kyle\t41"), StandardCharsets.UTF_8);
+    Files.delete(fixes);
+    assertEquals(size + 1, dbp.reload(dir));
+    assertParseSuccess(dbp, "34", "Tim");
+    assertParseSuccess(dbp, "41", "Kyle");
+    assertParseFailure(dbp, "Lars");
+    assertEquals(2, dbp.getReloadCount());
+
+    // a missing file keeps the current dictionary
+    FrozenDictionary<String> current = dbp.frozenDictionary();
+    assertThrows(NoSuchFileException.class, () -> dbp.reload(dir.resolve("missing.txt")));
+    assertSame(current, dbp.frozenDictionary());
+    assertEquals(2, dbp.getReloadCount());
+  }
+
   protected static void assertParseSuccess(Parsable<String> dbp, String expected, String input) {
     ParseResult<String> parsed = dbp.parse(input);
     assertNotNull(parsed);
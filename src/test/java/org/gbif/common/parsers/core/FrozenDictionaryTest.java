@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FrozenDictionaryTest {
+
+  @Test
+  public void testEnumValues() {
+    Map<String, RoundingMode> map = new HashMap<>();
+    map.put("UP", RoundingMode.UP);
+    map.put("CEILING", RoundingMode.CEILING);
+    map.put("ROOF", RoundingMode.CEILING);
+    map.put("NOTHING", null);
+    FrozenDictionary<RoundingMode> dict = FrozenDictionary.of(map);
+
+    assertEquals(3, dict.size());
+    assertEquals(RoundingMode.UP, dict.get("UP"));
+    assertEquals(RoundingMode.CEILING, dict.get("CEILING"));
+    assertEquals(RoundingMode.CEILING, dict.get("ROOF"));
+    assertNull(dict.get("NOTHING"));
+    assertNull(dict.get("DOWN"));
+    assertNull(dict.get(""));
+    assertNull(dict.get(null));
+
+    assertSame(dict.lookup("CEILING"), dict.lookup("ROOF"));
+    assertSame(dict.lookup("CEILING"), dict.result(RoundingMode.CEILING));
+    assertEquals(RoundingMode.DOWN, dict.result(RoundingMode.DOWN).getPayload());
+  }
+
+  @Test
+  public void testManyKeys() {
+    Map<String, Integer> map = new HashMap<>();
+    for (int i = 0; i < 10000; i++) {
+      map.put("KEY" + i, i % 7);
+    }
+    // "Aa" and "BB" share the same String.hashCode()
+    map.put("Aa", 100);
+    map.put("BB", 200);
+    FrozenDictionary<Integer> dict = FrozenDictionary.of(map);
+
+    assertEquals(map.size(), dict.size());
+    for (Map.Entry<String, Integer> e : map.entrySet()) {
+      assertEquals(e.getValue(), dict.get(e.getKey()));
+    }
+    Map<String, Integer> copy = new HashMap<>();
+    dict.forEach(copy::put);
+    assertEquals(map, copy);
+    assertNull(dict.get("KEY10000"));
+    assertNull(dict.get("KEY"));
+
+    // lookups straight from a buffer, only the first length chars count
+    char[] buffer = "BBKEY42xyz".toCharArray();
+    assertEquals(200, dict.lookup(buffer, 2).getPayload());
+    assertNull(dict.lookup(buffer, 3));
+    assertSame(dict.lookup("Aa"), dict.lookup("Aa".toCharArray(), 2));
+    assertNull(dict.lookup(buffer, 0));
+  }
+
+  @Test
+  public void testLongestPrefix() {
+    Map<String, Integer> map = new HashMap<>();
+    map.put("nom", 1);
+    map.put("nom nov", 2);
+    map.put("nom nud", 3);
+    FrozenDictionary<Integer> dict = FrozenDictionary.of(map);
+
+    assertEquals(2, dict.lookupLongestPrefix("nom nov.").getPayload());
+    assertEquals(3, dict.lookupLongestPrefix("nom nud").getPayload());
+    assertEquals(1, dict.lookupLongestPrefix("nom no").getPayload());
+    assertNull(dict.lookupLongestPrefix("no"));
+    assertNull(dict.lookupLongestPrefix(""));
+    assertNull(dict.lookupLongestPrefix(null));
+  }
+
+  @Test
+  public void testEmpty() {
+    FrozenDictionary<String> dict = FrozenDictionary.of(new HashMap<>());
+    assertEquals(0, dict.size());
+    assertNull(dict.get("A"));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class FuzzyIndexTest {
+
+  @Test
+  public void testDistance() {
+    assertEquals(0, FuzzyIndex.distance("GERMANY", "GERMANY", 3));
+    assertEquals(1, FuzzyIndex.distance("GERMNAY", "GERMANY", 3));
+    assertEquals(1, FuzzyIndex.distance("GERMAN", "GERMANY", 3));
+    assertEquals(1, FuzzyIndex.distance("XGERMANY", "GERMANY", 3));
+    assertEquals(2, FuzzyIndex.distance("GREMNAY", "GERMANY", 3));
+    assertEquals(3, FuzzyIndex.distance("FRANCE", "GERMANY", 3));
+    assertEquals(2, FuzzyIndex.distance("", "AB", 3));
+    assertEquals(3, FuzzyIndex.distance("", "ABCD", 3));
+  }
+
+  /**
+   * Compares the index with the distance to every key.
+   */
+  @Test
+  public void testSameAsBruteForce() {
+    Random random = new Random(42);
+    Map<String, Integer> map = new HashMap<>();
+    for (int i = 0; i < 2000; i++) {
+      map.put(randomWord(random), i);
+    }
+    FrozenDictionary<Integer> dict = FrozenDictionary.of(map);
+    FuzzyIndex<Integer> index = dict.fuzzyIndex();
+
+    for (int i = 0; i < 2000; i++) {
+      String value = randomWord(random);
+      for (int maxDistance = 1; maxDistance <= FuzzyIndex.MAX_DISTANCE; maxDistance++) {
+        int best = maxDistance + 1;
+        for (String key : map.keySet()) {
+          best = Math.min(best, FuzzyIndex.distance(value, key, maxDistance + 1));
+        }
+        ParseResult<Integer> result = index.lookup(value, maxDistance);
+        if (best > maxDistance) {
+          assertNull(result, value);
+        } else if (result instanceof FuzzyParseResult) {
+          assertEquals(best, ((FuzzyParseResult<Integer>) result).getEditDistance(), value);
+        } else {
+          assertEquals(ParseResult.STATUS.FAIL, result.getStatus(), value);
+        }
+      }
+    }
+  }
+
+  /**
+   * Words over a small alphabet, so that many of them are close to each other.
+   */
+  private static String randomWord(Random random) {
+    char[] word = new char[3 + random.nextInt(10)];
+    for (int i = 0; i < word.length; i++) {
+      word[i] = (char) ('A' + random.nextInt(4));
+    }
+    return new String(word);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MissFilterTest {
+
+  private static final StringNormalizer NORMALIZER = StringNormalizer.builder()
+    .foldToAscii()
+    .keepAlphabetic()
+    .upperCase()
+    .build();
+
+  @Test
+  public void testRejects() {
+    Map<String, String> entries = new HashMap<>();
+    entries.put("GERMANY", "DE");
+    entries.put("DENMARK", "DK");
+    entries.put("ÅLAND", "AX");
+    MissFilter filter = new MissFilter(FrozenDictionary.of(entries));
+
+    assertFalse(filter.rejects("Germany"));
+    assertFalse(filter.rejects(" Ger-many! "));
+    assertFalse(filter.rejects("Denmark"));
+    // chars of the key in another order can still pass
+    assertFalse(filter.rejects("yngmare"));
+    // shorter than any key
+    assertTrue(filter.rejects("Ger"));
+    // no key without chars of these classes
+    assertTrue(filter.rejects("Peru"));
+    assertTrue(filter.rejects("12345"));
+    // the A of Åland might come from any A
+    assertFalse(filter.rejects("Lande"));
+    // folding might add chars
+    assertFalse(filter.rejects("Åland"));
+    assertFalse(filter.rejects("Ø"));
+    assertFalse(filter.rejects(null));
+
+    assertTrue(new MissFilter(FrozenDictionary.of(new HashMap<String, String>())).rejects("anything"));
+  }
+
+  /**
+   * A filtering parser must find exactly what one without the filter finds.
+   */
+  @Test
+  public void testNoFalseNegatives() {
+    List<KeyValue<String, Integer>> source = new ArrayList<>();
+    String[] names = {"Germany", "Denmark", "Åland", "Cote d'Ivoire", "Peru", "Chad", "Iran", "USA", "Fiji"};
+    for (int i = 0; i < names.length; i++) {
+      source.add(new KeyValue<>(names[i], i));
+    }
+    DictionaryBackedParser<Integer> plain = new DictionaryBackedParser<Integer>(false) {
+      @Override
+      protected StringNormalizer normalizer() {
+        return NORMALIZER;
+      }
+    };
+    DictionaryBackedParser<Integer> filtered = new FilteringParser();
+    plain.init(source.iterator());
+    filtered.init(source.iterator());
+
+    Random random = new Random(17);
+    String chars = "adefghilnoprsuvyADEFGHILNOPRSUVY -'.1Åå";
+    int hits = 0;
+    for (int i = 0; i < 100_000; i++) {
+      String input;
+      if (random.nextBoolean()) {
+        // a name with some chars removed or inserted
+        StringBuilder sb = new StringBuilder(names[random.nextInt(names.length)]);
+        for (int edits = random.nextInt(3); edits > 0 && sb.length() > 0; edits--) {
+          if (random.nextBoolean()) {
+            sb.deleteCharAt(random.nextInt(sb.length()));
+          } else {
+            sb.insert(random.nextInt(sb.length() + 1), chars.charAt(random.nextInt(chars.length())));
+          }
+        }
+        input = sb.toString();
+      } else {
+        StringBuilder sb = new StringBuilder();
+        for (int n = random.nextInt(8); n > 0; n--) {
+          sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        input = sb.toString();
+      }
+      ParseResult<Integer> expected = plain.parse(input);
+      assertEquals(expected.getPayload(), filtered.parse(input).getPayload(), input);
+      if (expected.isSuccessful()) {
+        hits++;
+      }
+    }
+    assertTrue(hits > 1000);
+  }
+
+  @Test
+  public void testParseInto() {
+    DictionaryBackedParser<Integer> dbp = new FilteringParser();
+    List<KeyValue<String, Integer>> source = new ArrayList<>();
+    source.add(new KeyValue<>("Peru", 1));
+    dbp.init(source.iterator());
+
+    @SuppressWarnings("unchecked")
+    ParseResult<Integer>[] results = new ParseResult[3];
+    dbp.parseInto(new String[] {"Peru", "Chile", "P.E.R.U."}, results);
+    assertSame(dbp.parse("Peru"), results[0]);
+    assertFalse(results[1].isSuccessful());
+    assertEquals(1, results[2].getPayload());
+  }
+
+  @Test
+  public void testOverriddenNormalize() {
+    // a normalisation adding chars must not be filtered
+    DictionaryBackedParser<Integer> dbp = new FilteringParser() {
+      @Override
+      protected boolean overridesNormalize() {
+        return true;
+      }
+
+      @Override
+      protected String normalize(String value) {
+        return value == null ? null : "X" + super.normalize(value);
+      }
+    };
+    List<KeyValue<String, Integer>> source = new ArrayList<>();
+    source.add(new KeyValue<>("Peru", 1));
+    dbp.init(source.iterator());
+    assertEquals(1, dbp.parse("Peru").getPayload());
+  }
+
+  private static class FilteringParser extends DictionaryBackedParser<Integer> {
+
+    FilteringParser() {
+      super(false);
+    }
+
+    @Override
+    protected StringNormalizer normalizer() {
+      return NORMALIZER;
+    }
+
+    @Override
+    protected boolean filterMisses() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.OccurrenceIssue;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OccurrenceParseResultTest {
+
+  @Test
+  public void testIssueMask() {
+    long mask = OccurrenceParseResult.issueBit(OccurrenceIssue.COORDINATE_ROUNDED)
+      | OccurrenceParseResult.issueBit(OccurrenceIssue.ZERO_COORDINATE);
+    OccurrenceParseResult<String> result = OccurrenceParseResult.success(ParseResult.CONFIDENCE.DEFINITE, "x", mask);
+    assertEquals(mask, result.getIssueMask());
+    assertTrue(result.hasIssue(OccurrenceIssue.ZERO_COORDINATE));
+    assertFalse(result.hasIssue(OccurrenceIssue.COORDINATE_INVALID));
+    assertEquals(EnumSet.of(OccurrenceIssue.COORDINATE_ROUNDED, OccurrenceIssue.ZERO_COORDINATE), result.getIssues());
+
+    OccurrenceParseResult<String> other = OccurrenceParseResult.fail(OccurrenceIssue.COORDINATE_INVALID);
+    other.addIssues(result);
+    assertEquals(EnumSet.of(OccurrenceIssue.COORDINATE_ROUNDED, OccurrenceIssue.ZERO_COORDINATE,
+      OccurrenceIssue.COORDINATE_INVALID), other.getIssues());
+    assertEquals(mask, result.getIssueMask());
+  }
+
+  @Test
+  public void testIssueView() {
+    OccurrenceParseResult<String> result = OccurrenceParseResult.fail(
+      Arrays.asList(OccurrenceIssue.RECORDED_DATE_INVALID, null, OccurrenceIssue.COORDINATE_INVALID));
+    Set<OccurrenceIssue> issues = result.getIssues();
+    assertEquals(2, issues.size());
+    // ordinal order like an EnumSet
+    Iterator<OccurrenceIssue> it = issues.iterator();
+    assertEquals(OccurrenceIssue.COORDINATE_INVALID, it.next());
+    assertEquals(OccurrenceIssue.RECORDED_DATE_INVALID, it.next());
+    assertFalse(it.hasNext());
+
+    // the view is live in both directions
+    result.addIssue(OccurrenceIssue.ZERO_COORDINATE);
+    assertTrue(issues.contains(OccurrenceIssue.ZERO_COORDINATE));
+    assertFalse(issues.add(OccurrenceIssue.ZERO_COORDINATE));
+    assertTrue(issues.remove(OccurrenceIssue.COORDINATE_INVALID));
+    assertFalse(result.hasIssue(OccurrenceIssue.COORDINATE_INVALID));
+    issues.removeIf(i -> i == OccurrenceIssue.ZERO_COORDINATE);
+    assertEquals(OccurrenceParseResult.issueBit(OccurrenceIssue.RECORDED_DATE_INVALID), result.getIssueMask());
+    issues.clear();
+    assertTrue(issues.isEmpty());
+    assertEquals(0, result.getIssueMask());
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class OffHeapDictionaryTest {
+
+  @Test
+  public void testLookup() {
+    Map<String, RoundingMode> map = new HashMap<>();
+    map.put("UP", RoundingMode.UP);
+    map.put("CÔTE D'IVOIRE", RoundingMode.CEILING);
+    map.put("ΕΛΛΆΔΑ", RoundingMode.FLOOR);
+    map.put("日本", RoundingMode.HALF_UP);
+    map.put("𝐀BC", RoundingMode.HALF_DOWN);
+    map.put("LONE\uD800", RoundingMode.HALF_EVEN);
+    map.put("NOTHING", null);
+    FrozenDictionary<RoundingMode> dict = FrozenDictionary.offHeap(map, "test");
+
+    assertEquals(6, dict.size());
+    assertEquals(RoundingMode.UP, dict.get("UP"));
+    assertEquals(RoundingMode.CEILING, dict.get("CÔTE D'IVOIRE"));
+    assertEquals(RoundingMode.FLOOR, dict.get("ΕΛΛΆΔΑ"));
+    assertEquals(RoundingMode.HALF_UP, dict.get("日本"));
+    assertEquals(RoundingMode.HALF_DOWN, dict.get("𝐀BC"));
+    assertEquals(RoundingMode.HALF_EVEN, dict.get("LONE\uD800"));
+    assertNull(dict.get("COTE D'IVOIRE"));
+    assertNull(dict.get("日"));
+    assertNull(dict.get("𝐀B"));
+    assertNull(dict.get("NOTHING"));
+    assertNull(dict.get(""));
+    assertNull(dict.get(null));
+
+    assertSame(dict.lookup("UP"), dict.result(RoundingMode.UP));
+    char[] buffer = "日本語".toCharArray();
+    assertSame(dict.lookup("日本"), dict.lookup(buffer, 2));
+    assertNull(dict.lookup(buffer, 3));
+
+    Map<String, RoundingMode> copy = new HashMap<>();
+    dict.forEach(copy::put);
+    map.remove("NOTHING");
+    assertEquals(map, copy);
+  }
+
+  @Test
+  public void testSameAsHash() {
+    Map<String, Integer> map = new HashMap<>();
+    for (int i = 0; i < 5000; i++) {
+      map.put(Integer.toString(i * 7, 36) + (i % 3 == 0 ? "é" : ""), i % 11);
+    }
+    map.put("", 42);
+    FrozenDictionary<Integer> offHeap = FrozenDictionary.offHeap(map, "test");
+    FrozenDictionary<Integer> hash = FrozenDictionary.of(map);
+
+    assertEquals(map.size(), offHeap.size());
+    for (int i = 0; i < 40000; i++) {
+      String key = Integer.toString(i, 36) + (i % 2 == 0 ? "é" : "");
+      assertEquals(hash.get(key), offHeap.get(key), key);
+      assertEquals(payload(hash.lookupLongestPrefix(key + "!")), payload(offHeap.lookupLongestPrefix(key + "!")), key);
+    }
+  }
+
+  private static <T> T payload(ParseResult<T> result) {
+    return result == null ? null : result.getPayload();
+  }
+
+  @Test
+  public void testSharedFile(@TempDir Path dir) throws IOException {
+    Map<String, RoundingMode> map = new HashMap<>();
+    map.put("UP", RoundingMode.UP);
+    map.put("DOWN", RoundingMode.DOWN);
+    System.setProperty(OffHeapDictionary.DIRECTORY_PROPERTY, dir.toString());
+    try {
+      FrozenDictionary<RoundingMode> first = FrozenDictionary.offHeap(map, "test");
+      Path file = dir.resolve("test.dict");
+      Object written = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+      // maps the existing file
+      FrozenDictionary<RoundingMode> second = FrozenDictionary.offHeap(new HashMap<>(map), "test");
+      assertEquals(written, Files.readAttributes(file, BasicFileAttributes.class).fileKey());
+      try (Stream<Path> files = Files.list(dir)) {
+        assertEquals(1, files.count());
+      }
+      assertEquals(RoundingMode.DOWN, first.get("DOWN"));
+      assertEquals(RoundingMode.UP, second.get("UP"));
+
+      // a reloaded dictionary replaces the file, dictionaries using the previous one keep their mapping
+      map.put("HALF", RoundingMode.HALF_UP);
+      FrozenDictionary<RoundingMode> reloaded = FrozenDictionary.offHeap(map, "test");
+      try (Stream<Path> files = Files.list(dir)) {
+        assertEquals(1, files.count());
+      }
+      assertEquals(RoundingMode.HALF_UP, reloaded.get("HALF"));
+      assertEquals(RoundingMode.DOWN, first.get("DOWN"));
+      assertNull(first.get("HALF"));
+      assertEquals(RoundingMode.DOWN, FrozenDictionary.offHeap(new HashMap<>(map), "test").get("DOWN"));
+    } finally {
+      System.clearProperty(OffHeapDictionary.DIRECTORY_PROPERTY);
+    }
+  }
+
+  @Test
+  public void testCorruptFile(@TempDir Path dir) throws IOException {
+    Map<String, RoundingMode> map = new HashMap<>();
+    map.put("UP", RoundingMode.UP);
+    map.put("DOWN", RoundingMode.DOWN);
+    System.setProperty(OffHeapDictionary.DIRECTORY_PROPERTY, dir.toString());
+    try {
+      FrozenDictionary.offHeap(map, "test");
+      Path file;
+      try (Stream<Path> files = Files.list(dir)) {
+        file = files.findFirst().get();
+      }
+      // same length, other content
+      byte[] bytes = Files.readAllBytes(file);
+      Arrays.fill(bytes, bytes.length / 2, bytes.length, (byte) 0);
+      Files.write(file, bytes);
+
+      FrozenDictionary<RoundingMode> dict = FrozenDictionary.offHeap(new HashMap<>(map), "test");
+      assertEquals(RoundingMode.UP, dict.get("UP"));
+      assertEquals(RoundingMode.DOWN, dict.get("DOWN"));
+      assertFalse(Arrays.equals(bytes, Files.readAllBytes(file)));
+    } finally {
+      System.clearProperty(OffHeapDictionary.DIRECTORY_PROPERTY);
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    FrozenDictionary<String> dict = FrozenDictionary.offHeap(new HashMap<>(), "test");
+    assertEquals(0, dict.size());
+    assertNull(dict.get("A"));
+    assertNull(dict.lookupLongestPrefix("A"));
+  }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class ParseResultTest {
 
@@ -56,6 +57,7 @@ public class ParseResultTest {
     assertNull(ParseResult.fail().getConfidence());
     assertNull(ParseResult.fail().getError());
     assertNull(ParseResult.fail().getPayload());
+    assertSame(ParseResult.<String>fail(), ParseResult.<Integer>fail());
   }
 
   @Test
@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.common.parsers.BooleanParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParserRegistryTest {
+
+  @Test
+  public void testLookup() {
+    assertSame(BooleanParser.getInstance(), ParserRegistry.lookup(Boolean.class));
+    assertTrue(ParserRegistry.contains(Boolean.class));
+    assertTrue(ParserRegistry.vocabularies().contains(Boolean.class));
+    assertEquals(Boolean.TRUE, ParserRegistry.lookup(Boolean.class).parse("yes").getPayload());
+  }
+
+  @Test
+  public void testUnknownVocabulary() {
+    assertThrows(IllegalArgumentException.class, () -> ParserRegistry.lookup(StringBuilder.class));
+  }
+
+  /**
+   * A vocabulary only registered by these tests.
+   */
+  private static final class Length {
+    private final int value;
+
+    private Length(int value) {
+      this.value = value;
+    }
+  }
+
+  @AfterEach
+  public void unregister() {
+    ParserRegistry.unregister(Length.class);
+  }
+
+  @Test
+  public void testRegister() {
+    Parsable<Length> parser = input -> ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, new Length(input.length()));
+    ParserRegistry.register(Length.class, () -> parser);
+    assertSame(parser, ParserRegistry.lookup(Length.class));
+    assertEquals(3, ParserRegistry.lookup(Length.class).parse("abc").getPayload().value);
+    assertTrue(ParserRegistry.vocabularies().contains(Length.class));
+  }
+
+  @Test
+  public void testRegisterTwice() {
+    Parsable<Boolean> parser = input -> ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, Boolean.FALSE);
+    assertThrows(IllegalStateException.class, () -> ParserRegistry.register(Boolean.class, () -> parser));
+    assertSame(BooleanParser.getInstance(), ParserRegistry.lookup(Boolean.class));
+  }
+
+  @Test
+  public void testLoadSkipsBadProviders() {
+    Parsable<Length> parser = input -> ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, new Length(input.length()));
+    ParserProvider failing = () -> {
+      ParserRegistry.register(Length.class, () -> parser);
+      throw new IllegalArgumentException("Broken dictionary");
+    };
+    ParserProvider duplicate = () -> {
+      ParserRegistry.register(Length.class, () -> parser);
+      ParserRegistry.register(Boolean.class, () -> input -> ParseResult.fail());
+    };
+    ParserRegistry.load(Arrays.asList(failing, duplicate).iterator());
+
+    // skipped with all their registrations
+    assertFalse(ParserRegistry.contains(Length.class));
+    assertFalse(ParserRegistry.providers().contains(failing));
+    assertFalse(ParserRegistry.providers().contains(duplicate));
+    assertSame(BooleanParser.getInstance(), ParserRegistry.lookup(Boolean.class));
+
+    ParserProvider good = () -> ParserRegistry.register(Length.class, () -> parser);
+    ParserRegistry.load(Arrays.asList(failing, good).iterator());
+    assertSame(parser, ParserRegistry.lookup(Length.class));
+    assertTrue(ParserRegistry.providers().contains(good));
+    ParserRegistry.unregister(good);
+  }
+
+  /**
+   * All threads racing on the first lookup must see the very same, fully built parser.
+   */
+  @Test
+  public void testConcurrentLookup() throws Exception {
+    final int threads = 16;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Parsable<Boolean>>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        Callable<Parsable<Boolean>> lookup = () -> {
+          start.await();
+          Parsable<Boolean> parser = ParserRegistry.lookup(Boolean.class);
+          assertEquals(Boolean.FALSE, parser.parse("no").getPayload());
+          return parser;
+        };
+        futures.add(executor.submit(lookup));
+      }
+      start.countDown();
+      for (Future<Parsable<Boolean>> f : futures) {
+        assertSame(BooleanParser.getInstance(), f.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
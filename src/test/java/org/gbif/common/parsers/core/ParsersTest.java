@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+import org.gbif.common.parsers.CountryParser;
+import org.gbif.common.parsers.MediaParser;
+import org.gbif.common.parsers.RankParser;
+import org.gbif.common.parsers.date.DateParsers;
+import org.gbif.common.parsers.geospatial.DatumParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParsersTest {
+
+  private static final String[] RANKS = {"species", "Genus", "nonsense", null, "FAMILY", "sp."};
+
+  private static List<String> inputs(int size) {
+    List<String> inputs = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      inputs.add(RANKS[(i * 7 + i / 3) % RANKS.length]);
+    }
+    return inputs;
+  }
+
+  private static List<Rank> payloads(Stream<ParseResult<Rank>> results) {
+    return results.map(ParseResult::getPayload).collect(Collectors.toList());
+  }
+
+  @Test
+  public void testParallelParseOrdered() {
+    RankParser parser = RankParser.getInstance();
+    List<String> inputs = inputs(10_000);
+    List<Rank> expected = inputs.stream().map(parser::parse).map(ParseResult::getPayload).collect(Collectors.toList());
+
+    assertEquals(expected, payloads(Parsers.parallelParse(inputs.stream(), parser)));
+    // sources which cannot split, like iterators
+    Stream<String> unsized = StreamSupport.stream(
+      Spliterators.spliteratorUnknownSize(inputs.iterator(), Spliterator.ORDERED), false);
+    assertEquals(expected, payloads(Parsers.parallelParse(unsized, parser)));
+    assertEquals(Collections.emptyList(), payloads(Parsers.parallelParse(Stream.empty(), parser)));
+  }
+
+  @Test
+  public void testParallelParseUnordered() {
+    RankParser parser = RankParser.getInstance();
+    List<String> inputs = inputs(5_000);
+    List<String> expected = inputs.stream().map(v -> String.valueOf(parser.parse(v).getPayload())).sorted()
+      .collect(Collectors.toList());
+    List<String> actual = Parsers.parallelParse(inputs.stream(), parser, false)
+      .map(r -> String.valueOf(r.getPayload())).sorted().collect(Collectors.toList());
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testPreloadAll() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Map<String, Duration> timings = Parsers.preloadAll(executor).get();
+      assertTrue(timings.containsKey(CountryParser.class.getName()));
+      assertTrue(timings.containsKey(DatumParser.class.getName()));
+      assertTrue(timings.containsKey(MediaParser.class.getName()));
+      assertTrue(timings.containsKey(DateParsers.class.getName()));
+      assertTrue(timings.size() >= ParserRegistry.vocabularies().size());
+      for (Duration time : timings.values()) {
+        assertFalse(time.isNegative());
+      }
+      // built already
+      assertEquals(timings.keySet(), Parsers.preloadAll(executor).get().keySet());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import org.gbif.common.parsers.SexParser;
+import org.gbif.common.parsers.TypifiedNameParser;
+
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SerializedParserTest {
+
+  @Test
+  public void testSharedInstance() {
+    SexParser parser = SexParser.getInstance();
+    byte[] bytes = SerializationUtils.serialize(parser);
+    // the class name, not the dictionary
+    assertTrue(bytes.length < 200, bytes.length + " bytes");
+    assertSame(parser, SerializationUtils.deserialize(bytes));
+
+    assertSame(ASCIIParser.getInstance(), SerializationUtils.roundtrip(ASCIIParser.getInstance()));
+    assertSame(TypifiedNameParser.getInstance(), SerializationUtils.roundtrip(TypifiedNameParser.getInstance()));
+  }
+
+  @Test
+  public void testOtherInstance() {
+    DictionaryBackedParser<String> parser = new DictionaryBackedParser<>(false);
+    SerializationException e = assertThrows(SerializationException.class, () -> SerializationUtils.serialize(parser));
+    assertTrue(e.getCause() instanceof NotSerializableException);
+  }
+
+  @Test
+  public void testOtherClass() throws Exception {
+    Constructor<SerializedParser> constructor = SerializedParser.class.getDeclaredConstructor(String.class);
+    constructor.setAccessible(true);
+    byte[] bytes = SerializationUtils.serialize(constructor.newInstance(Gadget.class.getName()));
+
+    SerializationException e = assertThrows(SerializationException.class, () -> SerializationUtils.deserialize(bytes));
+    assertTrue(e.getCause() instanceof InvalidObjectException);
+    assertFalse(GADGET_INITIALISED.get());
+  }
+
+  private static final AtomicBoolean GADGET_INITIALISED = new AtomicBoolean();
+
+  /**
+   * Has a shared instance, but is no parser.
+   */
+  public static class Gadget {
+    static {
+      GADGET_INITIALISED.set(true);
+    }
+
+    public static Gadget getInstance() {
+      return new Gadget();
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StringNormalizerTest {
+
+  @Test
+  public void testFoldKeepAndUpperCase() {
+    StringNormalizer n = StringNormalizer.builder().foldToAscii().keepAlphabetic().upperCase().build();
+    assertNull(n.normalize(null));
+    assertNull(n.normalize(""));
+    assertNull(n.normalize(" !? "));
+    assertEquals("HALLO", n.normalize("(Hällö)"));
+    assertEquals("HELLOBERTOCKO", n.normalize("Hello Bértöçkø"));
+    assertEquals("STRASSE", n.normalize("Straße"));
+    // non ASCII letters are upper cased too
+    assertEquals("ΑΒΓ", n.normalize("αβγ"));
+  }
+
+  @Test
+  public void testKeepBeforeFolding() {
+    // Ⓐ is no letter, but folds to one
+    assertEquals("AB", StringNormalizer.builder().foldToAscii().keepLetters().upperCase().build().normalize("Ⓐb"));
+    assertEquals("B", StringNormalizer.builder().keepLetters().foldToAscii().upperCase().build().normalize("Ⓐb"));
+  }
+
+  @Test
+  public void testKeepCombined() {
+    StringNormalizer n = StringNormalizer.builder().foldToAscii().keepAlphabetic().keepNumbers().keepChars("-").build();
+    assertEquals("CC-BY4", n.normalize("CC-BY 4!"));
+    assertEquals("WGS84", StringNormalizer.builder().foldToAscii().keepAsciiLettersAndDigits().upperCase().build()
+      .normalize("wgs 84 ©"));
+  }
+
+  @Test
+  public void testCollapseWhitespace() {
+    StringNormalizer n = StringNormalizer.builder().collapseWhitespace().build();
+    assertEquals("a b c", n.normalize("  a \t b\n\nc "));
+    assertNull(n.normalize(" \t "));
+  }
+
+  @Test
+  public void testStripPrefixAndNullIf() {
+    StringNormalizer n = StringNormalizer.builder()
+      .stripPrefix("http://", "https://")
+      .nullIf(Arrays.asList("N/A", "UNK"))
+      .foldToAscii()
+      .keepAlphabetic()
+      .upperCase()
+      .build();
+    assertEquals("GBIFORG", n.normalize("HTTPS://gbif.org"));
+    assertEquals("GBIFORG", n.normalize("http://gbif.org"));
+    assertEquals("FTPGBIFORG", n.normalize("ftp://gbif.org"));
+    assertNull(n.normalize("n/a"));
+    assertNull(n.normalize("http://Unk"));
+    assertEquals("NA", n.normalize("/NA/"));
+  }
+
+  @Test
+  public void testRemoveAll() {
+    StringNormalizer n = StringNormalizer.builder()
+      .removeAll(Pattern.compile("\\b(ISO.?3166.?[123]?:?)", Pattern.CASE_INSENSITIVE))
+      .keepLetters()
+      .upperCase()
+      .build();
+    assertEquals("DE", n.normalize("ISO 3166-1:de"));
+  }
+
+  @Test
+  public void testRemoveFirst() {
+    StringNormalizer n = StringNormalizer.builder()
+      .keepLetters()
+      .keepWhitespace()
+      .removeFirst("off ")
+      .foldToAscii()
+      .keepAlphabetic()
+      .upperCase()
+      .build();
+    assertEquals("AUSTRALIA", n.normalize("off Australia"));
+    assertEquals("AUSTRALIA", n.normalize(" OFF (australia)"));
+    // only the first occurrence, wherever it is
+    assertEquals("ATSEANAFRICA", n.normalize("At sea off N Africa"));
+    assertEquals("AOFFB", n.normalize("off a off b"));
+    assertEquals("OFX", n.normalize("ofoff x"));
+    assertEquals("OFFSHORE", n.normalize("offshore"));
+
+    // the state of collapsed whitespace is restored as well
+    StringNormalizer spaces = StringNormalizer.builder().removeFirst("off ").collapseWhitespace().build();
+    assertEquals("sea Africa", spaces.normalize("sea off  Africa"));
+    assertEquals("Africa", spaces.normalize("off Africa"));
+  }
+
+  @Test
+  public void testTruncateAtLast() {
+    StringNormalizer n = StringNormalizer.builder().truncateAtLast(" of ", " for ").foldToAscii().keepLetters()
+      .upperCase().build();
+    assertEquals("HOLOTYPE", n.normalize("Holotype of Dianthus fruticosus ssp. amorginus Runemark"));
+    assertEquals("NEOTYPEFORX", n.normalize("Neotype for x of Abies alba"));
+    // there must be something before the separator, and only trailing whitespace after it
+    assertEquals("OFX", n.normalize("  of x"));
+    assertEquals("XOF", n.normalize("x of "));
+    // only the first line counts
+    assertEquals("XFORYOFZ", n.normalize("x\nfor y of z"));
+  }
+
+  @Test
+  public void testDropTrailing() {
+    StringNormalizer n = StringNormalizer.builder().keepLetters().upperCase().dropTrailing('S').build();
+    assertEquals("FOREST", n.normalize("forests"));
+    assertEquals("ESTUARIE", n.normalize("estuaries "));
+    assertEquals("S", n.normalize("s"));
+    assertEquals("S", n.normalize("ss"));
+  }
+
+  @Test
+  public void testLookup() {
+    StringNormalizer n = StringNormalizer.builder().foldToAscii().keepAlphabetic().upperCase().build();
+    Map<String, RoundingMode> map = new HashMap<>();
+    map.put(n.normalize("Half up"), RoundingMode.HALF_UP);
+    map.put(n.normalize("ceiling"), RoundingMode.CEILING);
+    map.put(n.normalize("ΑΝΩ"), RoundingMode.UP);
+    FrozenDictionary<RoundingMode> dict = FrozenDictionary.of(map);
+
+    assertSame(dict.lookup("HALFUP"), n.lookup("half-úp", dict));
+    assertEquals(RoundingMode.CEILING, n.lookup(" Ceiling! ", dict).getPayload());
+    // non ASCII letters are upper cased through a String
+    assertEquals(RoundingMode.UP, n.lookup("ανω", dict).getPayload());
+    assertNull(n.lookup("floor", dict));
+    assertNull(n.lookup("!", dict));
+    assertNull(n.lookup(null, dict));
+    // longer than the buffer kept per thread
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append("ceiling");
+    }
+    assertNull(n.lookup(sb, dict));
+  }
+
+  @Test
+  public void testMemo() {
+    StringNormalizer letters = StringNormalizer.builder().foldToAscii().keepAlphabetic().upperCase().build();
+    StringNormalizer trailing = StringNormalizer.builder().upperCase().dropTrailing('S').build();
+    Map<String, String> map = new HashMap<>();
+    map.put("PRESENT", "present");
+    FrozenDictionary<String> dict = FrozenDictionary.of(map);
+
+    String value = "Présent!";
+    String normalised = letters.normalize(value);
+    assertEquals("PRESENT", normalised);
+    // the same value is not normalised again by the same normaliser
+    assertSame(normalised, letters.normalize(value));
+    assertEquals("present", letters.lookup(value, dict).getPayload());
+    // but by another one
+    assertEquals("PRÉSENT!", trailing.normalize(value));
+    assertNull(trailing.lookup(value, dict));
+    normalised = letters.normalize(value);
+    assertEquals("PRESENT", normalised);
+    // equal values and equally configured normalisers share the result
+    assertSame(normalised, letters.normalize(new String(value)));
+    StringNormalizer sameLetters = StringNormalizer.builder().foldToAscii().keepAlphabetic().upperCase().build();
+    assertSame(normalised, sameLetters.normalize(value));
+    assertNull(letters.normalize("!"));
+    assertNull(letters.normalize("!"));
+
+    // char sequences can change between calls
+    StringBuilder sb = new StringBuilder("present");
+    assertEquals("present", letters.lookup(sb, dict).getPayload());
+    sb.append("s");
+    assertNull(letters.lookup(sb, dict));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gbif.common.parsers.core;
+
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TrieDictionaryTest {
+
+  @Test
+  public void testExactLookup() {
+    Map<String, RoundingMode> map = new HashMap<>();
+    map.put("UP", RoundingMode.UP);
+    map.put("UPPER", RoundingMode.CEILING);
+    map.put("UPWARDS", RoundingMode.UP);
+    map.put("DOWN", RoundingMode.DOWN);
+    map.put("NOTHING", null);
+    FrozenDictionary<RoundingMode> dict = FrozenDictionary.trie(map);
+
+    assertEquals(4, dict.size());
+    assertEquals(RoundingMode.UP, dict.get("UP"));
+    assertEquals(RoundingMode.CEILING, dict.get("UPPER"));
+    assertEquals(RoundingMode.UP, dict.get("UPWARDS"));
+    assertEquals(RoundingMode.DOWN, dict.get("DOWN"));
+    assertNull(dict.get("UPP"));
+    assertNull(dict.get("U"));
+    assertNull(dict.get("UPPERS"));
+    assertNull(dict.get("NOTHING"));
+    assertNull(dict.get(""));
+    assertNull(dict.get(null));
+
+    assertSame(dict.lookup("UP"), dict.lookup("UPWARDS"));
+    assertSame(dict.lookup("UP"), dict.result(RoundingMode.UP));
+    char[] buffer = "UPPERCASE".toCharArray();
+    assertSame(dict.lookup("UPPER"), dict.lookup(buffer, 5));
+    assertNull(dict.lookup(buffer, 4));
+  }
+
+  @Test
+  public void testLongestPrefix() {
+    Map<String, String> map = new HashMap<>();
+    map.put("nom illeg", "illegitimate");
+    map.put("nom inval", "invalid");
+    map.put("nom nov", "new name");
+    map.put("nom", "name");
+    FrozenDictionary<String> dict = FrozenDictionary.trie(map);
+
+    assertEquals("invalid", dict.lookupLongestPrefix("nom inval. 1820").getPayload());
+    assertEquals("illegitimate", dict.lookupLongestPrefix("nom illeg").getPayload());
+    assertEquals("name", dict.lookupLongestPrefix("nom i").getPayload());
+    assertEquals("name", dict.lookupLongestPrefix("nominal").getPayload());
+    assertNull(dict.lookupLongestPrefix("no"));
+    assertNull(dict.lookupLongestPrefix("comb nov"));
+    assertNull(dict.lookupLongestPrefix(null));
+    assertNull(dict.lookup("nom i"));
+  }
+
+  @Test
+  public void testSameAsHash() {
+    Map<String, Integer> map = new HashMap<>();
+    for (int i = 0; i < 5000; i++) {
+      map.put(Integer.toString(i * 7, 36), i % 11);
+    }
+    map.put("", 42);
+    FrozenDictionary<Integer> trie = FrozenDictionary.trie(map);
+    FrozenDictionary<Integer> hash = FrozenDictionary.of(map);
+
+    assertEquals(map.size(), trie.size());
+    Map<String, Integer> copy = new HashMap<>();
+    trie.forEach(copy::put);
+    assertEquals(map, copy);
+    for (int i = 0; i < 40000; i++) {
+      String key = Integer.toString(i, 36);
+      assertEquals(hash.get(key), trie.get(key), key);
+      assertEquals(payload(hash.lookupLongestPrefix(key + "!")), payload(trie.lookupLongestPrefix(key + "!")), key);
+    }
+  }
+
+  private static <T> T payload(ParseResult<T> result) {
+    return result == null ? null : result.getPayload();
+  }
+
+  @Test
+  public void testEmpty() {
+    FrozenDictionary<String> dict = FrozenDictionary.trie(new HashMap<>());
+    assertEquals(0, dict.size());
+    assertNull(dict.get("A"));
+    assertNull(dict.lookupLongestPrefix("A"));
+  }
+}
@@ -13,13 +13,21 @@
  */
 package org.gbif.common.parsers.date;
 
+import org.gbif.common.parsers.core.ParseResult;
+
 import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -89,4 +97,13 @@ public class DateParsersTest {
     // to be implemented
   }
 
+  @Test
+  public void testParallelParse() {
+    TemporalParser parser = DateParsers.defaultTemporalParser();
+    List<String> inputs = Collections.nCopies(3000, "02/01/2018");
+    List<ParseResult<TemporalAccessor>> results = DateParsers.parallelParse(inputs.stream(), parser,
+      new DateComponentOrdering[] {DateComponentOrdering.DMY}, true).collect(Collectors.toList());
+    assertEquals(3000, results.size());
+    assertEquals(LocalDate.of(2018, 1, 2), LocalDate.from(results.get(2999).getPayload()));
+  }
 }
@@ -1,5 +1,6 @@
 package org.gbif.common.parsers.date;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.gbif.api.vocabulary.OccurrenceIssue;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
@@ -16,12 +17,15 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -468,4 +472,13 @@ public class MultiinputTemporalParserTest {
       assertTrue(result.getIssues().contains(expectedIssue));
     }
   }
+
+  @Test
+  public void testSerialization() {
+    MultiinputTemporalParser dmy = MultiinputTemporalParser.create(Arrays.asList(DateComponentOrdering.DMY));
+    MultiinputTemporalParser copy = SerializationUtils.roundtrip(dmy);
+    assertSame(copy, SerializationUtils.roundtrip(MultiinputTemporalParser.create(Arrays.asList(DateComponentOrdering.DMY))));
+    assertNotSame(copy, SerializationUtils.roundtrip(MultiinputTemporalParser.create()));
+    assertEquals(LocalDate.of(2012, 2, 1), copy.parseRecordedDate("01/02/2012").getPayload());
+  }
 }
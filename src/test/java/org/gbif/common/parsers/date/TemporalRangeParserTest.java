@@ -2,6 +2,7 @@ package org.gbif.common.parsers.date;
 
 import org.gbif.api.util.IsoDateInterval;
 import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.apache.commons.lang3.SerializationUtils;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +14,7 @@ import static org.gbif.common.parsers.date.DateComponentOrdering.DMYT;
 import static org.gbif.common.parsers.date.DateComponentOrdering.DMY_FORMATS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("ConstantConditions")
@@ -255,4 +257,17 @@ public class TemporalRangeParserTest {
     assertEquals(1, result.getIssues().size());
     assertEquals(OccurrenceIssue.RECORDED_DATE_MISMATCH, result.getIssues().iterator().next());
   }
+
+  @Test
+  public void testSerialization() {
+    TemporalRangeParser parser =
+        TemporalRangeParser.builder()
+            .temporalParser(MultiinputTemporalParser.create(Arrays.asList(DMY_FORMATS)))
+            .create();
+    TemporalRangeParser copy = SerializationUtils.roundtrip(parser);
+    // deserialised copies share one instance per configuration
+    assertSame(copy, SerializationUtils.roundtrip(parser));
+    assertSame(copy, SerializationUtils.roundtrip(copy));
+    assertEquals("2012-02-01", copy.parse("01/02/2012").getPayload().getFrom().toString());
+  }
 }
@@ -38,6 +38,7 @@ import static org.gbif.common.parsers.date.DateComponentOrdering.YMDT;
 import static org.gbif.common.parsers.date.DateComponentOrdering.YMDTZ;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -71,6 +72,24 @@ public class TextDateParserTest {
     assertTrue(!parseResult.isSuccessful());
   }
 
+  @Test
+  public void testParseInto() {
+    String[] inputs = {"2nd jan. 2018", "2nd jan. 2018", " ", null, "02/01/2018", "2nd jan. 2018"};
+    @SuppressWarnings("unchecked")
+    ParseResult<TemporalAccessor>[] results = new ParseResult[inputs.length];
+    TEXTDATE_PARSER.parseInto(inputs, results);
+    assertEquals(LocalDate.of(2018, Month.JANUARY, 2), LocalDate.from(results[0].getPayload()));
+    assertSame(results[0], results[1]);
+    assertSame(results[0], results[5]);
+    assertFalse(results[2].isSuccessful());
+    assertFalse(results[3].isSuccessful());
+    assertFalse(results[4].isSuccessful());
+
+    TEXTDATE_PARSER.parseInto(inputs, new DateComponentOrdering[] {DMY}, results);
+    assertEquals(LocalDate.of(2018, Month.JANUARY, 2), LocalDate.from(results[4].getPayload()));
+    assertEquals(LocalDate.of(2018, Month.JANUARY, 2), LocalDate.from(results[0].getPayload()));
+  }
+
   @Test
   public void testTextDateTimeParsing(){
     ParseResult<TemporalAccessor> parseResult = TEXTDATE_PARSER.parse("1978-1-1T00:00");
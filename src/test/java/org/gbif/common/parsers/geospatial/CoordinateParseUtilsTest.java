@@ -17,17 +17,65 @@ import org.gbif.api.vocabulary.OccurrenceIssue;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.gbif.common.parsers.core.ParseResult;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class CoordinateParseUtilsTest {
 
+  @Test
+  public void testParallelParseLatLng() {
+    List<String> lats = new ArrayList<>();
+    List<String> lngs = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      lats.add(Integer.toString(i % 90));
+      lngs.add("10");
+    }
+    List<LatLng> results = CoordinateParseUtils.parallelParseLatLng(lats, lngs, true).map(ParseResult::getPayload)
+      .collect(Collectors.toList());
+    assertEquals(2500, results.size());
+    assertEquals(new LatLng(2499 % 90, 10), results.get(2499));
+    assertThrows(IllegalArgumentException.class,
+      () -> CoordinateParseUtils.parallelParseLatLng(Arrays.asList("1"), Collections.emptyList(), true));
+  }
+
+  @Test
+  public void testParseLatLngAll() {
+    List<OccurrenceParseResult<LatLng>> results = CoordinateParseUtils.parseLatLngAll(
+      Arrays.asList("10.3", "0", "10.3", "tim", null),
+      Arrays.asList("99.99", "0", "99.99", "tom", "1"));
+    assertEquals(5, results.size());
+    assertExpected(results.get(0), new LatLng(10.3, 99.99), ParseResult.CONFIDENCE.DEFINITE);
+    assertExpected(results.get(1), new LatLng(0, 0), ParseResult.CONFIDENCE.POSSIBLE, OccurrenceIssue.ZERO_COORDINATE);
+    assertExpected(results.get(2), new LatLng(10.3, 99.99), ParseResult.CONFIDENCE.DEFINITE);
+    assertFailedWithIssues(results.get(3), OccurrenceIssue.COORDINATE_INVALID);
+    assertFailed(results.get(4));
+    // repeated pairs get their own copy of the result
+    assertNotSame(results.get(0), results.get(2));
+    results.get(2).addIssue(OccurrenceIssue.COORDINATE_ROUNDED);
+    assertTrue(results.get(0).getIssues().isEmpty());
+
+    List<OccurrenceParseResult<LatLng>> verbatim = CoordinateParseUtils.parseVerbatimCoordinatesAll(
+      Arrays.asList("02° 49' 52\" N 131° 47' 03\" E", "", "02° 49' 52\" N 131° 47' 03\" E"));
+    assertExpected(verbatim.get(0), new LatLng(2.831111d, 131.784167d), ParseResult.CONFIDENCE.DEFINITE);
+    assertFailed(verbatim.get(1));
+    assertExpected(verbatim.get(2), new LatLng(2.831111d, 131.784167d), ParseResult.CONFIDENCE.DEFINITE);
+    assertThrows(IllegalArgumentException.class,
+      () -> CoordinateParseUtils.parseLatLngAll(Arrays.asList("1"), Arrays.asList("1", "2")));
+  }
+
   @Test
   public void testParseLatLng() {
     assertExpected(CoordinateParseUtils.parseLatLng("-46,33", "51,8717"), new LatLng(-46.33, 51.8717), ParseResult.CONFIDENCE.DEFINITE);
@@ -64,6 +112,34 @@ public class CoordinateParseUtilsTest {
     assertFailedWithIssues(CoordinateParseUtils.parseLatLng("20,432,12", "13,4"), OccurrenceIssue.COORDINATE_INVALID);
   }
 
+  @Test
+  public void testParseLatLngValue() {
+    LatLngParseResult result = CoordinateParseUtils.parseLatLngValue("2.123450678", "-8.123450678");
+    assertTrue(result.isSuccessful());
+    assertEquals(ParseResult.CONFIDENCE.DEFINITE, result.getConfidence());
+    assertEquals(2.123451, result.getLat(), 0.0);
+    assertEquals(-8.123451, result.getLng(), 0.0);
+    assertTrue(result.hasIssue(OccurrenceIssue.COORDINATE_ROUNDED));
+
+    result = CoordinateParseUtils.parseLatLngValue("100", "40");
+    assertEquals(ParseResult.CONFIDENCE.PROBABLE, result.getConfidence());
+    assertEquals(40, result.getLat(), 0.0);
+    assertEquals(100, result.getLng(), 0.0);
+
+    result = CoordinateParseUtils.parseLatLngValue("tim", "tom");
+    assertFalse(result.isSuccessful());
+    assertTrue(Double.isNaN(result.getLat()));
+    assertEquals(OccurrenceParseResult.issueBit(OccurrenceIssue.COORDINATE_INVALID), result.getIssueMask());
+    assertEquals(0, CoordinateParseUtils.parseLatLngValue("", "30").getIssueMask());
+    // a literal NaN parses as a number, as it did before
+    assertFalse(CoordinateParseUtils.parseLatLngValue("NaN", "30").hasIssue(OccurrenceIssue.COORDINATE_INVALID));
+
+    result = CoordinateParseUtils.parseVerbatimCoordinatesValue("02° 49' 52\" N 131° 47' 03\" E");
+    assertEquals(2.831111d, result.getLat(), 0.0);
+    assertEquals(131.784167d, result.getLng(), 0.0);
+    assertEquals(new LatLng(2.831111d, 131.784167d), result.toOccurrenceParseResult().getPayload());
+  }
+
   @Test
   public void testParseDMS() {
     assertDMS("2°49'N", "131°47'E", 2.816667d, 131.783333d);
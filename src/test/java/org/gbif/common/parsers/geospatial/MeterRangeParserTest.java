@@ -14,6 +14,7 @@
 package org.gbif.common.parsers.geospatial;
 
 import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.gbif.common.parsers.core.DoubleParseResult;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.gbif.common.parsers.core.ParseResult;
 
@@ -209,6 +210,34 @@ public class MeterRangeParserTest {
         OccurrenceIssue.DEPTH_NON_NUMERIC);
   }
 
+  @Test
+  public void testPrimitives() {
+    DoubleParseResult elevation = MeterRangeParser.parseElevationValue("10.0", "12.5", "1");
+    assertTrue(elevation.isSuccessful());
+    assertEquals(11.25d, elevation.getValue(), 0.0);
+    assertEquals(2.25d, elevation.getAccuracy(), 0.0);
+    assertEquals(0, elevation.getIssueMask());
+
+    elevation = MeterRangeParser.parseElevationValue("3280ft", null, null);
+    assertEquals(999.74, elevation.getValue(), 0.0);
+    assertFalse(elevation.hasAccuracy());
+    assertTrue(elevation.hasIssue(OccurrenceIssue.ELEVATION_NOT_METRIC));
+    assertTrue(elevation.hasIssue(OccurrenceIssue.ELEVATION_NON_NUMERIC));
+
+    elevation = MeterRangeParser.parseElevationValue("-1000", null, "1");
+    assertFalse(elevation.isSuccessful());
+    assertTrue(Double.isNaN(elevation.getValue()));
+    assertTrue(elevation.hasIssue(OccurrenceIssue.ELEVATION_UNLIKELY));
+
+    DoubleParseResult depth = MeterRangeParser.parseDepthValue("-100", "-50", null);
+    assertEquals(75d, depth.getValue(), 0.0);
+    assertEquals(25d, depth.getAccuracy(), 0.0);
+    assertTrue(depth.hasIssue(OccurrenceIssue.DEPTH_UNLIKELY));
+
+    assertEquals(0.76, MeterRangeParser.parseMetersValue("30 inches").getValue(), 0.0);
+    assertFalse(MeterRangeParser.parseMetersValue("Somewhere between (1-2m) or (3-6ft)").isSuccessful());
+  }
+
   private void assertResult(
       OccurrenceParseResult<?> pr,
       boolean success,